@@ -0,0 +1,128 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * CalculatorOperations.java - This class forwards the benchmark operations to the calculator classes in the default package.
+ */
+
+import netip.bench.Operations;
+
+public class CalculatorOperations implements Operations {
+
+    // Parsing and validation --------------------------------------------------
+    @Override
+    public long parseIPv4(String ip) {
+        return IPParser.parseIPv4(ip);
+    }
+
+    @Override
+    public int parseIPv6(String ip, long[] halves) {
+        return IPParser.parseIPv6(ip, halves);
+    }
+
+    @Override
+    public boolean validateIPv4(String ip) {
+        return IPValidator.validateIPv4Address(ip);
+    }
+
+    @Override
+    public boolean validateIPv6(String ip) {
+        return IPValidator.validateIPv6Address(ip);
+    }
+
+    @Override
+    public int subnetMaskToPrefixLength(String subnetMask) {
+        return IPv4Info.subnetMaskToPrefixLength(subnetMask);
+    }
+
+    // IPv4 calculations ---------------------------------------------------------
+    @Override
+    public Object newIPv4Info(String ip, int prefix) {
+        return new IPv4Info(ip, prefix);
+    }
+
+    @Override
+    public String networkAddress(Object ipv4Info) {
+        return ((IPv4Info) ipv4Info).calculateNetworkAddress();
+    }
+
+    @Override
+    public String broadcastAddress(Object ipv4Info) {
+        return ((IPv4Info) ipv4Info).calculateBroadcastAddress();
+    }
+
+    @Override
+    public String usableHostRange(Object ipv4Info) {
+        return ((IPv4Info) ipv4Info).calculateUsableHostIPRange();
+    }
+
+    @Override
+    public String wildcardMask(Object ipv4Info) {
+        return ((IPv4Info) ipv4Info).calculateWildcardMask();
+    }
+
+    @Override
+    public String binarySubnetMask(Object ipv4Info) {
+        return ((IPv4Info) ipv4Info).calculateBinarySubnetMask();
+    }
+
+    @Override
+    public String ipClass(Object ipv4Info) {
+        return ((IPv4Info) ipv4Info).calculateIPClass();
+    }
+
+    @Override
+    public boolean isPrivate(Object ipv4Info) {
+        return ((IPv4Info) ipv4Info).isPrivate();
+    }
+
+    @Override
+    public String formatIPv4(Object ipv4Info) {
+        return OutputFormatter.formatIPv4Output((IPv4Info) ipv4Info);
+    }
+
+    // IPv6 calculations ---------------------------------------------------------
+    @Override
+    public Object newIPv6Info(String ip, int prefix) {
+        return new IPv6Info(ip, prefix);
+    }
+
+    @Override
+    public String network(Object ipv6Info) {
+        return ((IPv6Info) ipv6Info).calculateNetwork();
+    }
+
+    @Override
+    public String range(Object ipv6Info) {
+        return ((IPv6Info) ipv6Info).calculateRange();
+    }
+
+    @Override
+    public String fullAddress(Object ipv6Info) {
+        return ((IPv6Info) ipv6Info).calculateFullIPAddress();
+    }
+
+    @Override
+    public Object totalIPs(Object ipv6Info) {
+        return ((IPv6Info) ipv6Info).calculateTotalIPs();
+    }
+
+    @Override
+    public String formatIPv6(Object ipv6Info) {
+        return OutputFormatter.formatIPv6Output((IPv6Info) ipv6Info);
+    }
+
+    // Longest-prefix match ------------------------------------------------------
+    @Override
+    public Object buildIPv4PrefixTable(int[] addresses, int[] prefixes) {
+        PrefixTable.Builder builder = PrefixTable.ipv4Builder();
+        for (int i = 0; i < addresses.length; i++) {
+            builder.add(addresses[i], prefixes[i], i);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public int lookup(Object prefixTable, int address) {
+        return ((PrefixTable) prefixTable).lookup(address);
+    }
+}
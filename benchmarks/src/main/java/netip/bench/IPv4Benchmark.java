@@ -0,0 +1,100 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * IPv4Benchmark.java - This benchmark measures the IPv4Info calculations and OutputFormatter.formatIPv4Output over edge and common prefixes.
+ */
+package netip.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IPv4Benchmark {
+    private Operations ops;
+    private String[] addresses;
+    private int[] prefixes;
+    private Object[] infos; // Prebuilt so the field benchmarks do not pay for construction
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        ops = Operations.load();
+        addresses = Inputs.validIPv4(4);
+        prefixes = Inputs.prefixes(Inputs.IPV4_PREFIXES, 5);
+        infos = new Object[Inputs.SIZE];
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            infos[i] = ops.newIPv4Info(addresses[i], prefixes[i]);
+        }
+    }
+
+    private int next() {
+        return cursor++ & Inputs.MASK;
+    }
+
+    @Benchmark
+    public Object construct() {
+        int i = next();
+        return ops.newIPv4Info(addresses[i], prefixes[i]);
+    }
+
+    @Benchmark
+    public String networkAddress() {
+        return ops.networkAddress(infos[next()]);
+    }
+
+    @Benchmark
+    public String broadcastAddress() {
+        return ops.broadcastAddress(infos[next()]);
+    }
+
+    @Benchmark
+    public String usableHostRange() {
+        return ops.usableHostRange(infos[next()]);
+    }
+
+    @Benchmark
+    public String wildcardMask() {
+        return ops.wildcardMask(infos[next()]);
+    }
+
+    @Benchmark
+    public String binarySubnetMask() {
+        return ops.binarySubnetMask(infos[next()]);
+    }
+
+    @Benchmark
+    public String ipClass() {
+        return ops.ipClass(infos[next()]);
+    }
+
+    @Benchmark
+    public boolean isPrivate() {
+        return ops.isPrivate(infos[next()]);
+    }
+
+    @Benchmark
+    public String format() {
+        return ops.formatIPv4(infos[next()]);
+    }
+
+    @Benchmark
+    public String constructAndFormat() { // The path the UI takes for every calculation
+        int i = next();
+        return ops.formatIPv4(ops.newIPv4Info(addresses[i], prefixes[i]));
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * IPv6Benchmark.java - This benchmark measures the IPv6Info calculations and OutputFormatter.formatIPv6Output over edge and common prefixes.
+ */
+package netip.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IPv6Benchmark {
+    private Operations ops;
+    private String[] addresses;
+    private int[] prefixes;
+    private Object[] infos; // Prebuilt so the field benchmarks do not pay for construction
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        ops = Operations.load();
+        addresses = Inputs.validIPv6(6);
+        prefixes = Inputs.prefixes(Inputs.IPV6_PREFIXES, 7);
+        infos = new Object[Inputs.SIZE];
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            infos[i] = ops.newIPv6Info(addresses[i], prefixes[i]);
+        }
+    }
+
+    private int next() {
+        return cursor++ & Inputs.MASK;
+    }
+
+    @Benchmark
+    public Object construct() {
+        int i = next();
+        return ops.newIPv6Info(addresses[i], prefixes[i]);
+    }
+
+    @Benchmark
+    public String network() {
+        return ops.network(infos[next()]);
+    }
+
+    @Benchmark
+    public String range() {
+        return ops.range(infos[next()]);
+    }
+
+    @Benchmark
+    public String fullAddress() {
+        return ops.fullAddress(infos[next()]);
+    }
+
+    @Benchmark
+    public Object totalIPs() {
+        return ops.totalIPs(infos[next()]);
+    }
+
+    @Benchmark
+    public String format() {
+        return ops.formatIPv6(infos[next()]);
+    }
+
+    @Benchmark
+    public String constructAndFormat() { // The path the UI takes for every calculation
+        int i = next();
+        return ops.formatIPv6(ops.newIPv6Info(addresses[i], prefixes[i]));
+    }
+}
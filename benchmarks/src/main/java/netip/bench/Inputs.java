@@ -0,0 +1,131 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * Inputs.java - This class generates the reproducible input mixes used by the benchmarks.
+ */
+package netip.bench;
+
+import java.util.Random;
+
+final class Inputs {
+    static final int SIZE = 1024; // Power of two so the benchmarks can wrap with a mask
+    static final int MASK = SIZE - 1;
+
+    static final int[] IPV4_PREFIXES = {0, 1, 8, 16, 24, 25, 26, 27, 28, 29, 30, 31, 32};
+    static final int[] IPV6_PREFIXES = {0, 1, 32, 48, 56, 64, 96, 112, 127, 128};
+
+    private Inputs() {
+    }
+
+    // Valid dotted quads only
+    static String[] validIPv4(long seed) {
+        Random random = new Random(seed);
+        String[] result = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = ipv4(random);
+        }
+        return result;
+    }
+
+    // Roughly 80% valid, the rest malformed in the ways log data usually is
+    static String[] mixedIPv4(long seed) {
+        Random random = new Random(seed);
+        String[] result = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            switch (random.nextInt(10)) {
+                case 0:
+                    result[i] = random.nextInt(256) + "." + random.nextInt(256) + "." + (256 + random.nextInt(700)) + "." + random.nextInt(256); // Octet out of range
+                    break;
+                case 1:
+                    int pick = random.nextInt(4);
+                    result[i] = pick == 0 ? "10.0.0" : pick == 1 ? "192.168.01.1" : pick == 2 ? "host.example" : ""; // Too short, leading zero, name, empty
+                    break;
+                default:
+                    result[i] = ipv4(random);
+            }
+        }
+        return result;
+    }
+
+    // Full, compressed, embedded IPv4, zone IDs and malformed addresses
+    static String[] mixedIPv6(long seed) {
+        Random random = new Random(seed);
+        String[] result = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            long hi = random.nextLong();
+            long lo = random.nextLong();
+            switch (random.nextInt(10)) {
+                case 0:
+                case 1:
+                case 2:
+                    result[i] = full(hi, lo);
+                    break;
+                case 3:
+                case 4:
+                case 5:
+                    result[i] = Long.toHexString(hi >>> 48) + ":" + Long.toHexString((hi >>> 32) & 0xFFFF) + "::" + Long.toHexString(lo & 0xFFFF); // Compressed
+                    break;
+                case 6:
+                    result[i] = "::ffff:" + ipv4(random); // IPv4-mapped
+                    break;
+                case 7:
+                    result[i] = "fe80::" + Long.toHexString(lo & 0xFFFF) + "%eth0"; // Link-local with zone ID
+                    break;
+                case 8:
+                    result[i] = "2001:db8::" + Long.toHexString(lo & 0xFFFF) + "::1"; // Two "::"
+                    break;
+                default:
+                    result[i] = full(hi, lo) + ":1"; // Nine groups
+            }
+        }
+        return result;
+    }
+
+    // Valid IPv6 addresses that the calculator accepts
+    static String[] validIPv6(long seed) {
+        Random random = new Random(seed);
+        String[] result = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            long hi = random.nextLong();
+            long lo = random.nextLong();
+            result[i] = random.nextBoolean() ? full(hi, lo) : Long.toHexString(hi >>> 48) + "::" + Long.toHexString(lo & 0xFFFF);
+        }
+        return result;
+    }
+
+    static String[] subnetMasks(long seed) {
+        Random random = new Random(seed);
+        String[] result = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int prefix = IPV4_PREFIXES[random.nextInt(IPV4_PREFIXES.length)];
+            int mask = prefix == 0 ? 0 : -1 << (32 - prefix);
+            result[i] = (mask >>> 24) + "." + ((mask >>> 16) & 0xFF) + "." + ((mask >>> 8) & 0xFF) + "." + (mask & 0xFF);
+        }
+        return result;
+    }
+
+    static int[] prefixes(int[] choices, long seed) {
+        Random random = new Random(seed);
+        int[] result = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = choices[random.nextInt(choices.length)];
+        }
+        return result;
+    }
+
+    private static String ipv4(Random random) {
+        return random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256);
+    }
+
+    private static String full(long hi, long lo) {
+        StringBuilder sb = new StringBuilder(39);
+        for (int g = 0; g < 8; g++) {
+            if (g > 0) {
+                sb.append(':');
+            }
+            long half = g < 4 ? hi : lo;
+            sb.append(Long.toHexString((half >>> (48 - 16 * (g & 3))) & 0xFFFF));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * Operations.java - This interface lists the calculator operations that the benchmarks measure.
+ * JMH refuses benchmark classes in the default package, and classes in a named package cannot see the calculator,
+ * so CalculatorOperations in the default package implements this interface and the benchmarks call through it.
+ */
+package netip.bench;
+
+public interface Operations {
+
+    // Parsing and validation --------------------------------------------------
+    long parseIPv4(String ip);
+
+    int parseIPv6(String ip, long[] halves);
+
+    boolean validateIPv4(String ip);
+
+    boolean validateIPv6(String ip);
+
+    int subnetMaskToPrefixLength(String subnetMask);
+
+    // IPv4 calculations, the info object is an IPv4Info ------------------------
+    Object newIPv4Info(String ip, int prefix);
+
+    String networkAddress(Object ipv4Info);
+
+    String broadcastAddress(Object ipv4Info);
+
+    String usableHostRange(Object ipv4Info);
+
+    String wildcardMask(Object ipv4Info);
+
+    String binarySubnetMask(Object ipv4Info);
+
+    String ipClass(Object ipv4Info);
+
+    boolean isPrivate(Object ipv4Info);
+
+    String formatIPv4(Object ipv4Info);
+
+    // IPv6 calculations, the info object is an IPv6Info ------------------------
+    Object newIPv6Info(String ip, int prefix);
+
+    String network(Object ipv6Info);
+
+    String range(Object ipv6Info);
+
+    String fullAddress(Object ipv6Info);
+
+    Object totalIPs(Object ipv6Info);
+
+    String formatIPv6(Object ipv6Info);
+
+    // Longest-prefix match, the table object is a PrefixTable ------------------
+    Object buildIPv4PrefixTable(int[] addresses, int[] prefixes);
+
+    int lookup(Object prefixTable, int address);
+
+    // Look up the implementation in the default package
+    static Operations load() {
+        try {
+            return (Operations) Class.forName("CalculatorOperations").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("CalculatorOperations is missing from the classpath", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * ParseBenchmark.java - This benchmark measures parsing and validation of IPv4 and IPv6 addresses and subnet masks.
+ */
+package netip.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseBenchmark {
+    private Operations ops;
+    private String[] ipv4;
+    private String[] ipv6;
+    private String[] masks;
+    private final long[] halves = new long[2];
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        ops = Operations.load();
+        ipv4 = Inputs.mixedIPv4(1);
+        ipv6 = Inputs.mixedIPv6(2);
+        masks = Inputs.subnetMasks(3);
+    }
+
+    private int next() {
+        return cursor++ & Inputs.MASK;
+    }
+
+    @Benchmark
+    public long parseIPv4() {
+        return ops.parseIPv4(ipv4[next()]);
+    }
+
+    @Benchmark
+    public boolean validateIPv4() {
+        return ops.validateIPv4(ipv4[next()]);
+    }
+
+    @Benchmark
+    public int parseIPv6() {
+        return ops.parseIPv6(ipv6[next()], halves);
+    }
+
+    @Benchmark
+    public boolean validateIPv6() {
+        return ops.validateIPv6(ipv6[next()]);
+    }
+
+    @Benchmark
+    public int subnetMaskToPrefixLength() {
+        return ops.subnetMaskToPrefixLength(masks[next()]);
+    }
+}
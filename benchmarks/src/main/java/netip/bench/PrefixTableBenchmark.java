@@ -0,0 +1,64 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * PrefixTableBenchmark.java - This benchmark measures longest-prefix-match lookups in a PrefixTable loaded with a routing-table sized prefix mix.
+ */
+package netip.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrefixTableBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int prefixCount;
+
+    private Operations ops;
+    private Object table;
+    private int[] queries;
+
+    @Setup
+    public void setup() {
+        ops = Operations.load();
+        Random random = new Random(8);
+        int[] addresses = new int[prefixCount];
+        int[] prefixes = new int[prefixCount];
+        for (int i = 0; i < prefixCount; i++) {
+            int prefix = random.nextInt(10) < 6 ? 24 : 8 + random.nextInt(17); // Routing tables are dominated by /24s
+            addresses[i] = random.nextInt() & (-1 << (32 - prefix));
+            prefixes[i] = prefix;
+        }
+        table = ops.buildIPv4PrefixTable(addresses, prefixes);
+        queries = new int[Inputs.SIZE];
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            queries[i] = random.nextBoolean() ? addresses[random.nextInt(prefixCount)] | random.nextInt(256) : random.nextInt();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public int lookup(Cursor cursor) { // Shared table, run with -t to measure concurrent readers
+        return ops.lookup(table, queries[cursor.next++ & Inputs.MASK]);
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * StartupBenchmark.java - This program measures the wall time of one NetIPCli call the way a shell script sees it, from process start to exit.
+ * JMH measures inside a warmed-up JVM, so this is a plain main that launches fresh processes: the plain JVM, the JVM with an AppCDS archive
+ * (created on the first run), the same with C1 only and the serial collector, and a native image when its path is given.
+ * Usage: java -cp benchmarks/target/benchmarks.jar netip.bench.StartupBenchmark path/to/netip.jar [path/to/native-binary] [--runs N]
+ */
+package netip.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class StartupBenchmark {
+    private static final String[] CALCULATION = {"NetIPCli", "192.168.10.77/26"};
+    private static final int WARMUP_RUNS = 5; // Fills the page cache, the first launches are always slower
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String jar = null;
+        String nativeBinary = null;
+        int runs = 40;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--runs") && i + 1 < args.length) {
+                runs = Integer.parseInt(args[++i]);
+            } else if (jar == null) {
+                jar = args[i];
+            } else {
+                nativeBinary = args[i];
+            }
+        }
+        if (jar == null) {
+            System.err.println("Usage: java -cp benchmarks/target/benchmarks.jar netip.bench.StartupBenchmark NETIP_JAR [NATIVE_BINARY] [--runs N]");
+            System.exit(2);
+        }
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Path archive = Files.createTempFile("netip-cli", ".jsa");
+        try {
+            // The archive is dumped at exit of a training run and lists every class that run loaded
+            run(command(java, "-XX:ArchiveClassesAtExit=" + archive, "-cp", jar));
+            System.out.printf("%-28s %8s %8s %8s %8s%n", "startup (ms)", "min", "median", "p90", "mean");
+            measure("jvm", command(java, "-cp", jar), runs);
+            measure("jvm + AppCDS", command(java, "-XX:SharedArchiveFile=" + archive, "-Xshare:auto", "-cp", jar), runs);
+            measure("jvm + AppCDS + C1 + serial", command(java, "-XX:SharedArchiveFile=" + archive, "-Xshare:auto",
+                    "-XX:TieredStopAtLevel=1", "-XX:+UseSerialGC", "-cp", jar), runs);
+            if (nativeBinary != null) {
+                List<String> command = new ArrayList<>();
+                command.add(new File(nativeBinary).getAbsolutePath());
+                command.addAll(Arrays.asList(CALCULATION).subList(1, CALCULATION.length));
+                measure("native image", command, runs);
+            }
+        } finally {
+            Files.deleteIfExists(archive);
+        }
+    }
+
+    private static List<String> command(String... jvmArgs) {
+        List<String> command = new ArrayList<>(Arrays.asList(jvmArgs));
+        command.addAll(Arrays.asList(CALCULATION));
+        return command;
+    }
+
+    private static void measure(String name, List<String> command, int runs) throws IOException, InterruptedException {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run(command);
+        }
+        long[] nanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            nanos[i] = run(command);
+        }
+        Arrays.sort(nanos);
+        double mean = Arrays.stream(nanos).average().orElse(0);
+        System.out.printf("%-28s %8.1f %8.1f %8.1f %8.1f%n", name, nanos[0] / 1e6, nanos[runs / 2] / 1e6,
+                nanos[Math.min(runs - 1, runs * 9 / 10)] / 1e6, mean / 1e6);
+    }
+
+    private static long run(List<String> command) throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        int status = process.waitFor();
+        long elapsed = System.nanoTime() - started;
+        if (status != 0) {
+            throw new IllegalStateException("Exit status " + status + " from " + String.join(" ", command));
+        }
+        return elapsed;
+    }
+}
@@ -0,0 +1,269 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * AddressClassifier.java - This class tags packed IPv4 and IPv6 addresses with their IANA special-purpose category (private, shared, loopback,
+ * link-local, multicast, documentation, unique local and so on) and IPv4 addresses with their class, a whole array at a time.
+ * The registries are flattened once into sorted, non-overlapping ranges padded to a power of two, so every lookup is a binary search
+ * with the same number of steps and no data-dependent branches: each step is a compare and a conditional add that the JIT turns into a cmov.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+public final class AddressClassifier {
+
+    // Categories, stored in the result arrays as their ordinal ------------------------------
+    public enum Category {
+        PUBLIC("Public"),
+        PRIVATE("Private"), // RFC 1918
+        SHARED("Shared address space"), // RFC 6598, carrier-grade NAT
+        LOOPBACK("Loopback"),
+        LINK_LOCAL("Link-local"),
+        MULTICAST("Multicast"),
+        DOCUMENTATION("Documentation"),
+        BENCHMARKING("Benchmarking"),
+        UNSPECIFIED("Unspecified"),
+        THIS_NETWORK("This network"),
+        BROADCAST("Limited broadcast"),
+        RESERVED("Reserved"),
+        PROTOCOL("Protocol assignment"), // IETF protocol assignments and protocol anycast such as AS112 and AMT
+        TRANSITION("IPv4/IPv6 transition"), // IPv4-mapped, NAT64, 6to4 and Teredo
+        DISCARD("Discard-only"),
+        UNIQUE_LOCAL("Unique local"); // RFC 4193
+
+        private static final Category[] VALUES = values();
+
+        private final String label;
+
+        Category(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public static Category of(byte code) {
+            return VALUES[code];
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    // IANA IPv4 and IPv6 Special-Purpose Address Registries, plus the multicast blocks. Nested blocks are listed
+    // after the blocks that contain them, the most specific block decides the category of an address.
+    private static final String[] IPV4_REGISTRY = {
+            "0.0.0.0/8", "THIS_NETWORK",
+            "0.0.0.0/32", "UNSPECIFIED",
+            "10.0.0.0/8", "PRIVATE",
+            "100.64.0.0/10", "SHARED",
+            "127.0.0.0/8", "LOOPBACK",
+            "169.254.0.0/16", "LINK_LOCAL",
+            "172.16.0.0/12", "PRIVATE",
+            "192.0.0.0/24", "PROTOCOL",
+            "192.0.2.0/24", "DOCUMENTATION", // TEST-NET-1
+            "192.31.196.0/24", "PROTOCOL", // AS112-v4
+            "192.52.193.0/24", "PROTOCOL", // AMT
+            "192.88.99.0/24", "TRANSITION", // Deprecated 6to4 relay anycast
+            "192.168.0.0/16", "PRIVATE",
+            "192.175.48.0/24", "PROTOCOL", // Direct delegation AS112
+            "198.18.0.0/15", "BENCHMARKING",
+            "198.51.100.0/24", "DOCUMENTATION", // TEST-NET-2
+            "203.0.113.0/24", "DOCUMENTATION", // TEST-NET-3
+            "224.0.0.0/4", "MULTICAST",
+            "233.252.0.0/24", "DOCUMENTATION", // MCAST-TEST-NET
+            "240.0.0.0/4", "RESERVED",
+            "255.255.255.255/32", "BROADCAST",
+    };
+
+    private static final String[] IPV6_REGISTRY = {
+            "::/128", "UNSPECIFIED",
+            "::1/128", "LOOPBACK",
+            "::ffff:0:0/96", "TRANSITION", // IPv4-mapped
+            "64:ff9b::/96", "TRANSITION", // NAT64 well-known prefix
+            "64:ff9b:1::/48", "TRANSITION", // Local-use IPv4/IPv6 translation
+            "100::/64", "DISCARD",
+            "2001::/23", "PROTOCOL",
+            "2001::/32", "TRANSITION", // Teredo
+            "2001:2::/48", "BENCHMARKING",
+            "2001:db8::/32", "DOCUMENTATION",
+            "2002::/16", "TRANSITION", // 6to4
+            "2620:4f:8000::/48", "PROTOCOL", // Direct delegation AS112
+            "3fff::/20", "DOCUMENTATION",
+            "5f00::/16", "PROTOCOL", // SRv6 SIDs
+            "fc00::/7", "UNIQUE_LOCAL",
+            "fe80::/10", "LINK_LOCAL",
+            "ff00::/8", "MULTICAST",
+    };
+
+    // Flattened tables. Range i covers the addresses from starts[i] up to the next start; starts are biased so that
+    // signed comparisons follow address order. The padding repeats the last range, which covers the top address.
+    private static final int[] IPV4_STARTS;
+    private static final byte[] IPV4_CODES;
+    private static final long[] IPV6_STARTS_HIGH;
+    private static final long[] IPV6_STARTS_LOW;
+    private static final byte[] IPV6_CODES;
+    private static final byte[] CLASSES = new byte[16]; // IPv4 class by the top four bits
+
+    static {
+        List<BigInteger[]> ipv4 = flatten(IPV4_REGISTRY, 32);
+        int size = Integer.highestOneBit(ipv4.size() * 2 - 1);
+        IPV4_STARTS = new int[size];
+        IPV4_CODES = new byte[size];
+        for (int i = 0; i < size; i++) {
+            BigInteger[] range = ipv4.get(Math.min(i, ipv4.size() - 1));
+            IPV4_STARTS[i] = i < ipv4.size() ? range[0].intValue() ^ Integer.MIN_VALUE : Integer.MAX_VALUE;
+            IPV4_CODES[i] = range[1].byteValue();
+        }
+        List<BigInteger[]> ipv6 = flatten(IPV6_REGISTRY, 128);
+        size = Integer.highestOneBit(ipv6.size() * 2 - 1);
+        IPV6_STARTS_HIGH = new long[size];
+        IPV6_STARTS_LOW = new long[size];
+        IPV6_CODES = new byte[size];
+        for (int i = 0; i < size; i++) {
+            BigInteger[] range = ipv6.get(Math.min(i, ipv6.size() - 1));
+            IPV6_STARTS_HIGH[i] = i < ipv6.size() ? range[0].shiftRight(64).longValue() ^ Long.MIN_VALUE : Long.MAX_VALUE;
+            IPV6_STARTS_LOW[i] = i < ipv6.size() ? range[0].longValue() ^ Long.MIN_VALUE : Long.MAX_VALUE;
+            IPV6_CODES[i] = range[1].byteValue();
+        }
+        for (int i = 0; i < 16; i++) {
+            CLASSES[i] = (byte) IPv4Network.ipClass(i << 28);
+        }
+    }
+
+    private AddressClassifier() {
+    }
+
+    // Batch classification ----------------------------------------------------------------
+    // Fills categories[i] with the Category ordinal of addresses[i] and, when classes is not null, classes[i]
+    // with the IPv4 class letter 'A' to 'E'. The loops have a fixed trip count per address and no early exits.
+    public static void classifyIPv4(int[] addresses, byte[] categories, byte[] classes, int count) {
+        checkCount(count, addresses.length, categories.length);
+        int[] starts = IPV4_STARTS;
+        byte[] codes = IPV4_CODES;
+        int half = starts.length >>> 1;
+        for (int i = 0; i < count; i++) {
+            int key = addresses[i] ^ Integer.MIN_VALUE;
+            int position = 0; // starts[0] is the lowest address, so it is always at or below the key
+            for (int step = half; step > 0; step >>>= 1) {
+                position += starts[position + step] <= key ? step : 0;
+            }
+            categories[i] = codes[position];
+        }
+        if (classes != null) {
+            checkCount(count, classes.length, count);
+            for (int i = 0; i < count; i++) {
+                classes[i] = CLASSES[addresses[i] >>> 28];
+            }
+        }
+    }
+
+    public static void classifyIPv6(long[] high, long[] low, byte[] categories, int count) {
+        checkCount(count, Math.min(high.length, low.length), categories.length);
+        long[] startsHigh = IPV6_STARTS_HIGH;
+        long[] startsLow = IPV6_STARTS_LOW;
+        byte[] codes = IPV6_CODES;
+        int half = startsHigh.length >>> 1;
+        for (int i = 0; i < count; i++) {
+            long keyHigh = high[i] ^ Long.MIN_VALUE;
+            long keyLow = low[i] ^ Long.MIN_VALUE;
+            int position = 0;
+            for (int step = half; step > 0; step >>>= 1) {
+                long startHigh = startsHigh[position + step];
+                boolean atOrBelow = startHigh < keyHigh | (startHigh == keyHigh & startsLow[position + step] <= keyLow); // Non-short-circuit, no branch
+                position += atOrBelow ? step : 0;
+            }
+            categories[i] = codes[position];
+        }
+    }
+
+    // Single addresses ----------------------------------------------------------------------
+    public static Category ipv4Category(int address) {
+        int key = address ^ Integer.MIN_VALUE;
+        int position = 0;
+        for (int step = IPV4_STARTS.length >>> 1; step > 0; step >>>= 1) {
+            position += IPV4_STARTS[position + step] <= key ? step : 0;
+        }
+        return Category.of(IPV4_CODES[position]);
+    }
+
+    public static Category ipv6Category(long high, long low) {
+        long keyHigh = high ^ Long.MIN_VALUE;
+        long keyLow = low ^ Long.MIN_VALUE;
+        int position = 0;
+        for (int step = IPV6_STARTS_HIGH.length >>> 1; step > 0; step >>>= 1) {
+            long startHigh = IPV6_STARTS_HIGH[position + step];
+            position += startHigh < keyHigh | (startHigh == keyHigh & IPV6_STARTS_LOW[position + step] <= keyLow) ? step : 0;
+        }
+        return Category.of(IPV6_CODES[position]);
+    }
+
+    public static Category category(CharSequence address) { // IPv4 or IPv6 text, null if it is neither
+        long packed = IPParser.parseIPv4(address);
+        if (packed >= 0) {
+            return ipv4Category((int) packed);
+        }
+        long[] halves = new long[2];
+        return IPParser.parseIPv6(address, halves) == IPParser.OK ? ipv6Category(halves[0], halves[1]) : null;
+    }
+
+    // Helpers ---------------------------------------------------------------------------------
+    private static void checkCount(int count, int inputLength, int outputLength) {
+        if (count < 0 || count > inputLength || count > outputLength) {
+            throw new IllegalArgumentException("Count " + count + " does not fit arrays of length " + inputLength + " and " + outputLength);
+        }
+    }
+
+    // Splits the address space at every block boundary and gives each piece the category of the most specific
+    // block covering it. Returns {start, category ordinal} pairs in address order with equal neighbours merged.
+    // Runs once at class initialization, so BigInteger keeps it simple for both widths.
+    private static List<BigInteger[]> flatten(String[] registry, int width) {
+        int blocks = registry.length / 2;
+        BigInteger[] firsts = new BigInteger[blocks];
+        BigInteger[] lasts = new BigInteger[blocks];
+        int[] prefixes = new int[blocks];
+        TreeSet<BigInteger> boundaries = new TreeSet<>();
+        boundaries.add(BigInteger.ZERO);
+        for (int b = 0; b < blocks; b++) {
+            String cidr = registry[2 * b];
+            int slash = cidr.indexOf('/');
+            prefixes[b] = IPParser.parsePrefixLength(cidr, slash + 1, cidr.length(), width);
+            BigInteger first;
+            if (width == 32) {
+                first = BigInteger.valueOf(IPParser.parseIPv4(cidr, 0, slash));
+            } else {
+                long[] halves = new long[2];
+                IPParser.parseIPv6(cidr, 0, slash, halves);
+                first = new BigInteger(Long.toUnsignedString(halves[0])).shiftLeft(64).or(new BigInteger(Long.toUnsignedString(halves[1])));
+            }
+            firsts[b] = first;
+            lasts[b] = first.add(BigInteger.ONE.shiftLeft(width - prefixes[b])).subtract(BigInteger.ONE);
+            boundaries.add(first);
+            boundaries.add(lasts[b].add(BigInteger.ONE));
+        }
+        boundaries.remove(BigInteger.ONE.shiftLeft(width)); // One past the top address
+        List<BigInteger[]> ranges = new ArrayList<>();
+        for (BigInteger start : boundaries) {
+            int best = -1;
+            for (int b = 0; b < blocks; b++) {
+                if (firsts[b].compareTo(start) <= 0 && lasts[b].compareTo(start) >= 0 && (best < 0 || prefixes[b] > prefixes[best])) {
+                    best = b;
+                }
+            }
+            int code = best < 0 ? Category.PUBLIC.ordinal() : Category.valueOf(registry[2 * best + 1]).ordinal();
+            if (ranges.isEmpty() || ranges.get(ranges.size() - 1)[1].intValue() != code) {
+                ranges.add(new BigInteger[]{start, BigInteger.valueOf(code)});
+            }
+        }
+        return ranges;
+    }
+}
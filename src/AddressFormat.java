@@ -0,0 +1,280 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * AddressFormat.java - This class writes IPv4 and IPv6 addresses, binary masks and numbers straight into a caller's StringBuilder, CharBuffer or ByteBuffer.
+ * Octets and binary octets come from precomputed tables and hex digits from a digit table, so nothing is allocated per call
+ * and the same buffer can be reused for millions of records. IPv6 can be written in full or compressed per RFC 5952.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class AddressFormat {
+    private static final String[] OCTETS = new String[256]; // "0" to "255"
+    private static final byte[][] OCTET_BYTES = new byte[256][];
+    private static final String[] BINARY_OCTETS = new String[256]; // "00000000" to "11111111"
+    private static final byte[][] BINARY_OCTET_BYTES = new byte[256][];
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final byte[] HEX_DIGIT_BYTES = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DIGIT_BYTES = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            OCTETS[i] = Integer.toString(i);
+            OCTET_BYTES[i] = OCTETS[i].getBytes(StandardCharsets.US_ASCII);
+            StringBuilder bits = new StringBuilder(8);
+            for (int bit = 7; bit >= 0; bit--) {
+                bits.append((char) ('0' + ((i >>> bit) & 1)));
+            }
+            BINARY_OCTETS[i] = bits.toString();
+            BINARY_OCTET_BYTES[i] = BINARY_OCTETS[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private AddressFormat() {
+    }
+
+    // Dotted quad, e.g. 192.168.1.10 ------------------------------------------------------
+    public static StringBuilder appendDottedQuad(StringBuilder sb, int address) {
+        return sb.append(OCTETS[address >>> 24]).append('.')
+                .append(OCTETS[(address >>> 16) & 0xFF]).append('.')
+                .append(OCTETS[(address >>> 8) & 0xFF]).append('.')
+                .append(OCTETS[address & 0xFF]);
+    }
+
+    public static CharBuffer putDottedQuad(CharBuffer buffer, int address) {
+        return buffer.put(OCTETS[address >>> 24]).put('.')
+                .put(OCTETS[(address >>> 16) & 0xFF]).put('.')
+                .put(OCTETS[(address >>> 8) & 0xFF]).put('.')
+                .put(OCTETS[address & 0xFF]);
+    }
+
+    public static ByteBuffer putDottedQuad(ByteBuffer buffer, int address) {
+        return buffer.put(OCTET_BYTES[address >>> 24]).put((byte) '.')
+                .put(OCTET_BYTES[(address >>> 16) & 0xFF]).put((byte) '.')
+                .put(OCTET_BYTES[(address >>> 8) & 0xFF]).put((byte) '.')
+                .put(OCTET_BYTES[address & 0xFF]);
+    }
+
+    // Binary, eight bits per octet separated by dots -------------------------------------
+    public static StringBuilder appendBinary(StringBuilder sb, int address) {
+        return sb.append(BINARY_OCTETS[address >>> 24]).append('.')
+                .append(BINARY_OCTETS[(address >>> 16) & 0xFF]).append('.')
+                .append(BINARY_OCTETS[(address >>> 8) & 0xFF]).append('.')
+                .append(BINARY_OCTETS[address & 0xFF]);
+    }
+
+    public static CharBuffer putBinary(CharBuffer buffer, int address) {
+        return buffer.put(BINARY_OCTETS[address >>> 24]).put('.')
+                .put(BINARY_OCTETS[(address >>> 16) & 0xFF]).put('.')
+                .put(BINARY_OCTETS[(address >>> 8) & 0xFF]).put('.')
+                .put(BINARY_OCTETS[address & 0xFF]);
+    }
+
+    public static ByteBuffer putBinary(ByteBuffer buffer, int address) {
+        return buffer.put(BINARY_OCTET_BYTES[address >>> 24]).put((byte) '.')
+                .put(BINARY_OCTET_BYTES[(address >>> 16) & 0xFF]).put((byte) '.')
+                .put(BINARY_OCTET_BYTES[(address >>> 8) & 0xFF]).put((byte) '.')
+                .put(BINARY_OCTET_BYTES[address & 0xFF]);
+    }
+
+    // IPv6, full form: all eight groups without leading zeros, as InetAddress.getHostAddress prints them ----
+    public static StringBuilder appendIPv6Full(StringBuilder sb, long high, long low) {
+        for (int g = 0; g < 8; g++) {
+            if (g > 0) {
+                sb.append(':');
+            }
+            appendHexGroup(sb, group(high, low, g));
+        }
+        return sb;
+    }
+
+    public static CharBuffer putIPv6Full(CharBuffer buffer, long high, long low) {
+        for (int g = 0; g < 8; g++) {
+            if (g > 0) {
+                buffer.put(':');
+            }
+            putHexGroup(buffer, group(high, low, g));
+        }
+        return buffer;
+    }
+
+    public static ByteBuffer putIPv6Full(ByteBuffer buffer, long high, long low) {
+        for (int g = 0; g < 8; g++) {
+            if (g > 0) {
+                buffer.put((byte) ':');
+            }
+            putHexGroup(buffer, group(high, low, g));
+        }
+        return buffer;
+    }
+
+    // IPv6, RFC 5952 form: lowercase, no leading zeros, the longest run of two or more zero groups
+    // (the first one on a tie) replaced by "::", and IPv4-mapped addresses as ::ffff:a.b.c.d
+    public static StringBuilder appendIPv6(StringBuilder sb, long high, long low) {
+        if (isIPv4Mapped(high, low)) {
+            return appendDottedQuad(sb.append("::ffff:"), (int) low);
+        }
+        int run = zeroRun(high, low);
+        int runStart = run >>> 4;
+        int runEnd = runStart + (run & 0xF);
+        for (int g = 0; g < 8; g++) {
+            if (g == runStart && runEnd > runStart) {
+                sb.append("::");
+                g = runEnd - 1;
+                continue;
+            }
+            if (g > 0 && g != runEnd) {
+                sb.append(':');
+            }
+            appendHexGroup(sb, group(high, low, g));
+        }
+        return sb;
+    }
+
+    public static CharBuffer putIPv6(CharBuffer buffer, long high, long low) {
+        if (isIPv4Mapped(high, low)) {
+            return putDottedQuad(buffer.put("::ffff:"), (int) low);
+        }
+        int run = zeroRun(high, low);
+        int runStart = run >>> 4;
+        int runEnd = runStart + (run & 0xF);
+        for (int g = 0; g < 8; g++) {
+            if (g == runStart && runEnd > runStart) {
+                buffer.put(':').put(':');
+                g = runEnd - 1;
+                continue;
+            }
+            if (g > 0 && g != runEnd) {
+                buffer.put(':');
+            }
+            putHexGroup(buffer, group(high, low, g));
+        }
+        return buffer;
+    }
+
+    public static ByteBuffer putIPv6(ByteBuffer buffer, long high, long low) {
+        if (isIPv4Mapped(high, low)) {
+            buffer.put((byte) ':').put((byte) ':').put((byte) 'f').put((byte) 'f').put((byte) 'f').put((byte) 'f').put((byte) ':');
+            return putDottedQuad(buffer, (int) low);
+        }
+        int run = zeroRun(high, low);
+        int runStart = run >>> 4;
+        int runEnd = runStart + (run & 0xF);
+        for (int g = 0; g < 8; g++) {
+            if (g == runStart && runEnd > runStart) {
+                buffer.put((byte) ':').put((byte) ':');
+                g = runEnd - 1;
+                continue;
+            }
+            if (g > 0 && g != runEnd) {
+                buffer.put((byte) ':');
+            }
+            putHexGroup(buffer, group(high, low, g));
+        }
+        return buffer;
+    }
+
+    // Decimal numbers, StringBuilder.append(long) already works without allocating -----------
+    public static CharBuffer putDecimal(CharBuffer buffer, long value) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                return buffer.put("-9223372036854775808");
+            }
+            buffer.put('-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer.put((char) ('0' + (value / divisor) % 10));
+        }
+        return buffer;
+    }
+
+    public static ByteBuffer putDecimal(ByteBuffer buffer, long value) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                return buffer.put("-9223372036854775808".getBytes(StandardCharsets.US_ASCII));
+            }
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer.put(DIGIT_BYTES[(int) ((value / divisor) % 10)]);
+        }
+        return buffer;
+    }
+
+    // Helpers -----------------------------------------------------------------------------
+    static ByteBuffer putOctet(ByteBuffer buffer, int octet) { // Decimal 0 to 255
+        return buffer.put(OCTET_BYTES[octet]);
+    }
+
+    static int group(long high, long low, int index) { // 16-bit group 0 to 7, from the left
+        long half = index < 4 ? high : low;
+        return (int) (half >>> (48 - 16 * (index & 3))) & 0xFFFF;
+    }
+
+    static boolean isIPv4Mapped(long high, long low) { // ::ffff:0:0/96
+        return high == 0 && (low >>> 32) == 0xFFFFL;
+    }
+
+    // Longest run of at least two zero groups as start << 4 | length, or 0 when there is none
+    static int zeroRun(long high, long low) {
+        int bestStart = 0;
+        int bestLength = 0;
+        int start = -1;
+        for (int g = 0; g <= 8; g++) {
+            if (g < 8 && group(high, low, g) == 0) {
+                if (start < 0) {
+                    start = g;
+                }
+            } else if (start >= 0) {
+                if (g - start > bestLength) {
+                    bestStart = start;
+                    bestLength = g - start;
+                }
+                start = -1;
+            }
+        }
+        return bestLength >= 2 ? bestStart << 4 | bestLength : 0;
+    }
+
+    private static int hexShift(int group) { // Shift of the first digit that is not a leading zero
+        int shift = 12;
+        while (shift > 0 && (group >>> shift) == 0) {
+            shift -= 4;
+        }
+        return shift;
+    }
+
+    static void appendHexGroup(StringBuilder sb, int group) { // Lowercase hex without leading zeros
+        for (int shift = hexShift(group); shift >= 0; shift -= 4) {
+            sb.append(HEX_DIGITS[(group >>> shift) & 0xF]);
+        }
+    }
+
+    private static void putHexGroup(CharBuffer buffer, int group) {
+        for (int shift = hexShift(group); shift >= 0; shift -= 4) {
+            buffer.put(HEX_DIGITS[(group >>> shift) & 0xF]);
+        }
+    }
+
+    static void putHexGroup(ByteBuffer buffer, int group) {
+        for (int shift = hexShift(group); shift >= 0; shift -= 4) {
+            buffer.put(HEX_DIGIT_BYTES[(group >>> shift) & 0xF]);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * CalculatorCache.java - This class is an opt-in cache of IPv4Info/IPv6Info objects and their formatted reports, keyed on the packed address and prefix length.
+ * Repeated queries for the same address/prefix return the objects built the first time instead of recomputing every field.
+ * The calculator objects never change after construction, so one instance can be shared by all threads.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+public final class CalculatorCache {
+    // The tag holds the prefix length and what kind of result is cached, so both kinds share one size limit
+    private static final int IPV4_INFO = 0;
+    private static final int IPV6_INFO = 1 << 8;
+    private static final int IPV4_REPORT = 2 << 8;
+    private static final int IPV6_REPORT = 3 << 8;
+
+    private static final ResultCache.Loader<Object> LOADER = CalculatorCache::load;
+
+    private final ResultCache<Object> cache;
+
+    public CalculatorCache(int maximumSize) {
+        this.cache = new ResultCache<>(maximumSize).registerMetrics("calculator");
+    }
+
+    // IPv4 ---------------------------------------------------------------------------
+    public IPv4Info ipv4(int address, int prefix) {
+        checkPrefix(prefix, 32);
+        return (IPv4Info) cache.computeIfAbsent(0L, address, IPV4_INFO | prefix, LOADER);
+    }
+
+    public IPv4Info ipv4(String ipAddress, int prefix) { // Invalid addresses are calculated as usual but not cached
+        long packed = IPParser.parseIPv4(ipAddress);
+        if (packed < 0 || prefix < 0 || prefix > 32) {
+            return new IPv4Info(ipAddress, prefix);
+        }
+        return ipv4((int) packed, prefix);
+    }
+
+    public String ipv4Report(int address, int prefix) { // OutputFormatter.formatIPv4Output of the cached IPv4Info
+        checkPrefix(prefix, 32);
+        return (String) cache.computeIfAbsent(0L, address, IPV4_REPORT | prefix, LOADER);
+    }
+
+    // IPv6, the cached objects use the full (uncompressed) form of the address as their IP address text ----
+    public IPv6Info ipv6(long high, long low, int prefix) {
+        checkPrefix(prefix, 128);
+        return (IPv6Info) cache.computeIfAbsent(high, low, IPV6_INFO | prefix, LOADER);
+    }
+
+    public String ipv6Report(long high, long low, int prefix) {
+        checkPrefix(prefix, 128);
+        return (String) cache.computeIfAbsent(high, low, IPV6_REPORT | prefix, LOADER);
+    }
+
+    // Statistics ---------------------------------------------------------------------
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public long evictionCount() {
+        return cache.evictionCount();
+    }
+
+    public double hitRate() {
+        return cache.hitRate();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public String toString() {
+        return cache.toString();
+    }
+
+    private static void checkPrefix(int prefix, int max) {
+        if (prefix < 0 || prefix > max) {
+            throw new IllegalArgumentException("Invalid prefix length: " + prefix);
+        }
+    }
+
+    private static Object load(long high, long low, int tag) {
+        int prefix = tag & 0xFF;
+        switch (tag & ~0xFF) {
+            case IPV4_INFO:
+                return new IPv4Info(IPv4Network.toDottedQuad((int) low), prefix);
+            case IPV6_INFO:
+                return new IPv6Info(IPv6Network.toFullString(high, low), prefix);
+            case IPV4_REPORT:
+                return OutputFormatter.formatIPv4Output(new IPv4Info(IPv4Network.toDottedQuad((int) low), prefix));
+            default:
+                return OutputFormatter.formatIPv6Output(new IPv6Info(IPv6Network.toFullString(high, low), prefix));
+        }
+    }
+}
@@ -0,0 +1,370 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * CidrAggregator.java - This class collapses lists of IPv4 or IPv6 prefixes into the smallest set of CIDR blocks that covers exactly the same addresses.
+ * The prefixes are sorted as packed primitive keys with an LSD radix sort, merged into disjoint ranges in one pass and each range is split back into
+ * the fewest aligned blocks. Input that is already sorted can be streamed through an Aggregator without holding it in memory.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+public final class CidrAggregator {
+
+    // Receives the aggregated blocks in ascending address order
+    public interface IPv4Sink {
+        void accept(int address, int prefix);
+    }
+
+    public interface IPv6Sink {
+        void accept(long high, long low, int prefix);
+    }
+
+    private CidrAggregator() {
+    }
+
+    // Batch aggregation ------------------------------------------------------------------
+    // Sorts and merges the first count prefixes in place and returns how many blocks are left.
+    // The result never has more blocks than the input, so it always fits into the same arrays.
+    public static int aggregateIPv4(int[] addresses, int[] prefixes, int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            int prefix = prefixes[i];
+            if (prefix < 0 || prefix > 32) {
+                throw new IllegalArgumentException("Invalid IPv4 prefix length: " + prefix);
+            }
+            keys[i] = ((IPv4Network.network(addresses[i], prefix) & 0xFFFFFFFFL) << 6) | prefix; // Start address, then prefix
+        }
+        radixSort(keys, new long[count], 38);
+        int[] written = new int[1];
+        Aggregator aggregator = new Aggregator(false, (high, low, prefix) -> {
+            int index = written[0]++;
+            addresses[index] = (int) low;
+            prefixes[index] = prefix;
+        });
+        for (int i = 0; i < count; i++) {
+            aggregator.add(0L, keys[i] >>> 6, (int) (keys[i] & 0x3F));
+        }
+        aggregator.finish();
+        return written[0];
+    }
+
+    public static int aggregateIPv6(long[] high, long[] low, int[] prefixes, int count) {
+        for (int i = 0; i < count; i++) {
+            int prefix = prefixes[i];
+            if (prefix < 0 || prefix > 128) {
+                throw new IllegalArgumentException("Invalid IPv6 prefix length: " + prefix);
+            }
+            high[i] &= IPv6Network.maskHigh(prefix);
+            low[i] &= IPv6Network.maskLow(prefix);
+        }
+        radixSort(high, low, prefixes, count);
+        int[] written = new int[1];
+        Aggregator aggregator = new Aggregator(true, (h, l, prefix) -> {
+            int index = written[0]++; // Never overtakes the read position, blocks only shrink in number
+            high[index] = h;
+            low[index] = l;
+            prefixes[index] = prefix;
+        });
+        for (int i = 0; i < count; i++) {
+            aggregator.add(high[i], low[i], prefixes[i]);
+        }
+        aggregator.finish();
+        return written[0];
+    }
+
+    // Streaming aggregation --------------------------------------------------------------
+    // Accepts prefixes sorted by network address and emits the aggregated blocks as soon as a gap shows that a range is complete.
+    // Only the range that is currently being merged is kept, so any amount of sorted input runs in constant memory.
+    public static final class Aggregator {
+        private final boolean ipv6;
+        private final IPv6Sink sink; // IPv4 blocks arrive with the address in the low half
+        private final CidrRanges.Cursor blocks;
+        private boolean open; // A range is being merged
+        private long startHigh;
+        private long startLow;
+        private long endHigh;
+        private long endLow;
+
+        public Aggregator(IPv4Sink sink) {
+            this(false, (high, low, prefix) -> sink.accept((int) low, prefix));
+        }
+
+        public Aggregator(IPv6Sink sink) {
+            this(true, sink);
+        }
+
+        private Aggregator(boolean ipv6, IPv6Sink sink) {
+            this.ipv6 = ipv6;
+            this.sink = sink;
+            this.blocks = new CidrRanges.Cursor(ipv6 ? 128 : 32);
+        }
+
+        public void add(int address, int prefix) {
+            if (ipv6 || prefix < 0 || prefix > 32) {
+                throw new IllegalArgumentException("Invalid IPv4 prefix for this aggregator: /" + prefix);
+            }
+            add(0L, IPv4Network.network(address, prefix) & 0xFFFFFFFFL, prefix);
+        }
+
+        public void add(long high, long low, int prefix) { // IPv4 callers pass the address in low, host bits are ignored
+            if (prefix < 0 || prefix > (ipv6 ? 128 : 32)) {
+                throw new IllegalArgumentException("Invalid " + (ipv6 ? "IPv6" : "IPv4") + " prefix for this aggregator: /" + prefix);
+            }
+            long lastHigh;
+            long lastLow;
+            if (ipv6) {
+                high &= IPv6Network.maskHigh(prefix);
+                low &= IPv6Network.maskLow(prefix);
+                lastHigh = high | ~IPv6Network.maskHigh(prefix);
+                lastLow = low | ~IPv6Network.maskLow(prefix);
+            } else {
+                high = 0L;
+                low &= IPv4Network.mask(prefix) & 0xFFFFFFFFL;
+                lastHigh = 0L;
+                lastLow = low | (~IPv4Network.mask(prefix) & 0xFFFFFFFFL);
+            }
+            if (open) {
+                if (IPv6Network.compare(high, low, startHigh, startLow) < 0) {
+                    throw new IllegalArgumentException("Prefixes must be sorted by network address");
+                }
+                if (!adjacentOrOverlapping(high, low)) {
+                    flush();
+                } else {
+                    if (IPv6Network.compare(lastHigh, lastLow, endHigh, endLow) > 0) {
+                        endHigh = lastHigh;
+                        endLow = lastLow;
+                    }
+                    return;
+                }
+            }
+            open = true;
+            startHigh = high;
+            startLow = low;
+            endHigh = lastHigh;
+            endLow = lastLow;
+        }
+
+        public void finish() { // Emits the last range, the aggregator can be reused afterwards
+            if (open) {
+                flush();
+            }
+        }
+
+        private boolean adjacentOrOverlapping(long high, long low) { // start <= end + 1 without overflowing end + 1
+            if (high == 0 && low == 0) {
+                return true;
+            }
+            long beforeLow = low - 1;
+            long beforeHigh = low == 0 ? high - 1 : high;
+            return IPv6Network.compare(beforeHigh, beforeLow, endHigh, endLow) <= 0;
+        }
+
+        private void flush() {
+            open = false;
+            blocks.reset(startHigh, startLow, endHigh, endLow);
+            while (blocks.next()) {
+                sink.accept(blocks.getHigh(), blocks.getLow(), blocks.getPrefix());
+            }
+        }
+    }
+
+    // Radix sorts -----------------------------------------------------------------------------
+    // LSD radix sort of unsigned keys on their lowest bits, one byte per pass. Passes where every key has the same byte are skipped.
+    static void radixSort(long[] keys, long[] scratch, int bits) {
+        if (keys.length < 2) {
+            return;
+        }
+        int[] counts = new int[256];
+        long[] from = keys;
+        long[] to = scratch;
+        for (int shift = 0; shift < bits; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (long key : from) {
+                counts[(int) (key >>> shift) & 0xFF]++;
+            }
+            if (counts[(int) (from[0] >>> shift) & 0xFF] == from.length) {
+                continue;
+            }
+            for (int i = 0, sum = 0; i < 256; i++) {
+                int c = counts[i];
+                counts[i] = sum;
+                sum += c;
+            }
+            for (long key : from) {
+                to[counts[(int) (key >>> shift) & 0xFF]++] = key;
+            }
+            long[] swap = from;
+            from = to;
+            to = swap;
+        }
+        if (from != keys) {
+            System.arraycopy(from, 0, keys, 0, keys.length);
+        }
+    }
+
+    // Sorts the 128-bit keys high:low unsigned and carries the prefix lengths along, 16 byte passes at most
+    static void radixSort(long[] high, long[] low, int[] prefixes, int count) {
+        if (count < 2) {
+            return;
+        }
+        int[] counts = new int[256];
+        long[] fromHigh = high;
+        long[] fromLow = low;
+        int[] fromPrefix = prefixes;
+        long[] toHigh = new long[count];
+        long[] toLow = new long[count];
+        int[] toPrefix = new int[count];
+        for (int pass = 0; pass < 16; pass++) {
+            long[] digits = pass < 8 ? fromLow : fromHigh;
+            int shift = (pass & 7) * 8;
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < count; i++) {
+                counts[(int) (digits[i] >>> shift) & 0xFF]++;
+            }
+            if (counts[(int) (digits[0] >>> shift) & 0xFF] == count) {
+                continue;
+            }
+            for (int i = 0, sum = 0; i < 256; i++) {
+                int c = counts[i];
+                counts[i] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < count; i++) {
+                int slot = counts[(int) (digits[i] >>> shift) & 0xFF]++;
+                toHigh[slot] = fromHigh[i];
+                toLow[slot] = fromLow[i];
+                toPrefix[slot] = fromPrefix[i];
+            }
+            long[] swapHigh = fromHigh;
+            fromHigh = toHigh;
+            toHigh = swapHigh;
+            long[] swapLow = fromLow;
+            fromLow = toLow;
+            toLow = swapLow;
+            int[] swapPrefix = fromPrefix;
+            fromPrefix = toPrefix;
+            toPrefix = swapPrefix;
+        }
+        if (fromHigh != high) {
+            System.arraycopy(fromHigh, 0, high, 0, count);
+            System.arraycopy(fromLow, 0, low, 0, count);
+            System.arraycopy(fromPrefix, 0, prefixes, 0, count);
+        }
+    }
+
+    // Command line: aggregate "address/prefix" lines from a file or standard input -------------------
+    public static void main(String[] args) throws IOException {
+        boolean sorted = false;
+        String inputPath = null;
+        for (String arg : args) {
+            if (arg.equals("--sorted")) {
+                sorted = true;
+            } else if (arg.startsWith("-") && !arg.equals("-")) {
+                System.err.println("Usage: java -cp out CidrAggregator [--sorted] [INPUT|-]");
+                System.err.println("--sorted streams input that is already ordered by network address in constant memory.");
+                System.exit(2);
+            } else {
+                inputPath = arg;
+            }
+        }
+        PrintStream out = new PrintStream(new java.io.BufferedOutputStream(System.out, 1 << 16), false, StandardCharsets.US_ASCII);
+        StringBuilder line = new StringBuilder(64);
+        IPv4Sink ipv4Out = (address, prefix) -> {
+            line.setLength(0);
+            out.append(IPv4Network.appendDottedQuad(line, address).append('/').append(prefix)).append('\n');
+        };
+        IPv6Sink ipv6Out = (high, low, prefix) -> {
+            line.setLength(0);
+            out.append(IPv6Network.appendFull(line, high, low).append('/').append(prefix)).append('\n');
+        };
+        Aggregator ipv4Stream = new Aggregator(ipv4Out);
+        Aggregator ipv6Stream = new Aggregator(ipv6Out);
+        int[] addresses = new int[1024];
+        int[] ipv4Prefixes = new int[1024];
+        int ipv4Count = 0;
+        long[] high = new long[1024];
+        long[] low = new long[1024];
+        int[] ipv6Prefixes = new int[1024];
+        int ipv6Count = 0;
+        long[] halves = new long[2];
+        int bad = 0;
+        try (BufferedReader reader = inputPath == null || inputPath.equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.US_ASCII), 1 << 16)
+                : Files.newBufferedReader(Paths.get(inputPath), StandardCharsets.US_ASCII)) {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                text = text.trim();
+                if (text.isEmpty() || text.charAt(0) == '#') {
+                    continue;
+                }
+                int slash = text.indexOf('/');
+                int end = slash < 0 ? text.length() : slash;
+                boolean ipv6 = text.indexOf(':') >= 0;
+                int prefix = slash < 0 ? (ipv6 ? 128 : 32) : IPParser.parsePrefixLength(text, slash + 1, text.length(), ipv6 ? 128 : 32);
+                if (ipv6) {
+                    if (prefix < 0 || IPParser.parseIPv6(text, 0, end, halves) != IPParser.OK) {
+                        bad++;
+                    } else if (sorted) {
+                        ipv6Stream.add(halves[0], halves[1], prefix);
+                    } else {
+                        if (ipv6Count == high.length) {
+                            high = Arrays.copyOf(high, ipv6Count * 2);
+                            low = Arrays.copyOf(low, ipv6Count * 2);
+                            ipv6Prefixes = Arrays.copyOf(ipv6Prefixes, ipv6Count * 2);
+                        }
+                        high[ipv6Count] = halves[0];
+                        low[ipv6Count] = halves[1];
+                        ipv6Prefixes[ipv6Count++] = prefix;
+                    }
+                } else {
+                    long address = IPParser.parseIPv4(text, 0, end);
+                    if (prefix < 0 || address < 0) {
+                        bad++;
+                    } else if (sorted) {
+                        ipv4Stream.add((int) address, prefix);
+                    } else {
+                        if (ipv4Count == addresses.length) {
+                            addresses = Arrays.copyOf(addresses, ipv4Count * 2);
+                            ipv4Prefixes = Arrays.copyOf(ipv4Prefixes, ipv4Count * 2);
+                        }
+                        addresses[ipv4Count] = (int) address;
+                        ipv4Prefixes[ipv4Count++] = prefix;
+                    }
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            out.flush();
+            System.err.println(ex.getMessage());
+            System.exit(1);
+        }
+        if (sorted) {
+            ipv4Stream.finish();
+            ipv6Stream.finish();
+        } else {
+            int blocks = aggregateIPv4(addresses, ipv4Prefixes, ipv4Count);
+            for (int i = 0; i < blocks; i++) {
+                ipv4Out.accept(addresses[i], ipv4Prefixes[i]);
+            }
+            blocks = aggregateIPv6(high, low, ipv6Prefixes, ipv6Count);
+            for (int i = 0; i < blocks; i++) {
+                ipv6Out.accept(high[i], low[i], ipv6Prefixes[i]);
+            }
+        }
+        out.flush();
+        if (bad > 0) {
+            System.err.println(bad + " lines could not be parsed.");
+            System.exit(1);
+        }
+    }
+}
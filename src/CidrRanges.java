@@ -0,0 +1,353 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * CidrRanges.java - This class turns arbitrary first-last address ranges into CIDR blocks and subtracts prefixes from a supernet.
+ * The blocks are produced lazily by iterators and streams, one at a time, so a result is never materialized as a list.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class CidrRanges {
+    private static final long IPV4_LAST = 0xFFFFFFFFL;
+
+    private CidrRanges() {
+    }
+
+    // Range to CIDR ---------------------------------------------------------------
+    // Fewest CIDR blocks covering first..last inclusive, in ascending order. Empty if first is above last (unsigned).
+    public static Iterator<IPv4Network> ipv4Range(int first, int last) {
+        return new IPv4Blocks(0L, first & IPV4_LAST, 0L, last & IPV4_LAST, null, null, null, 0);
+    }
+
+    public static Stream<IPv4Network> ipv4RangeStream(int first, int last) {
+        return stream(ipv4Range(first, last));
+    }
+
+    public static Iterator<IPv6Network> ipv6Range(long firstHigh, long firstLow, long lastHigh, long lastLow) {
+        return new IPv6Blocks(firstHigh, firstLow, lastHigh, lastLow, null, null, null, 0);
+    }
+
+    public static Stream<IPv6Network> ipv6RangeStream(long firstHigh, long firstLow, long lastHigh, long lastLow) {
+        return stream(ipv6Range(firstHigh, firstLow, lastHigh, lastLow));
+    }
+
+    // Exclusion ---------------------------------------------------------------------
+    // Blocks of the supernet that are not covered by any excluded prefix. The excluded prefixes may be in any order,
+    // overlap or lie partly outside the supernet. They are sorted up front; the result is still produced one block at a time.
+    public static Iterator<IPv4Network> exclude(IPv4Network supernet, Iterable<IPv4Network> excluded) {
+        int count = 0;
+        int[] addresses = new int[16];
+        int[] prefixes = new int[16];
+        for (IPv4Network network : excluded) {
+            if (count == addresses.length) {
+                addresses = Arrays.copyOf(addresses, count * 2);
+                prefixes = Arrays.copyOf(prefixes, count * 2);
+            }
+            addresses[count] = network.getAddress();
+            prefixes[count++] = network.getPrefix();
+        }
+        count = CidrAggregator.aggregateIPv4(addresses, prefixes, count);
+        long[] low = new long[count];
+        for (int i = 0; i < count; i++) {
+            low[i] = addresses[i] & IPV4_LAST;
+        }
+        return new IPv4Blocks(0L, supernet.getNetworkAddress() & IPV4_LAST, 0L, supernet.getBroadcastAddress() & IPV4_LAST,
+                new long[count], low, prefixes, count);
+    }
+
+    public static Stream<IPv4Network> excludeStream(IPv4Network supernet, Iterable<IPv4Network> excluded) {
+        return stream(exclude(supernet, excluded));
+    }
+
+    public static Iterator<IPv6Network> exclude(IPv6Network supernet, Iterable<IPv6Network> excluded) {
+        int count = 0;
+        long[] high = new long[16];
+        long[] low = new long[16];
+        int[] prefixes = new int[16];
+        for (IPv6Network network : excluded) {
+            if (count == high.length) {
+                high = Arrays.copyOf(high, count * 2);
+                low = Arrays.copyOf(low, count * 2);
+                prefixes = Arrays.copyOf(prefixes, count * 2);
+            }
+            high[count] = network.getHigh();
+            low[count] = network.getLow();
+            prefixes[count++] = network.getPrefix();
+        }
+        count = CidrAggregator.aggregateIPv6(high, low, prefixes, count);
+        return new IPv6Blocks(supernet.getNetworkHigh(), supernet.getNetworkLow(), supernet.getLastHigh(), supernet.getLastLow(),
+                high, low, prefixes, count);
+    }
+
+    public static Stream<IPv6Network> excludeStream(IPv6Network supernet, Iterable<IPv6Network> excluded) {
+        return stream(exclude(supernet, excluded));
+    }
+
+    // The same results from the calculator classes, using the network they were created with
+    public static Stream<IPv4Network> excludeStream(IPv4Info supernet, Iterable<IPv4Info> excluded) {
+        return excludeStream(networkOf(supernet), () -> {
+            Iterator<IPv4Info> it = excluded.iterator();
+            return new Iterator<IPv4Network>() {
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                public IPv4Network next() {
+                    return networkOf(it.next());
+                }
+            };
+        });
+    }
+
+    public static Stream<IPv6Network> excludeStream(IPv6Info supernet, Iterable<IPv6Info> excluded) {
+        return excludeStream(networkOf(supernet), () -> {
+            Iterator<IPv6Info> it = excluded.iterator();
+            return new Iterator<IPv6Network>() {
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                public IPv6Network next() {
+                    return networkOf(it.next());
+                }
+            };
+        });
+    }
+
+    private static IPv4Network networkOf(IPv4Info info) {
+        if (info.getNetwork() == null) {
+            throw new IllegalArgumentException("Invalid IPv4 address: " + info.getIpAddress());
+        }
+        return info.getNetwork();
+    }
+
+    private static IPv6Network networkOf(IPv6Info info) {
+        if (info.getNetwork() == null) {
+            throw new IllegalArgumentException("Invalid IPv6 address: " + info.getIpAddress());
+        }
+        return info.getNetwork();
+    }
+
+    private static <T> Stream<T> stream(Iterator<T> blocks) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(blocks,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    // Cursor over the blocks of one range, no allocation per block ------------------------
+    // Addresses are 128-bit high:low pairs. IPv4 uses a width of 32 with the address in the low half.
+    public static final class Cursor {
+        private final int width;
+        private long nextHigh;
+        private long nextLow;
+        private long lastHigh;
+        private long lastLow;
+        private boolean done = true;
+        private long high;
+        private long low;
+        private int prefix;
+
+        public Cursor(int width) {
+            if (width != 32 && width != 128) {
+                throw new IllegalArgumentException("Width must be 32 or 128: " + width);
+            }
+            this.width = width;
+        }
+
+        public Cursor reset(long firstHigh, long firstLow, long lastHigh, long lastLow) {
+            this.nextHigh = firstHigh;
+            this.nextLow = firstLow;
+            this.lastHigh = lastHigh;
+            this.lastLow = lastLow;
+            this.done = IPv6Network.compare(firstHigh, firstLow, lastHigh, lastLow) > 0;
+            return this;
+        }
+
+        // Moves to the next block, the largest aligned block that starts at the next address and stays inside the range
+        public boolean next() {
+            if (done) {
+                return false;
+            }
+            long startHigh = nextHigh;
+            long startLow = nextLow;
+            int alignment = startLow != 0 ? Long.numberOfTrailingZeros(startLow)
+                    : startHigh != 0 ? 64 + Long.numberOfTrailingZeros(startHigh) : 128;
+            // Number of addresses left is last - start + 1, its bit length bounds the block size
+            long spanLow = lastLow - startLow;
+            long spanHigh = lastHigh - startHigh - (Long.compareUnsigned(lastLow, startLow) < 0 ? 1 : 0);
+            spanLow++;
+            if (spanLow == 0) {
+                spanHigh++;
+            }
+            int spanBits = spanHigh == 0 && spanLow == 0 ? 128 // The whole 128-bit space
+                    : spanHigh != 0 ? 127 - Long.numberOfLeadingZeros(spanHigh) : 63 - Long.numberOfLeadingZeros(spanLow);
+            int bits = Math.min(Math.min(alignment, spanBits), width);
+            high = startHigh;
+            low = startLow;
+            prefix = width - bits;
+            // Advance past the block, the range is finished when that reaches its end or wraps around
+            if (bits >= 64) {
+                nextHigh += bits == 128 ? 0 : 1L << (bits - 64);
+                done = bits == 128 || nextHigh == 0;
+            } else {
+                long next = startLow + (1L << bits);
+                if (Long.compareUnsigned(next, startLow) < 0) {
+                    nextHigh++;
+                    done = nextHigh == 0;
+                }
+                nextLow = next;
+            }
+            done = done || (width == 32 && nextLow > IPV4_LAST)
+                    || IPv6Network.compare(nextHigh, nextLow, lastHigh, lastLow) > 0;
+            return true;
+        }
+
+        public long getHigh() {
+            return high;
+        }
+
+        public long getLow() {
+            return low;
+        }
+
+        public int getPrefix() {
+            return prefix;
+        }
+    }
+
+    // Lazy iterator over first..last minus sorted, disjoint excluded blocks -------------------------
+    private abstract static class Blocks<T> implements Iterator<T> {
+        private final int width;
+        private final long[] excludedHigh;
+        private final long[] excludedLow;
+        private final int[] excludedPrefix;
+        private final int excludedCount;
+        private final long lastHigh;
+        private final long lastLow;
+        private final Cursor cursor;
+        private int excludedIndex;
+        private long positionHigh; // First address not yet handed to the cursor
+        private long positionLow;
+        private boolean finished; // The position has passed the end of the range
+        private boolean ready; // The cursor holds a block that next() has not returned yet
+
+        Blocks(int width, long firstHigh, long firstLow, long lastHigh, long lastLow,
+               long[] excludedHigh, long[] excludedLow, int[] excludedPrefix, int excludedCount) {
+            this.width = width;
+            this.excludedHigh = excludedHigh;
+            this.excludedLow = excludedLow;
+            this.excludedPrefix = excludedPrefix;
+            this.excludedCount = excludedCount;
+            this.lastHigh = lastHigh;
+            this.lastLow = lastLow;
+            this.cursor = new Cursor(width);
+            this.positionHigh = firstHigh;
+            this.positionLow = firstLow;
+            this.finished = IPv6Network.compare(firstHigh, firstLow, lastHigh, lastLow) > 0;
+        }
+
+        abstract T create(long high, long low, int prefix);
+
+        @Override
+        public boolean hasNext() {
+            while (!ready) {
+                if (cursor.next()) {
+                    ready = true;
+                } else if (!nextGap()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            return create(cursor.getHigh(), cursor.getLow(), cursor.getPrefix());
+        }
+
+        // Hands the next uncovered stretch of the range to the cursor, returns false when there is none left
+        private boolean nextGap() {
+            while (!finished && excludedIndex < excludedCount) {
+                int prefix = excludedPrefix[excludedIndex];
+                long blockHigh = excludedHigh[excludedIndex];
+                long blockLow = excludedLow[excludedIndex];
+                long endHigh;
+                long endLow;
+                if (width == 32) {
+                    endHigh = 0L;
+                    endLow = blockLow | (~IPv4Network.mask(prefix) & IPV4_LAST);
+                } else {
+                    endHigh = blockHigh | ~IPv6Network.maskHigh(prefix);
+                    endLow = blockLow | ~IPv6Network.maskLow(prefix);
+                }
+                excludedIndex++;
+                if (IPv6Network.compare(endHigh, endLow, positionHigh, positionLow) < 0) {
+                    continue; // Entirely before the position
+                }
+                if (IPv6Network.compare(blockHigh, blockLow, lastHigh, lastLow) > 0) {
+                    excludedIndex = excludedCount; // This and every later block lie after the range
+                    break;
+                }
+                boolean gap = IPv6Network.compare(blockHigh, blockLow, positionHigh, positionLow) > 0;
+                if (gap) {
+                    long beforeLow = blockLow - 1;
+                    long beforeHigh = blockLow == 0 ? blockHigh - 1 : blockHigh;
+                    cursor.reset(positionHigh, positionLow, beforeHigh, beforeLow);
+                }
+                // Skip past the excluded block
+                if (IPv6Network.compare(endHigh, endLow, lastHigh, lastLow) >= 0) {
+                    finished = true;
+                } else {
+                    positionLow = endLow + 1;
+                    positionHigh = positionLow == 0 ? endHigh + 1 : endHigh;
+                }
+                if (gap) {
+                    return true;
+                }
+            }
+            if (finished) {
+                return false;
+            }
+            finished = true; // What is left after the last excluded block
+            cursor.reset(positionHigh, positionLow, lastHigh, lastLow);
+            return true;
+        }
+    }
+
+    private static final class IPv4Blocks extends Blocks<IPv4Network> {
+        IPv4Blocks(long firstHigh, long firstLow, long lastHigh, long lastLow,
+                   long[] excludedHigh, long[] excludedLow, int[] excludedPrefix, int excludedCount) {
+            super(32, firstHigh, firstLow, lastHigh, lastLow, excludedHigh, excludedLow, excludedPrefix, excludedCount);
+        }
+
+        @Override
+        IPv4Network create(long high, long low, int prefix) {
+            return new IPv4Network((int) low, prefix);
+        }
+    }
+
+    private static final class IPv6Blocks extends Blocks<IPv6Network> {
+        IPv6Blocks(long firstHigh, long firstLow, long lastHigh, long lastLow,
+                   long[] excludedHigh, long[] excludedLow, int[] excludedPrefix, int excludedCount) {
+            super(128, firstHigh, firstLow, lastHigh, lastLow, excludedHigh, excludedLow, excludedPrefix, excludedCount);
+        }
+
+        @Override
+        IPv6Network create(long high, long low, int prefix) {
+            return new IPv6Network(high, low, prefix);
+        }
+    }
+}
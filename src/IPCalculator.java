@@ -8,9 +8,6 @@
  * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
  */
 
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-
 public abstract class IPCalculator {
     protected String ipAddress;
     protected String subnetMask;
@@ -18,17 +15,31 @@ public abstract class IPCalculator {
     protected String ipClass;
 
     public IPCalculator(String ipAddress, String subnetMask) { // Constructor for the subnet mask
+        long started = NetIPMetrics.start();
         this.ipAddress = ipAddress;
         this.subnetMask = subnetMask;
-        this.cidrNotation = calculateCIDRNotation();
+        try {
+            this.cidrNotation = calculateCIDRNotation();
+        } catch (IllegalArgumentException ex) { // An invalid mask counts as a failed calculation
+            NetIPMetrics.record(NetIPMetrics.Stage.CALCULATE, started, false);
+            throw ex;
+        }
         this.ipClass = calculateIPClass();
+        NetIPMetrics.record(NetIPMetrics.Stage.CALCULATE, started, true);
     }
 
     public IPCalculator(String ipAddress, int cidrNotation) { // Constructor for the CIDR notation
+        long started = NetIPMetrics.start();
         this.ipAddress = ipAddress;
         this.cidrNotation = cidrNotation;
-        this.subnetMask = calculateSubnetMask();
+        try {
+            this.subnetMask = calculateSubnetMask();
+        } catch (IllegalArgumentException ex) { // A prefix length out of range counts as a failed calculation
+            NetIPMetrics.record(NetIPMetrics.Stage.CALCULATE, started, false);
+            throw ex;
+        }
         this.ipClass = calculateIPClass();
+        NetIPMetrics.record(NetIPMetrics.Stage.CALCULATE, started, true);
     }
 
     protected abstract int calculateCIDRNotation(); // Abstract method to calculate CIDR notation
@@ -47,17 +58,7 @@ public abstract class IPCalculator {
 
     // Utility method to convert CIDR notation to subnet mask
     protected static String cidrToSubnetMask(int cidr) { // Convert CIDR notation to subnet mask
-        int mask = 0xffffffff << (32 - cidr); // Left shift 32 - CIDR notation
-        byte[] bytes = new byte[]{ // Convert the mask to bytes
-                (byte)(mask >>> 24), (byte)(mask >> 16 & 0xff), (byte)(mask >> 8 & 0xff), (byte)(mask & 0xff) // Right shift the mask and store the bytes
-        };
-        InetAddress inetAddress; // Create an InetAddress object
-        try {
-            inetAddress = InetAddress.getByAddress(bytes);
-            return inetAddress.getHostAddress();
-        } catch (UnknownHostException e) {
-            return null;
-        }
+        return IPv4Network.toDottedQuad(IPv4Network.mask(cidr));
     }
 
 }
\ No newline at end of file
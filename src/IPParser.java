@@ -0,0 +1,298 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * IPParser.java - This class parses IPv4 and IPv6 address literals in a single pass over a CharSequence, char[] or byte[] range without allocating, throwing or touching the resolver.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+public final class IPParser {
+
+    // Result codes, every error is negative so it can share the return value with a packed IPv4 address
+    public static final int OK = 0;
+    public static final int ERR_EMPTY = -1; // Nothing to parse
+    public static final int ERR_CHARACTER = -2; // Unexpected character
+    public static final int ERR_OCTET = -3; // IPv4 octet above 255, longer than three digits or with a leading zero
+    public static final int ERR_GROUP = -4; // IPv6 group longer than four hex digits
+    public static final int ERR_COUNT = -5; // Wrong number of octets or groups
+    public static final int ERR_COMPRESSION = -6; // Misplaced colon or more than one "::"
+    public static final int ERR_ZONE = -7; // "%" without a zone ID
+
+    private IPParser() {
+    }
+
+    // IPv4 --------------------------------------------------------------------
+    // Returns the packed address (0 to 2^32 - 1) or one of the negative error codes
+    public static long parseIPv4(CharSequence ip) {
+        return ip == null ? ERR_EMPTY : parseIPv4(ip, 0, ip.length());
+    }
+
+    public static long parseIPv4(CharSequence ip, int from, int to) {
+        return ipv4(ip, from, to);
+    }
+
+    public static long parseIPv4(char[] ip, int from, int to) {
+        return ipv4(ip, from, to);
+    }
+
+    public static long parseIPv4(byte[] ip, int from, int to) { // ASCII bytes, e.g. straight from a log file buffer
+        return ipv4(ip, from, to);
+    }
+
+    // IPv6 --------------------------------------------------------------------
+    // Stores the upper and lower halves in halves[0] and halves[1] and returns OK or a negative error code.
+    // halves may be null when only validation is wanted. A trailing "%zone" is accepted and skipped.
+    public static int parseIPv6(CharSequence ip, long[] halves) {
+        return ip == null ? ERR_EMPTY : parseIPv6(ip, 0, ip.length(), halves);
+    }
+
+    public static int parseIPv6(CharSequence ip, int from, int to, long[] halves) {
+        return ipv6(ip, from, to, halves);
+    }
+
+    public static int parseIPv6(char[] ip, int from, int to, long[] halves) {
+        return ipv6(ip, from, to, halves);
+    }
+
+    public static int parseIPv6(byte[] ip, int from, int to, long[] halves) {
+        return ipv6(ip, from, to, halves);
+    }
+
+    // Prefix lengths -----------------------------------------------------------
+    // Returns the decimal prefix length between 0 and max, or ERR_CHARACTER if the range is not one
+    public static int parsePrefixLength(CharSequence text, int from, int to, int max) {
+        return prefixLength(text, from, to, max);
+    }
+
+    public static int parsePrefixLength(byte[] text, int from, int to, int max) {
+        return prefixLength(text, from, to, max);
+    }
+
+    // Describe an error code for messages
+    public static String describe(int code) {
+        switch (code) {
+            case OK:
+                return "OK";
+            case ERR_EMPTY:
+                return "Empty address";
+            case ERR_CHARACTER:
+                return "Unexpected character";
+            case ERR_OCTET:
+                return "Invalid IPv4 octet";
+            case ERR_GROUP:
+                return "IPv6 group longer than four hex digits";
+            case ERR_COUNT:
+                return "Wrong number of octets or groups";
+            case ERR_COMPRESSION:
+                return "Misplaced colon or repeated ::";
+            case ERR_ZONE:
+                return "Empty zone ID";
+            default:
+                return "Unknown error";
+        }
+    }
+
+    // Shared implementation, the source is a CharSequence, char[] or byte[] ------
+    private static int charAt(Object source, int index) {
+        if (source instanceof byte[]) {
+            return ((byte[]) source)[index] & 0xFF;
+        } else if (source instanceof char[]) {
+            return ((char[]) source)[index];
+        }
+        return ((CharSequence) source).charAt(index);
+    }
+
+    private static int hexDigit(int ch) {
+        if (ch >= '0' && ch <= '9') {
+            return ch - '0';
+        }
+        int lower = ch | 0x20; // Fold 'A'-'F' onto 'a'-'f'
+        return lower >= 'a' && lower <= 'f' ? lower - 'a' + 10 : -1;
+    }
+
+    private static int prefixLength(Object text, int from, int to, int max) {
+        if (from >= to || to - from > 3) {
+            return from >= to ? ERR_EMPTY : ERR_CHARACTER;
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int ch = charAt(text, i);
+            if (ch < '0' || ch > '9') {
+                return ERR_CHARACTER;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return value <= max ? value : ERR_CHARACTER;
+    }
+
+    private static long ipv4(Object ip, int from, int to) {
+        if (from >= to) {
+            return ERR_EMPTY;
+        }
+        long result = 0;
+        int octets = 0;
+        int i = from;
+        while (true) {
+            int start = i;
+            int value = 0;
+            while (i < to) {
+                int ch = charAt(ip, i);
+                if (ch < '0' || ch > '9') {
+                    break;
+                }
+                if (i - start == 3) {
+                    return ERR_OCTET;
+                }
+                value = value * 10 + (ch - '0');
+                i++;
+            }
+            if (i == start) {
+                return i < to ? ERR_CHARACTER : ERR_COUNT;
+            }
+            if (value > 255 || (i - start > 1 && charAt(ip, start) == '0')) { // Leading zeros are ambiguous (octal in inet_aton)
+                return ERR_OCTET;
+            }
+            result = (result << 8) | value;
+            octets++;
+            if (i == to) {
+                return octets == 4 ? result : ERR_COUNT;
+            }
+            if (charAt(ip, i) != '.') {
+                return ERR_CHARACTER;
+            }
+            if (octets == 4) {
+                return ERR_COUNT;
+            }
+            i++;
+        }
+    }
+
+    private static int ipv6(Object ip, int from, int to, long[] halves) {
+        if (from >= to) {
+            return ERR_EMPTY;
+        }
+        int end = to; // End of the address, before any zone ID
+        for (int k = from; k < to; k++) {
+            if (charAt(ip, k) == '%') {
+                if (k + 1 == to) {
+                    return ERR_ZONE;
+                }
+                end = k;
+                break;
+            }
+        }
+        if (end == from) {
+            return ERR_EMPTY;
+        }
+        long hi = 0; // Groups are shifted in from the right as they are read
+        long lo = 0;
+        int count = 0;
+        int compressAt = -1; // Number of groups read before the "::"
+        int i = from;
+        if (charAt(ip, i) == ':') {
+            if (i + 1 == end || charAt(ip, i + 1) != ':') {
+                return ERR_COMPRESSION;
+            }
+            compressAt = 0;
+            i += 2;
+        }
+        while (i < end) {
+            if (count == 8) {
+                return ERR_COUNT;
+            }
+            int start = i;
+            int value = 0;
+            while (i < end) {
+                int digit = hexDigit(charAt(ip, i));
+                if (digit < 0) {
+                    break;
+                }
+                if (i - start == 4) {
+                    return ERR_GROUP;
+                }
+                value = (value << 4) | digit;
+                i++;
+            }
+            if (i < end && charAt(ip, i) == '.') { // Embedded IPv4 address in the last 32 bits
+                if (count > 6) {
+                    return ERR_COUNT;
+                }
+                long ipv4 = ipv4(ip, start, end);
+                if (ipv4 < 0) {
+                    return (int) ipv4;
+                }
+                hi = (hi << 32) | (lo >>> 32);
+                lo = (lo << 32) | ipv4;
+                count += 2;
+                break;
+            }
+            if (i == start) {
+                return ERR_CHARACTER;
+            }
+            hi = (hi << 16) | (lo >>> 48);
+            lo = (lo << 16) | value;
+            count++;
+            if (i == end) {
+                break;
+            }
+            if (charAt(ip, i) != ':') {
+                return ERR_CHARACTER;
+            }
+            i++;
+            if (i < end && charAt(ip, i) == ':') {
+                if (compressAt >= 0) {
+                    return ERR_COMPRESSION;
+                }
+                compressAt = count;
+                i++;
+            } else if (i == end) {
+                return ERR_COMPRESSION; // Single trailing colon
+            }
+        }
+        if (compressAt < 0) {
+            if (count != 8) {
+                return ERR_COUNT;
+            }
+        } else {
+            if (count == 8) {
+                return ERR_COMPRESSION; // "::" has to stand for at least one group
+            }
+            // Split the groups read after the "::" from those before it and move the head to the top
+            int tailBits = 16 * (count - compressAt);
+            long tailHi = tailBits > 64 ? hi & ((1L << (tailBits - 64)) - 1) : 0;
+            long tailLo = tailBits >= 64 ? lo : lo & ((1L << tailBits) - 1);
+            long headHi;
+            long headLo;
+            if (tailBits == 0) {
+                headHi = hi;
+                headLo = lo;
+            } else if (tailBits < 64) {
+                headLo = (lo >>> tailBits) | (hi << (64 - tailBits));
+                headHi = hi >>> tailBits;
+            } else {
+                headLo = hi >>> (tailBits - 64);
+                headHi = 0;
+            }
+            int shift = 16 * (8 - compressAt); // Between 16 and 128
+            if (shift >= 128) {
+                headHi = 0;
+                headLo = 0;
+            } else if (shift >= 64) {
+                headHi = headLo << (shift - 64);
+                headLo = 0;
+            } else {
+                headHi = (headHi << shift) | (headLo >>> (64 - shift));
+                headLo = headLo << shift;
+            }
+            hi = headHi | tailHi;
+            lo = headLo | tailLo;
+        }
+        if (halves != null) {
+            halves[0] = hi;
+            halves[1] = lo;
+        }
+        return OK;
+    }
+}
@@ -8,33 +8,22 @@
  * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
  */
 
-import java.net.InetAddress;
-import java.net.Inet4Address;
-import java.net.UnknownHostException;
-
 public class IPValidator {
 
     // Validates IPv4 address format
-    public static boolean validateIPv4Address(String ip) { // Validate the IP address
-        try {
-            if (ip == null || ip.isEmpty()) {
-                return false;
-            }
-            InetAddress inet = InetAddress.getByName(ip);
-            return inet.getHostAddress().equals(ip) && inet instanceof Inet4Address; // Check if the IP address is valid and is an IPv4 address
-        } catch (UnknownHostException ex) {
-            return false;
-        }
+    public static boolean validateIPv4Address(String ip) { // Validate the IP address without going through the resolver
+        long started = NetIPMetrics.start();
+        boolean valid = IPParser.parseIPv4(ip) >= 0;
+        NetIPMetrics.record(NetIPMetrics.Stage.VALIDATE, started, valid);
+        return valid;
     }
 
-    // Validates IPv6 address format
+    // Validates IPv6 address format, including "::" compression, embedded IPv4 and zone IDs
     public static boolean validateIPv6Address(String ip) { // Validate the IP address
-        if (ip == null || ip.isEmpty()) {
-            return false;
-        }
-        String pattern = "^(?:[0-9a-fA-F]{1,4}:){7}[0-9a-fA-F]{1,4}$"; // Regular expression pattern for IPv6 address
-        return ip.matches(pattern);
-
+        long started = NetIPMetrics.start();
+        boolean valid = IPParser.parseIPv6(ip, null) == IPParser.OK;
+        NetIPMetrics.record(NetIPMetrics.Stage.VALIDATE, started, valid);
+        return valid;
     }
 
     // Validates subnet mask values for IPv4
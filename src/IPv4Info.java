@@ -8,194 +8,124 @@
  * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
  */
 
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-
 public class IPv4Info extends IPCalculator {
+    private final IPv4Network network; // Parsed once, null if the IP address is not a valid dotted-quad address
 
     public IPv4Info(String ipAddress, String subnetMask) {
         super(ipAddress, subnetMask);
+        long started = NetIPMetrics.start();
+        this.network = IPv4Network.parse(ipAddress, this.cidrNotation);
+        NetIPMetrics.record(NetIPMetrics.Stage.PARSE, started, network != null);
+        this.ipClass = calculateIPClass();
+    }
+
+    public IPv4Info(String ipAddress, int cidrNotation) { // Throws IllegalArgumentException if cidrNotation is not 0 to 32
+        super(ipAddress, cidrNotation);
+        long started = NetIPMetrics.start();
+        this.network = IPv4Network.parse(ipAddress, cidrNotation);
+        NetIPMetrics.record(NetIPMetrics.Stage.PARSE, started, network != null);
+        this.ipClass = calculateIPClass();
+    }
+
+    public IPv4Network getNetwork() {
+        return network;
     }
 
     @Override
     protected int calculateCIDRNotation() {
-        return subnetMaskToPrefixLength(this.subnetMask); } // Convert the subnet mask to CIDR notation
+        int prefixLength = subnetMaskToPrefixLength(this.subnetMask); // Convert the subnet mask to CIDR notation
+        if (prefixLength < 0) {
+            throw new IllegalArgumentException("Invalid subnet mask: " + this.subnetMask);
+        }
+        return prefixLength;
+    }
     @Override
     protected String calculateSubnetMask() {
+        if (this.cidrNotation < 0 || this.cidrNotation > 32) {
+            throw new IllegalArgumentException("Invalid CIDR notation: " + this.cidrNotation);
+        }
         return cidrToSubnetMask(this.cidrNotation);
     } // Calculate the subnet mask
 
     // Calculate the IP class -----------------------------------------------------
     @Override
     protected String calculateIPClass() {
-        try {
-            InetAddress inetAddress = InetAddress.getByName(this.ipAddress);
-            byte firstByte = inetAddress.getAddress()[0];
-            if ((firstByte & 0xFF) <= 127) {
-                return "A";
-            } else if ((firstByte & 0xFF) >= 128 && (firstByte & 0xFF) <= 191) {
-                return "B";
-            } else if ((firstByte & 0xFF) >= 192 && (firstByte & 0xFF) <= 223) {
-                return "C";
-            } else if ((firstByte & 0xFF) >= 224 && (firstByte & 0xFF) <= 239) {
-                return "D";
-            } else if ((firstByte & 0xFF) >= 240) {
-                return "E";
-            }
-        } catch (UnknownHostException e) {
-            //    e.printStackTrace();
+        if (network == null) { // Also while the superclass constructor runs, the constructors here set the class again once the address is parsed
+            return "Unknown";
         }
-        return "Unknown";
+        return String.valueOf(IPv4Network.ipClass(network.getAddress()));
     }
 
     // Calculate the total number of hosts ---------------------------------------
-    public long calculateTotalHosts() {
-        return (long) Math.pow(2, (32 - this.cidrNotation)) - 2;
+    public long calculateTotalHosts() { // Every address in the block, network and broadcast included
+        return 1L << (32 - this.cidrNotation);
+    }
+
+    // Calculate the number of usable hosts --------------------------------------
+    public long calculateUsableHosts() { // The addresses in the usable host range, all of them for /31 and /32 (RFC 3021)
+        return IPv4Network.usableHosts(this.cidrNotation);
     }
 
     // Calculate the broadcast address -------------------------------------------
     public String calculateBroadcastAddress() {
-        try {
-            InetAddress inetAddress = InetAddress.getByName(this.ipAddress);
-            byte[] ipBytes = inetAddress.getAddress();
-            int mask = ~(0xFFFFFFFF >>> this.cidrNotation);
-            byte[] maskBytes = {
-                    (byte) (mask >>> 24),
-                    (byte) (mask >> 16 & 0xFF),
-                    (byte) (mask >> 8 & 0xFF),
-                    (byte) (mask & 0xFF)
-            };
-
-            for (int i = 0; i < ipBytes.length; i++) {
-                ipBytes[i] = (byte) (ipBytes[i] & maskBytes[i]);
-                maskBytes[i] = (byte) ~maskBytes[i];
-                ipBytes[i] = (byte) (ipBytes[i] | maskBytes[i]);
-            }
-
-            return InetAddress.getByAddress(ipBytes).getHostAddress();
-        } catch (UnknownHostException e) {
-            //    e.printStackTrace();
+        if (network == null) {
             return "Error calculating broadcast address";
         }
+        return IPv4Network.toDottedQuad(network.getBroadcastAddress());
     }
 
     // Calculate the usable host IP range --------------------------------------
     public String calculateUsableHostIPRange() {
-        try {
-            // Calculate network address
-            InetAddress inetAddress = InetAddress.getByName(this.ipAddress);
-            byte[] ipBytes = inetAddress.getAddress();
-            int mask = ~(0xFFFFFFFF >>> this.cidrNotation);
-            byte[] maskBytes = {
-                    (byte) (mask >>> 24),
-                    (byte) (mask >> 16 & 0xFF),
-                    (byte) (mask >> 8 & 0xFF),
-                    (byte) (mask & 0xFF)
-            };
-
-            for (int i = 0; i < ipBytes.length; i++) {
-                ipBytes[i] = (byte) (ipBytes[i] & maskBytes[i]);
-            }
-
-            // Start address is network address plus one
-            ipBytes[3] = (byte) ((ipBytes[3] & 0xFF) + 1);
-            String startAddress = InetAddress.getByAddress(ipBytes).getHostAddress();
-
-            // Calculate broadcast address
-            for (int i = 0; i < ipBytes.length; i++) {
-                ipBytes[i] = (byte) (ipBytes[i] | ~maskBytes[i]);
-            }
-
-            // End address is broadcast address minus one
-            ipBytes[3] = (byte) ((ipBytes[3] & 0xFF) - 1);
-            String endAddress = InetAddress.getByAddress(ipBytes).getHostAddress();
-
-            return startAddress + " - " + endAddress;
-        } catch (UnknownHostException e) {
-            //    e.printStackTrace();
+        if (network == null) {
             return "Error calculating usable host IP range";
         }
+        StringBuilder sb = new StringBuilder(31);
+        IPv4Network.appendDottedQuad(sb, network.getFirstHost()).append(" - ");
+        return IPv4Network.appendDottedQuad(sb, network.getLastHost()).toString();
     }
 
     // Calculate the network address -------------------------------------------
     public String calculateNetworkAddress() {
-        try {
-            InetAddress inetAddress = InetAddress.getByName(this.ipAddress);
-            byte[] ipBytes = inetAddress.getAddress();
-            int mask = ~(0xFFFFFFFF >>> this.cidrNotation);
-            byte[] maskBytes = {
-                    (byte) (mask >>> 24),
-                    (byte) (mask >> 16 & 0xFF),
-                    (byte) (mask >> 8 & 0xFF),
-                    (byte) (mask & 0xFF)
-            };
-
-            for (int i = 0; i < ipBytes.length; i++) {
-                ipBytes[i] = (byte) (ipBytes[i] & maskBytes[i]);
-            }
-
-            return InetAddress.getByAddress(ipBytes).getHostAddress();
-        } catch (UnknownHostException e) {
-            //    e.printStackTrace();
+        if (network == null) {
             return "Error calculating network address";
         }
+        return IPv4Network.toDottedQuad(network.getNetworkAddress());
+    }
+
+    // Calculate the reverse DNS zone ---------------------------------------------
+    public String calculateReverseZone() {
+        if (network == null) {
+            return "Error calculating reverse zone";
+        }
+        return ReverseDns.zoneSummary(ReverseDns.zoneNames(network));
     }
 
     // Calculate the wildcard mask -------------------------------------------
     public String calculateWildcardMask() {
-        try {
-            int mask = ~(0xFFFFFFFF >>> this.cidrNotation);
-            byte[] maskBytes = {
-                    (byte) ~(mask >>> 24),
-                    (byte) ~((mask >> 16) & 0xFF),
-                    (byte) ~((mask >> 8) & 0xFF),
-                    (byte) ~(mask & 0xFF)
-            };
-            return InetAddress.getByAddress(maskBytes).getHostAddress();
-        } catch (UnknownHostException e) {
-            //    e.printStackTrace();
-            return "Error calculating wildcard mask";
-        }
+        return IPv4Network.toDottedQuad(~IPv4Network.mask(this.cidrNotation));
     }
 
     // Calculate the binary subnet mask -------------------------------------------
     public boolean isPrivate() {
-        String[] parts = ipAddress.split("\\.");
-        int firstOctet = Integer.parseInt(parts[0]);
-        if (firstOctet == 10) { // Class A private range
-            return true;
-        } else // Class C private range
-            if (firstOctet == 172 && Integer.parseInt(parts[1]) >= 16 && Integer.parseInt(parts[1]) <= 31) { // Class B private range
-                return true;
-            } else return firstOctet == 192 && Integer.parseInt(parts[1]) == 168;
+        if (network != null) {
+            return network.isPrivate();
+        }
+        long address = IPv4Network.parseAddress(this.ipAddress);
+        return address >= 0 && IPv4Network.isPrivate((int) address);
     }
 
-    // Convert subnet mask to prefix length -------------------------------------------
+    // Convert subnet mask to prefix length, returns -1 if the mask is not valid ------
     public static int subnetMaskToPrefixLength(String subnetMask) {
-        int prefixLength = 0;
-        String[] parts = subnetMask.split("\\.");
-        for (String part : parts) {
-            int i = Integer.parseInt(part);
-            while (i != 0) {
-                prefixLength += i & 1;
-                i >>>= 1;
-            }
+        long mask = IPv4Network.parseAddress(subnetMask);
+        if (mask < 0) {
+            return -1;
         }
-        return prefixLength;
+        return IPv4Network.prefixLength((int) mask);
     }
 
     // Convert prefix length to subnet mask -------------------------------------------
     public String calculateBinarySubnetMask() {
-        String[] octets = this.subnetMask.split("\\.");
-        StringBuilder binarySubnetMask = new StringBuilder();
-        for (String octet : octets) {
-            int octetInt = Integer.parseInt(octet);
-            String binaryOctet = Integer.toBinaryString(octetInt);
-            binaryOctet = String.format("%8s", binaryOctet).replace(' ', '0'); // Pad with leading zeros
-            binarySubnetMask.append(binaryOctet).append(".");
-        }
-        binarySubnetMask.deleteCharAt(binarySubnetMask.length() - 1); // Remove the trailing dot
-        return binarySubnetMask.toString();
+        return IPv4Network.toBinaryString(IPv4Network.mask(this.cidrNotation));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,184 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * IPv4Network.java - This class stores an IPv4 address and prefix length as packed integers and calculates the network information with plain bit operations.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.util.stream.IntStream;
+
+public final class IPv4Network {
+    private final int address; // Packed address, most significant octet first
+    private final int prefix; // Prefix length between 0 and 32
+
+    public IPv4Network(int address, int prefix) {
+        if (prefix < 0 || prefix > 32) {
+            throw new IllegalArgumentException("Invalid IPv4 prefix length: " + prefix);
+        }
+        this.address = address;
+        this.prefix = prefix;
+    }
+
+    // Parse a dotted-quad address, returns null if the address is not valid
+    public static IPv4Network parse(String ipAddress, int prefix) {
+        long packed = parseAddress(ipAddress);
+        if (packed < 0 || prefix < 0 || prefix > 32) {
+            return null;
+        }
+        return new IPv4Network((int) packed, prefix);
+    }
+
+    public int getAddress() {
+        return address;
+    }
+
+    public int getPrefix() {
+        return prefix;
+    }
+
+    public int getSubnetMask() {
+        return mask(prefix);
+    }
+
+    public int getWildcardMask() {
+        return ~mask(prefix);
+    }
+
+    public int getNetworkAddress() {
+        return network(address, prefix);
+    }
+
+    public int getBroadcastAddress() {
+        return broadcast(address, prefix);
+    }
+
+    public int getFirstHost() {
+        return firstHost(address, prefix);
+    }
+
+    public int getLastHost() {
+        return lastHost(address, prefix);
+    }
+
+    public long getTotalAddresses() {
+        return 1L << (32 - prefix);
+    }
+
+    public long getUsableHosts() {
+        return usableHosts(prefix);
+    }
+
+    public char getIPClass() {
+        return ipClass(address);
+    }
+
+    public boolean isPrivate() {
+        return isPrivate(address);
+    }
+
+    public boolean contains(int ip) {
+        return ((ip ^ address) & mask(prefix)) == 0;
+    }
+
+    public IntStream hosts() { // Every usable host, call parallel() to sweep large networks on all cores
+        return Subnets.ipv4HostStream(this, false);
+    }
+
+    public IntStream subnets(int newPrefix) { // Network addresses of the child subnets of length newPrefix
+        return Subnets.ipv4SubnetStream(this, newPrefix, false);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof IPv4Network)) {
+            return false;
+        }
+        IPv4Network other = (IPv4Network) o;
+        return address == other.address && prefix == other.prefix;
+    }
+
+    @Override
+    public int hashCode() {
+        return address * 31 + prefix;
+    }
+
+    @Override
+    public String toString() {
+        return toDottedQuad(address) + "/" + prefix;
+    }
+
+    // Bit operations on packed addresses ----------------------------------------
+    public static int mask(int prefix) { // Subnet mask for a prefix length, /0 needs special care as shifts are taken mod 32
+        return prefix == 0 ? 0 : 0xFFFFFFFF << (32 - prefix);
+    }
+
+    public static int network(int address, int prefix) {
+        return address & mask(prefix);
+    }
+
+    public static int broadcast(int address, int prefix) {
+        return address | ~mask(prefix);
+    }
+
+    public static int firstHost(int address, int prefix) { // /31 and /32 have no network or broadcast address to skip (RFC 3021)
+        return prefix >= 31 ? network(address, prefix) : network(address, prefix) + 1;
+    }
+
+    public static int lastHost(int address, int prefix) {
+        return prefix >= 31 ? broadcast(address, prefix) : broadcast(address, prefix) - 1;
+    }
+
+    public static long usableHosts(int prefix) { // Addresses from firstHost to lastHost, so the count always matches the range
+        return prefix >= 31 ? 1L << (32 - prefix) : (1L << (32 - prefix)) - 2;
+    }
+
+    public static char ipClass(int address) { // The class is given by the leading bits of the first octet
+        int firstOctet = address >>> 24;
+        if (firstOctet <= 127) {
+            return 'A';
+        } else if (firstOctet <= 191) {
+            return 'B';
+        } else if (firstOctet <= 223) {
+            return 'C';
+        } else if (firstOctet <= 239) {
+            return 'D';
+        }
+        return 'E';
+    }
+
+    public static boolean isPrivate(int address) { // RFC 1918 ranges 10/8, 172.16/12 and 192.168/16
+        return (address & 0xFF000000) == 0x0A000000
+                || (address & 0xFFF00000) == 0xAC100000
+                || (address & 0xFFFF0000) == 0xC0A80000;
+    }
+
+    public static int prefixLength(int subnetMask) { // Returns -1 if the mask bits are not contiguous
+        int prefix = Integer.bitCount(subnetMask);
+        return mask(prefix) == subnetMask ? prefix : -1;
+    }
+
+    // Parse a dotted-quad address into its packed form, returns a negative IPParser error code if the address is not valid
+    public static long parseAddress(CharSequence ip) {
+        return IPParser.parseIPv4(ip);
+    }
+
+    // Convert a packed address to dotted-quad notation --------------------------
+    public static String toDottedQuad(int address) {
+        return appendDottedQuad(new StringBuilder(15), address).toString();
+    }
+
+    public static StringBuilder appendDottedQuad(StringBuilder sb, int address) {
+        return AddressFormat.appendDottedQuad(sb, address);
+    }
+
+    public static String toBinaryString(int address) { // Eight bits per octet separated by dots
+        return appendBinary(new StringBuilder(35), address).toString();
+    }
+
+    public static StringBuilder appendBinary(StringBuilder sb, int address) {
+        return AddressFormat.appendBinary(sb, address);
+    }
+}
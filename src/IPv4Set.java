@@ -0,0 +1,357 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * IPv4Set.java - This class is an immutable set of IPv4 addresses stored as sorted, disjoint ranges in two int arrays.
+ * Membership is a binary search and union, intersection and difference are single merges over the ranges,
+ * so the cost depends on the number of ranges and not on the number of addresses they cover.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public final class IPv4Set {
+    private static final int BIAS = 0x80000000; // Flipping the sign bit makes signed int order match unsigned address order
+    private static final int INDEXED = 4096; // Sets with at least this many ranges get a /16 index in front of the binary search
+
+    public static final IPv4Set EMPTY = new IPv4Set(new int[0], new int[0], 0);
+    public static final IPv4Set ALL = new IPv4Set(new int[]{Integer.MIN_VALUE}, new int[]{Integer.MAX_VALUE}, 1);
+
+    // Range i covers starts[i]..ends[i] inclusive, both biased. Ranges are sorted and neither overlap nor touch.
+    private final int[] starts;
+    private final int[] ends;
+    // For large sets, the ranges starting in /16 block b are index[b]..index[b + 1] - 1, so a lookup only searches
+    // the few ranges of its own block instead of the whole array. Null for small sets.
+    private final int[] index;
+
+    private IPv4Set(int[] starts, int[] ends, int count) {
+        this.starts = count == starts.length ? starts : Arrays.copyOf(starts, count);
+        this.ends = count == ends.length ? ends : Arrays.copyOf(ends, count);
+        this.index = count >= INDEXED ? buildIndex(this.starts) : null;
+    }
+
+    private static int[] buildIndex(int[] starts) {
+        int[] index = new int[65537];
+        int range = 0;
+        for (int block = 0; block <= 65536; block++) {
+            // Biased start of the block, the last entry is one past the end of the address space
+            long blockStart = ((long) block << 16) + Integer.MIN_VALUE;
+            while (range < starts.length && starts[range] < blockStart) {
+                range++;
+            }
+            index[block] = range;
+        }
+        return index;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static IPv4Set of(IPv4Network network) {
+        return new IPv4Set(new int[]{network.getNetworkAddress() ^ BIAS}, new int[]{network.getBroadcastAddress() ^ BIAS}, 1);
+    }
+
+    // Queries ---------------------------------------------------------------------
+    public boolean contains(int address) {
+        int index = rangeBefore(address ^ BIAS);
+        return index >= 0 && (address ^ BIAS) <= ends[index];
+    }
+
+    public boolean contains(int first, int last) { // True if every address of first..last is in the set
+        int index = rangeBefore(first ^ BIAS);
+        return index >= 0 && (last ^ BIAS) <= ends[index];
+    }
+
+    public boolean contains(IPv4Network network) {
+        return contains(network.getNetworkAddress(), network.getBroadcastAddress());
+    }
+
+    public boolean contains(CharSequence address) { // False if the address cannot be parsed
+        long packed = IPParser.parseIPv4(address);
+        return packed >= 0 && contains((int) packed);
+    }
+
+    public boolean overlaps(IPv4Set other) {
+        int i = 0;
+        int j = 0;
+        while (i < starts.length && j < other.starts.length) {
+            if (ends[i] < other.starts[j]) {
+                i++;
+            } else if (other.ends[j] < starts[i]) {
+                j++;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    public int rangeCount() {
+        return starts.length;
+    }
+
+    public int rangeStart(int index) { // Packed first address of range index
+        return starts[index] ^ BIAS;
+    }
+
+    public int rangeEnd(int index) { // Packed last address of range index
+        return ends[index] ^ BIAS;
+    }
+
+    public long addressCount() {
+        long total = 0;
+        for (int i = 0; i < starts.length; i++) {
+            total += (long) ends[i] - starts[i] + 1;
+        }
+        return total;
+    }
+
+    public Stream<IPv4Network> cidrs() { // Fewest CIDR blocks covering the set, in ascending order
+        return IntStream.range(0, starts.length).boxed()
+                .flatMap(i -> CidrRanges.ipv4RangeStream(starts[i] ^ BIAS, ends[i] ^ BIAS));
+    }
+
+    // Index of the last range starting at or before the biased address, or -1
+    private int rangeBefore(int biased) {
+        int from = 0;
+        int to = starts.length;
+        if (index != null) {
+            int block = (biased ^ BIAS) >>> 16;
+            from = index[block];
+            to = index[block + 1];
+        }
+        int found = Arrays.binarySearch(starts, from, to, biased);
+        return found >= 0 ? found : -found - 2; // One before the insertion point, which may be the last range of an earlier block
+    }
+
+    // Set algebra, each one merge over both range lists ----------------------------------
+    public IPv4Set union(IPv4Set other) {
+        Ranges out = new Ranges(starts.length + other.starts.length);
+        int i = 0;
+        int j = 0;
+        while (i < starts.length || j < other.starts.length) {
+            if (j == other.starts.length || (i < starts.length && starts[i] <= other.starts[j])) {
+                out.append(starts[i], ends[i]);
+                i++;
+            } else {
+                out.append(other.starts[j], other.ends[j]);
+                j++;
+            }
+        }
+        return out.toSet();
+    }
+
+    public IPv4Set intersection(IPv4Set other) {
+        Ranges out = new Ranges(starts.length + other.starts.length);
+        int i = 0;
+        int j = 0;
+        while (i < starts.length && j < other.starts.length) {
+            int start = Math.max(starts[i], other.starts[j]);
+            int end = Math.min(ends[i], other.ends[j]);
+            if (start <= end) {
+                out.append(start, end);
+            }
+            if (ends[i] < other.ends[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return out.toSet();
+    }
+
+    public IPv4Set difference(IPv4Set other) { // Addresses of this set that are not in the other one
+        Ranges out = new Ranges(starts.length + other.starts.length);
+        int j = 0;
+        for (int i = 0; i < starts.length; i++) {
+            long next = starts[i]; // First address of the range not handled yet, as a long to step past the end
+            int end = ends[i];
+            while (j < other.starts.length && other.ends[j] < next) {
+                j++;
+            }
+            for (int k = j; k < other.starts.length && other.starts[k] <= end && next <= end; k++) {
+                if (other.starts[k] > next) {
+                    out.append((int) next, other.starts[k] - 1);
+                }
+                next = (long) other.ends[k] + 1;
+            }
+            if (next <= end) {
+                out.append((int) next, end);
+            }
+        }
+        return out.toSet();
+    }
+
+    public IPv4Set complement() {
+        return ALL.difference(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof IPv4Set)) {
+            return false;
+        }
+        IPv4Set other = (IPv4Set) o;
+        return Arrays.equals(starts, other.starts) && Arrays.equals(ends, other.ends);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(starts) * 31 + Arrays.hashCode(ends);
+    }
+
+    @Override
+    public String toString() { // Ranges as "first-last", single addresses on their own
+        StringBuilder sb = new StringBuilder(starts.length * 32 + 2).append('[');
+        for (int i = 0; i < starts.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            IPv4Network.appendDottedQuad(sb, starts[i] ^ BIAS);
+            if (ends[i] != starts[i]) {
+                IPv4Network.appendDottedQuad(sb.append('-'), ends[i] ^ BIAS);
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    // Output of a merge, touching or overlapping ranges are joined as they are appended in order
+    private static final class Ranges {
+        private final int[] starts;
+        private final int[] ends;
+        private int count;
+
+        Ranges(int capacity) {
+            starts = new int[capacity];
+            ends = new int[capacity];
+        }
+
+        void append(int start, int end) {
+            if (count > 0 && start <= (long) ends[count - 1] + 1) {
+                ends[count - 1] = Math.max(ends[count - 1], end);
+            } else {
+                starts[count] = start;
+                ends[count++] = end;
+            }
+        }
+
+        IPv4Set toSet() {
+            return new IPv4Set(starts, ends, count);
+        }
+    }
+
+    // Builder, not thread safe ---------------------------------------------------------
+    // Ranges are collected as packed start:end longs. When the buffer fills up it is sorted and merged in place,
+    // so adding many overlapping or touching ranges only keeps the distinct ones.
+    public static final class Builder {
+        private long[] ranges = new long[64];
+        private int count;
+        private int merged; // ranges[0..merged) is already sorted and merged
+
+        private Builder() {
+        }
+
+        public Builder add(int address) {
+            return add(address, address);
+        }
+
+        public Builder add(int first, int last) { // Inclusive, ignored if last is below first
+            if (Integer.compareUnsigned(first, last) > 0) {
+                return this;
+            }
+            if (count == ranges.length) {
+                compact();
+                if (count * 2 > ranges.length) {
+                    ranges = Arrays.copyOf(ranges, ranges.length * 2);
+                }
+            }
+            ranges[count++] = ((first & 0xFFFFFFFFL) << 32) | (last & 0xFFFFFFFFL);
+            return this;
+        }
+
+        public Builder add(IPv4Network network) {
+            return add(network.getNetworkAddress(), network.getBroadcastAddress());
+        }
+
+        public Builder addAll(IPv4Set set) {
+            for (int i = 0; i < set.starts.length; i++) {
+                add(set.starts[i] ^ BIAS, set.ends[i] ^ BIAS);
+            }
+            return this;
+        }
+
+        // Add "address", "address/prefix" or "first-last", returns false if the text cannot be parsed
+        public boolean add(CharSequence text) {
+            int length = text.length();
+            for (int i = 0; i < length; i++) {
+                char ch = text.charAt(i);
+                if (ch == '/') {
+                    long packed = IPParser.parseIPv4(text, 0, i);
+                    int prefix = IPParser.parsePrefixLength(text, i + 1, length, 32);
+                    if (packed < 0 || prefix < 0) {
+                        return false;
+                    }
+                    add(IPv4Network.network((int) packed, prefix), IPv4Network.broadcast((int) packed, prefix));
+                    return true;
+                } else if (ch == '-') {
+                    long first = IPParser.parseIPv4(text, 0, i);
+                    long last = IPParser.parseIPv4(text, i + 1, length);
+                    if (first < 0 || last < 0 || first > last) {
+                        return false;
+                    }
+                    add((int) first, (int) last);
+                    return true;
+                }
+            }
+            long packed = IPParser.parseIPv4(text);
+            if (packed < 0) {
+                return false;
+            }
+            add((int) packed);
+            return true;
+        }
+
+        public IPv4Set build() {
+            compact();
+            int[] starts = new int[merged];
+            int[] ends = new int[merged];
+            for (int i = 0; i < merged; i++) {
+                starts[i] = (int) (ranges[i] >>> 32) ^ BIAS;
+                ends[i] = (int) ranges[i] ^ BIAS;
+            }
+            return new IPv4Set(starts, ends, merged);
+        }
+
+        // Sort by start (then end) and join overlapping or touching ranges
+        private void compact() {
+            if (merged == count) {
+                return;
+            }
+            long[] keys = Arrays.copyOf(ranges, count);
+            CidrAggregator.radixSort(keys, new long[count], 64);
+            int out = 0;
+            for (long key : keys) {
+                long start = key >>> 32;
+                long end = key & 0xFFFFFFFFL;
+                if (out > 0 && start <= (ranges[out - 1] & 0xFFFFFFFFL) + 1) {
+                    if (end > (ranges[out - 1] & 0xFFFFFFFFL)) {
+                        ranges[out - 1] = (ranges[out - 1] & 0xFFFFFFFF00000000L) | end;
+                    }
+                } else {
+                    ranges[out++] = key;
+                }
+            }
+            count = out;
+            merged = out;
+        }
+    }
+}
@@ -8,14 +8,20 @@
  * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
  */
 
-import java.net.InetAddress;
 import java.math.BigInteger;
-import java.net.UnknownHostException;
 
 public class IPv6Info extends IPCalculator {
+    private final IPv6Network network; // Parsed once, null if the IP address or prefix length is not valid
 
     public IPv6Info(String ipAddress, int cidrNotation) {
         super(ipAddress, cidrNotation); // Call the constructor of the superclass
+        long started = NetIPMetrics.start();
+        this.network = IPv6Network.parse(ipAddress, cidrNotation);
+        NetIPMetrics.record(NetIPMetrics.Stage.PARSE, started, network != null);
+    }
+
+    public IPv6Network getNetwork() {
+        return network;
     }
 
     @Override
@@ -35,63 +41,40 @@ public class IPv6Info extends IPCalculator {
 
     // Calculate the total number of IPs -------------------------------------------
     public BigInteger calculateTotalIPs() {
-        return BigInteger.valueOf(2).pow(128 - this.cidrNotation); // The total number of IPs is 2^(128 - CIDR notation)
+        return BigInteger.ONE.shiftLeft(128 - this.cidrNotation); // The total number of IPs is 2^(128 - CIDR notation)
     }
 
     // Calculate the network address ----------------------------------------------
     public String calculateNetwork() {
-        try {
-            InetAddress inetAddress = InetAddress.getByName(this.ipAddress);
-            byte[] addressBytes = inetAddress.getAddress();
-            // Apply CIDR mask to the IP address bytes to get the network address
-            int maskFullBytes = this.cidrNotation / 8;
-            int extraBits = this.cidrNotation % 8;
-            for (int i = maskFullBytes; i < addressBytes.length; i++) {
-                if (i == maskFullBytes) {
-                    addressBytes[i] = (byte) (addressBytes[i] & 0xFF << (8 - extraBits));
-                } else addressBytes[i] &= 0x00;
-            }
-            InetAddress networkAddress = InetAddress.getByAddress(addressBytes);
-            return networkAddress.getHostAddress();
-        } catch (UnknownHostException e) {
+        if (network == null) {
             return "Error calculating network";
         }
+        return IPv6Network.toFullString(network.getNetworkHigh(), network.getNetworkLow());
     }
 
     // Calculate the IP range -----------------------------------------------------
     public String calculateRange() {
-        try {
-            InetAddress inetAddress = InetAddress.getByName(this.ipAddress);
-            byte[] addressBytes = inetAddress.getAddress();
-            // Apply CIDR mask to the IP address bytes to get the network address
-            int maskFullBytes = this.cidrNotation / 8;
-            int extraBits = this.cidrNotation % 8;
-            byte[] startAddressBytes = addressBytes.clone();
-            byte[] endAddressBytes = addressBytes.clone();
-            for (int i = maskFullBytes; i < addressBytes.length; i++) {
-                if (i == maskFullBytes) {
-                    startAddressBytes[i] = (byte) (startAddressBytes[i] & (0xFF << (8 - extraBits)));
-                    endAddressBytes[i] = (byte) (endAddressBytes[i] | (0xFF >>> extraBits));
-                } else {
-                    endAddressBytes[i] = (byte) (endAddressBytes[i] | 0xFF);
-                }
-            }
-            InetAddress startAddress = InetAddress.getByAddress(startAddressBytes);
-            InetAddress endAddress = InetAddress.getByAddress(endAddressBytes);
-            return startAddress.getHostAddress() + " - " + endAddress.getHostAddress();
-        } catch (UnknownHostException e) {
+        if (network == null) {
             return "Error calculating range";
         }
+        StringBuilder sb = new StringBuilder(81);
+        IPv6Network.appendFull(sb, network.getNetworkHigh(), network.getNetworkLow()).append(" - ");
+        return IPv6Network.appendFull(sb, network.getLastHigh(), network.getLastLow()).toString();
+    }
+
+    // Calculate the reverse DNS zone ---------------------------------------------
+    public String calculateReverseZone() {
+        if (network == null) {
+            return "Error calculating reverse zone";
+        }
+        return ReverseDns.zoneSummary(ReverseDns.zoneNames(network));
     }
 
     // Calculate the full IP address ------------------------------------------------
     public String calculateFullIPAddress() {
-        try {
-            InetAddress inetAddress = InetAddress.getByName(this.ipAddress);
-            return inetAddress.getHostAddress();
-        } catch (UnknownHostException e) {
+        if (network == null) {
             return "Error calculating full IP address";
         }
-
+        return IPv6Network.toFullString(network.getHigh(), network.getLow());
     }
 }
\ No newline at end of file
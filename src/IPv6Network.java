@@ -0,0 +1,165 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * IPv6Network.java - This class stores an IPv6 address as two 64-bit halves with a prefix length and calculates the network information with plain bit operations.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+public final class IPv6Network {
+    private final long high; // Upper 64 bits of the address
+    private final long low; // Lower 64 bits of the address
+    private final int prefix; // Prefix length between 0 and 128
+
+    private static final String[] TOTAL_ADDRESSES = new String[129]; // Decimal 2^(128 - prefix), filled on first use
+
+    public IPv6Network(long high, long low, int prefix) {
+        if (prefix < 0 || prefix > 128) {
+            throw new IllegalArgumentException("Invalid IPv6 prefix length: " + prefix);
+        }
+        this.high = high;
+        this.low = low;
+        this.prefix = prefix;
+    }
+
+    // Parse an IPv6 address, returns null if the address is not valid
+    public static IPv6Network parse(String ipAddress, int prefix) {
+        if (prefix < 0 || prefix > 128) {
+            return null;
+        }
+        long[] halves = new long[2];
+        if (!parseAddress(ipAddress, halves)) {
+            return null;
+        }
+        return new IPv6Network(halves[0], halves[1], prefix);
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    public int getPrefix() {
+        return prefix;
+    }
+
+    public long getNetworkHigh() {
+        return high & maskHigh(prefix);
+    }
+
+    public long getNetworkLow() {
+        return low & maskLow(prefix);
+    }
+
+    public long getLastHigh() {
+        return high | ~maskHigh(prefix);
+    }
+
+    public long getLastLow() {
+        return low | ~maskLow(prefix);
+    }
+
+    public boolean contains(long ipHigh, long ipLow) {
+        return contains(high, low, prefix, ipHigh, ipLow);
+    }
+
+    public boolean contains(IPv6Network other) { // True if the other network lies completely inside this one
+        return other.prefix >= prefix && contains(other.high, other.low);
+    }
+
+    public Stream<IPv6Network> subnets(int newPrefix) { // Child subnets of length newPrefix, e.g. the /64s of a /48
+        return Subnets.ipv6SubnetStream(this, newPrefix, false);
+    }
+
+    public BigInteger getTotalAddresses() { // Only the printed value needs a BigInteger
+        return BigInteger.ONE.shiftLeft(128 - prefix);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof IPv6Network)) {
+            return false;
+        }
+        IPv6Network other = (IPv6Network) o;
+        return high == other.high && low == other.low && prefix == other.prefix;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high) * 961 + Long.hashCode(low) * 31 + prefix;
+    }
+
+    @Override
+    public String toString() {
+        return toFullString(high, low) + "/" + prefix;
+    }
+
+    // Bit operations on the two halves ------------------------------------------
+    public static long maskHigh(int prefix) { // Mask for the upper half, shifts by 64 need special care
+        if (prefix <= 0) {
+            return 0L;
+        }
+        return prefix >= 64 ? -1L : -1L << (64 - prefix);
+    }
+
+    public static long maskLow(int prefix) { // Mask for the lower half
+        if (prefix <= 64) {
+            return 0L;
+        }
+        return prefix >= 128 ? -1L : -1L << (128 - prefix);
+    }
+
+    public static boolean contains(long netHigh, long netLow, int prefix, long ipHigh, long ipLow) {
+        return ((netHigh ^ ipHigh) & maskHigh(prefix)) == 0 && ((netLow ^ ipLow) & maskLow(prefix)) == 0;
+    }
+
+    public static int compare(long aHigh, long aLow, long bHigh, long bLow) { // Unsigned 128-bit comparison
+        int cmp = Long.compareUnsigned(aHigh, bHigh);
+        return cmp != 0 ? cmp : Long.compareUnsigned(aLow, bLow);
+    }
+
+    public static String totalAddressesText(int prefix) { // Decimal number of addresses, each length is only converted once
+        String text = TOTAL_ADDRESSES[prefix];
+        if (text == null) {
+            text = BigInteger.ONE.shiftLeft(128 - prefix).toString();
+            TOTAL_ADDRESSES[prefix] = text; // Racing threads store equal strings, so no locking is needed
+        }
+        return text;
+    }
+
+    public static long sizeIfFits(int prefix) { // Number of addresses as a long, or -1 if it needs 64 bits or more
+        int hostBits = 128 - prefix;
+        return hostBits < 63 ? 1L << hostBits : -1L;
+    }
+
+    // Parse an IPv6 address into its two halves, returns false if the address is not valid
+    public static boolean parseAddress(CharSequence ip, long[] halves) {
+        return IPParser.parseIPv6(ip, halves) == IPParser.OK;
+    }
+
+    // Convert the halves to the full form used by InetAddress.getHostAddress ----
+    public static String toFullString(long high, long low) {
+        return appendFull(new StringBuilder(39), high, low).toString();
+    }
+
+    public static StringBuilder appendFull(StringBuilder sb, long high, long low) {
+        return AddressFormat.appendIPv6Full(sb, high, low);
+    }
+
+    // Convert the halves to the shortest form recommended by RFC 5952, e.g. 2001:db8::1 -----
+    public static String toCompressedString(long high, long low) {
+        return appendCompressed(new StringBuilder(39), high, low).toString();
+    }
+
+    public static StringBuilder appendCompressed(StringBuilder sb, long high, long low) {
+        return AddressFormat.appendIPv6(sb, high, low);
+    }
+}
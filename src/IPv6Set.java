@@ -0,0 +1,400 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * IPv6Set.java - This class is an immutable set of IPv6 addresses stored as sorted, disjoint ranges of 128-bit high:low pairs.
+ * It has the same membership test and range-merging set algebra as IPv4Set.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public final class IPv6Set {
+    public static final IPv6Set EMPTY = new IPv6Set(new long[0], new long[0], new long[0], new long[0], 0);
+    public static final IPv6Set ALL = new IPv6Set(new long[]{0L}, new long[]{0L}, new long[]{-1L}, new long[]{-1L}, 1);
+
+    // Range i covers startHigh[i]:startLow[i] to endHigh[i]:endLow[i] inclusive. Ranges are sorted and neither overlap nor touch.
+    private final long[] startHigh;
+    private final long[] startLow;
+    private final long[] endHigh;
+    private final long[] endLow;
+
+    private IPv6Set(long[] startHigh, long[] startLow, long[] endHigh, long[] endLow, int count) {
+        this.startHigh = Arrays.copyOf(startHigh, count);
+        this.startLow = Arrays.copyOf(startLow, count);
+        this.endHigh = Arrays.copyOf(endHigh, count);
+        this.endLow = Arrays.copyOf(endLow, count);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static IPv6Set of(IPv6Network network) {
+        return new IPv6Set(new long[]{network.getNetworkHigh()}, new long[]{network.getNetworkLow()},
+                new long[]{network.getLastHigh()}, new long[]{network.getLastLow()}, 1);
+    }
+
+    // Queries ---------------------------------------------------------------------
+    public boolean contains(long high, long low) {
+        int index = rangeBefore(high, low);
+        return index >= 0 && IPv6Network.compare(high, low, endHigh[index], endLow[index]) <= 0;
+    }
+
+    public boolean contains(long firstHigh, long firstLow, long lastHigh, long lastLow) { // True if every address of first..last is in the set
+        int index = rangeBefore(firstHigh, firstLow);
+        return index >= 0 && IPv6Network.compare(lastHigh, lastLow, endHigh[index], endLow[index]) <= 0;
+    }
+
+    public boolean contains(IPv6Network network) {
+        return contains(network.getNetworkHigh(), network.getNetworkLow(), network.getLastHigh(), network.getLastLow());
+    }
+
+    public boolean contains(CharSequence address) { // False if the address cannot be parsed
+        long[] halves = new long[2];
+        return IPParser.parseIPv6(address, halves) == IPParser.OK && contains(halves[0], halves[1]);
+    }
+
+    public boolean overlaps(IPv6Set other) {
+        int i = 0;
+        int j = 0;
+        while (i < startHigh.length && j < other.startHigh.length) {
+            if (IPv6Network.compare(endHigh[i], endLow[i], other.startHigh[j], other.startLow[j]) < 0) {
+                i++;
+            } else if (IPv6Network.compare(other.endHigh[j], other.endLow[j], startHigh[i], startLow[i]) < 0) {
+                j++;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return startHigh.length == 0;
+    }
+
+    public int rangeCount() {
+        return startHigh.length;
+    }
+
+    public long rangeStartHigh(int index) {
+        return startHigh[index];
+    }
+
+    public long rangeStartLow(int index) {
+        return startLow[index];
+    }
+
+    public long rangeEndHigh(int index) {
+        return endHigh[index];
+    }
+
+    public long rangeEndLow(int index) {
+        return endLow[index];
+    }
+
+    public BigInteger addressCount() { // Up to 2^128, so only a BigInteger holds every case
+        BigInteger total = BigInteger.ZERO;
+        for (int i = 0; i < startHigh.length; i++) {
+            long spanLow = endLow[i] - startLow[i];
+            long spanHigh = endHigh[i] - startHigh[i] - (Long.compareUnsigned(endLow[i], startLow[i]) < 0 ? 1 : 0);
+            BigInteger span = new BigInteger(Long.toUnsignedString(spanHigh)).shiftLeft(64)
+                    .add(new BigInteger(Long.toUnsignedString(spanLow)));
+            total = total.add(span).add(BigInteger.ONE);
+        }
+        return total;
+    }
+
+    public Stream<IPv6Network> cidrs() { // Fewest CIDR blocks covering the set, in ascending order
+        return IntStream.range(0, startHigh.length).boxed()
+                .flatMap(i -> CidrRanges.ipv6RangeStream(startHigh[i], startLow[i], endHigh[i], endLow[i]));
+    }
+
+    // Index of the last range starting at or before the address, or -1
+    private int rangeBefore(long high, long low) {
+        int lowIndex = 0;
+        int highIndex = startHigh.length - 1;
+        while (lowIndex <= highIndex) {
+            int mid = (lowIndex + highIndex) >>> 1;
+            if (IPv6Network.compare(startHigh[mid], startLow[mid], high, low) <= 0) {
+                lowIndex = mid + 1;
+            } else {
+                highIndex = mid - 1;
+            }
+        }
+        return highIndex;
+    }
+
+    // Set algebra, each one merge over both range lists ----------------------------------
+    public IPv6Set union(IPv6Set other) {
+        Ranges out = new Ranges(startHigh.length + other.startHigh.length);
+        int i = 0;
+        int j = 0;
+        while (i < startHigh.length || j < other.startHigh.length) {
+            if (j == other.startHigh.length || (i < startHigh.length
+                    && IPv6Network.compare(startHigh[i], startLow[i], other.startHigh[j], other.startLow[j]) <= 0)) {
+                out.append(startHigh[i], startLow[i], endHigh[i], endLow[i]);
+                i++;
+            } else {
+                out.append(other.startHigh[j], other.startLow[j], other.endHigh[j], other.endLow[j]);
+                j++;
+            }
+        }
+        return out.toSet();
+    }
+
+    public IPv6Set intersection(IPv6Set other) {
+        Ranges out = new Ranges(startHigh.length + other.startHigh.length);
+        int i = 0;
+        int j = 0;
+        while (i < startHigh.length && j < other.startHigh.length) {
+            boolean laterStart = IPv6Network.compare(startHigh[i], startLow[i], other.startHigh[j], other.startLow[j]) >= 0;
+            long sh = laterStart ? startHigh[i] : other.startHigh[j];
+            long sl = laterStart ? startLow[i] : other.startLow[j];
+            boolean earlierEnd = IPv6Network.compare(endHigh[i], endLow[i], other.endHigh[j], other.endLow[j]) < 0;
+            long eh = earlierEnd ? endHigh[i] : other.endHigh[j];
+            long el = earlierEnd ? endLow[i] : other.endLow[j];
+            if (IPv6Network.compare(sh, sl, eh, el) <= 0) {
+                out.append(sh, sl, eh, el);
+            }
+            if (earlierEnd) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return out.toSet();
+    }
+
+    public IPv6Set difference(IPv6Set other) { // Addresses of this set that are not in the other one
+        Ranges out = new Ranges(startHigh.length + other.startHigh.length);
+        int j = 0;
+        for (int i = 0; i < startHigh.length; i++) {
+            long nextHigh = startHigh[i]; // First address of the range not handled yet
+            long nextLow = startLow[i];
+            boolean done = false; // Set when the address space ran out
+            while (j < other.startHigh.length && IPv6Network.compare(other.endHigh[j], other.endLow[j], nextHigh, nextLow) < 0) {
+                j++;
+            }
+            for (int k = j; k < other.startHigh.length && !done
+                    && IPv6Network.compare(other.startHigh[k], other.startLow[k], endHigh[i], endLow[i]) <= 0
+                    && IPv6Network.compare(nextHigh, nextLow, endHigh[i], endLow[i]) <= 0; k++) {
+                if (IPv6Network.compare(other.startHigh[k], other.startLow[k], nextHigh, nextLow) > 0) {
+                    long beforeLow = other.startLow[k] - 1;
+                    long beforeHigh = other.startLow[k] == 0 ? other.startHigh[k] - 1 : other.startHigh[k];
+                    out.append(nextHigh, nextLow, beforeHigh, beforeLow);
+                }
+                nextLow = other.endLow[k] + 1;
+                nextHigh = nextLow == 0 ? other.endHigh[k] + 1 : other.endHigh[k];
+                done = nextHigh == 0 && nextLow == 0;
+            }
+            if (!done && IPv6Network.compare(nextHigh, nextLow, endHigh[i], endLow[i]) <= 0) {
+                out.append(nextHigh, nextLow, endHigh[i], endLow[i]);
+            }
+        }
+        return out.toSet();
+    }
+
+    public IPv6Set complement() {
+        return ALL.difference(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof IPv6Set)) {
+            return false;
+        }
+        IPv6Set other = (IPv6Set) o;
+        return Arrays.equals(startHigh, other.startHigh) && Arrays.equals(startLow, other.startLow)
+                && Arrays.equals(endHigh, other.endHigh) && Arrays.equals(endLow, other.endLow);
+    }
+
+    @Override
+    public int hashCode() {
+        return ((Arrays.hashCode(startHigh) * 31 + Arrays.hashCode(startLow)) * 31 + Arrays.hashCode(endHigh)) * 31
+                + Arrays.hashCode(endLow);
+    }
+
+    @Override
+    public String toString() { // Ranges as "first-last", single addresses on their own
+        StringBuilder sb = new StringBuilder(startHigh.length * 80 + 2).append('[');
+        for (int i = 0; i < startHigh.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            IPv6Network.appendFull(sb, startHigh[i], startLow[i]);
+            if (endHigh[i] != startHigh[i] || endLow[i] != startLow[i]) {
+                IPv6Network.appendFull(sb.append('-'), endHigh[i], endLow[i]);
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    // Output of a merge, touching or overlapping ranges are joined as they are appended in order
+    private static final class Ranges {
+        private long[] startHigh;
+        private long[] startLow;
+        private long[] endHigh;
+        private long[] endLow;
+        private int count;
+
+        Ranges(int capacity) {
+            startHigh = new long[capacity];
+            startLow = new long[capacity];
+            endHigh = new long[capacity];
+            endLow = new long[capacity];
+        }
+
+        void append(long sh, long sl, long eh, long el) {
+            if (count > 0 && touches(sh, sl, endHigh[count - 1], endLow[count - 1])) {
+                if (IPv6Network.compare(eh, el, endHigh[count - 1], endLow[count - 1]) > 0) {
+                    endHigh[count - 1] = eh;
+                    endLow[count - 1] = el;
+                }
+                return;
+            }
+            if (count == startHigh.length) {
+                grow(Math.max(16, count * 2));
+            }
+            startHigh[count] = sh;
+            startLow[count] = sl;
+            endHigh[count] = eh;
+            endLow[count++] = el;
+        }
+
+        void grow(int capacity) {
+            startHigh = Arrays.copyOf(startHigh, capacity);
+            startLow = Arrays.copyOf(startLow, capacity);
+            endHigh = Arrays.copyOf(endHigh, capacity);
+            endLow = Arrays.copyOf(endLow, capacity);
+        }
+
+        IPv6Set toSet() {
+            return new IPv6Set(startHigh, startLow, endHigh, endLow, count);
+        }
+    }
+
+    // True if a range starting at start continues or overlaps a range ending at end, given start is not below the other range's start
+    private static boolean touches(long startHigh, long startLow, long endHigh, long endLow) {
+        if (endHigh == -1L && endLow == -1L) {
+            return true;
+        }
+        long afterLow = endLow + 1;
+        long afterHigh = afterLow == 0 ? endHigh + 1 : endHigh;
+        return IPv6Network.compare(startHigh, startLow, afterHigh, afterLow) <= 0;
+    }
+
+    // Builder, not thread safe ---------------------------------------------------------
+    // Ranges are collected unsorted. When the buffer fills up it is sorted and merged in place,
+    // so adding many overlapping or touching ranges only keeps the distinct ones.
+    public static final class Builder {
+        private final Ranges ranges = new Ranges(64);
+        private int merged; // The first merged ranges are already sorted and merged
+        private final long[] halves = new long[2];
+
+        private Builder() {
+        }
+
+        public Builder add(long high, long low) {
+            return add(high, low, high, low);
+        }
+
+        public Builder add(long firstHigh, long firstLow, long lastHigh, long lastLow) { // Inclusive, ignored if last is below first
+            if (IPv6Network.compare(firstHigh, firstLow, lastHigh, lastLow) > 0) {
+                return this;
+            }
+            Ranges r = ranges;
+            if (r.count == r.startHigh.length) {
+                compact();
+                if (r.count * 2 > r.startHigh.length) {
+                    r.grow(r.startHigh.length * 2);
+                }
+            }
+            r.startHigh[r.count] = firstHigh;
+            r.startLow[r.count] = firstLow;
+            r.endHigh[r.count] = lastHigh;
+            r.endLow[r.count++] = lastLow;
+            return this;
+        }
+
+        public Builder add(IPv6Network network) {
+            return add(network.getNetworkHigh(), network.getNetworkLow(), network.getLastHigh(), network.getLastLow());
+        }
+
+        public Builder addAll(IPv6Set set) {
+            for (int i = 0; i < set.startHigh.length; i++) {
+                add(set.startHigh[i], set.startLow[i], set.endHigh[i], set.endLow[i]);
+            }
+            return this;
+        }
+
+        // Add "address", "address/prefix" or "first-last", returns false if the text cannot be parsed
+        public boolean add(CharSequence text) {
+            int length = text.length();
+            for (int i = 0; i < length; i++) {
+                char ch = text.charAt(i);
+                if (ch == '/') {
+                    int prefix = IPParser.parsePrefixLength(text, i + 1, length, 128);
+                    if (prefix < 0 || IPParser.parseIPv6(text, 0, i, halves) != IPParser.OK) {
+                        return false;
+                    }
+                    add(halves[0] & IPv6Network.maskHigh(prefix), halves[1] & IPv6Network.maskLow(prefix),
+                            halves[0] | ~IPv6Network.maskHigh(prefix), halves[1] | ~IPv6Network.maskLow(prefix));
+                    return true;
+                } else if (ch == '-') {
+                    if (IPParser.parseIPv6(text, 0, i, halves) != IPParser.OK) {
+                        return false;
+                    }
+                    long firstHigh = halves[0];
+                    long firstLow = halves[1];
+                    if (IPParser.parseIPv6(text, i + 1, length, halves) != IPParser.OK
+                            || IPv6Network.compare(firstHigh, firstLow, halves[0], halves[1]) > 0) {
+                        return false;
+                    }
+                    add(firstHigh, firstLow, halves[0], halves[1]);
+                    return true;
+                }
+            }
+            if (IPParser.parseIPv6(text, halves) != IPParser.OK) {
+                return false;
+            }
+            add(halves[0], halves[1]);
+            return true;
+        }
+
+        public IPv6Set build() {
+            compact();
+            return ranges.toSet();
+        }
+
+        // Sort by start and join overlapping or touching ranges, in place
+        private void compact() {
+            Ranges r = ranges;
+            int count = r.count;
+            if (merged == count) {
+                return;
+            }
+            long[] high = Arrays.copyOf(r.startHigh, count);
+            long[] low = Arrays.copyOf(r.startLow, count);
+            long[] endHigh = Arrays.copyOf(r.endHigh, count);
+            long[] endLow = Arrays.copyOf(r.endLow, count);
+            int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            CidrAggregator.radixSort(high, low, order, count);
+            r.count = 0;
+            for (int i = 0; i < count; i++) {
+                int k = order[i];
+                r.append(high[i], low[i], endHigh[k], endLow[k]); // Never grows, the merged ranges fit where the unsorted ones were
+            }
+            merged = r.count;
+        }
+    }
+}
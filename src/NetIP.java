@@ -2,6 +2,8 @@
  *Shawn Falconbury,
  * March 3, 2024,
  * NetIP.java - This program is a subnet calculator that allows the user to input an IPv4 or IPv6 address and subnet mask or prefix length to calculate various network information such as network address, broadcast address, IP class, and more.
+ * Calculations run on a background thread and recalculate shortly after the user stops typing. A newer request cancels the one still running,
+ * and long subnet listings are streamed into the output area in chunks so the window stays responsive.
  * -
  * Additional Sources that were used to assist in the development of this code:
  * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
@@ -9,16 +11,39 @@
  */
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.DefaultCaret;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.datatransfer.StringSelection;
 import java.awt.event.ActionListener;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class NetIP extends JFrame {
+    private static final int LIVE_DELAY_MS = 300; // Quiet time after the last keystroke before a live recalculation
+    private static final int CHUNK_LINES = 256; // Subnet lines per published chunk
+    private static final int MAX_LISTED_SUBNETS = 65536; // A text area with millions of lines gets slow, the rest are only counted
+
     private JTabbedPane tabbedPane;
     private JTextField ipv4AddressField, ipv4SubnetMaskField, ipv6AddressField, ipv6PrefixLengthField;
+    private JTextField ipv4SubnetsField, ipv6SubnetsField;
     private JComboBox<Integer> maskBitsDropdown;
     private JTextArea outputArea;
+    private Timer liveTimer;
+
+    // One background thread for all calculations, only the newest request is shown. currentWorker is only used on the EDT.
+    private final ExecutorService calculator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "netip-calculate");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private CalculationWorker currentWorker;
 
     // Constructor
     public NetIP() {
@@ -66,6 +91,8 @@ public class NetIP extends JFrame {
         // IPv6 Components -----------------------------------------------------------
         ipv6AddressField = new JTextField(15);
         ipv6PrefixLengthField = new JTextField(15);
+        ipv4SubnetsField = new JTextField(15);
+        ipv6SubnetsField = new JTextField(15);
 
         // Buttons -------------------------------------------------------------------
         JButton calculateButtonIPv4 = new JButton("Calculate");
@@ -77,6 +104,7 @@ public class NetIP extends JFrame {
         // Output Area (Text Area) ----------------------------------------------------
         outputArea = new JTextArea(10, 40);
         outputArea.setEditable(false);
+        ((DefaultCaret) outputArea.getCaret()).setUpdatePolicy(DefaultCaret.NEVER_UPDATE); // Stay at the top while subnets stream in
 
         // Adding components to IPv4 Panel -------------------------------------------
         addComponent(ipv4Panel, new JLabel("IP Address:"), 0, 0, c);
@@ -86,6 +114,8 @@ public class NetIP extends JFrame {
         addComponent(ipv4Panel, ipv4SubnetMaskField, 1, 1, c);
         addComponent(ipv4Panel, new JLabel("Mask Bits:"), 0, 2, c);
         addComponent(ipv4Panel, maskBitsDropdown, 1, 2, c);
+        addComponent(ipv4Panel, new JLabel("List Subnets (/n):"), 0, 3, c);
+        addComponent(ipv4Panel, ipv4SubnetsField, 1, 3, c);
 
         // Adding components to IPv6 Panel -------------------------------------------
         addComponent(ipv6Panel, new JLabel("IPv6 Address:"), 0, 0, c);
@@ -93,6 +123,8 @@ public class NetIP extends JFrame {
         addComponent(ipv6Panel, calculateButtonIPv6, 2, 0, c);
         addComponent(ipv6Panel, new JLabel("Prefix Length:"), 0, 1, c);
         addComponent(ipv6Panel, ipv6PrefixLengthField, 1, 1, c);
+        addComponent(ipv6Panel, new JLabel("List Subnets (/n):"), 0, 2, c);
+        addComponent(ipv6Panel, ipv6SubnetsField, 1, 2, c);
 
         // Adding Panels to TabbedPane ----------------------------------------------
         tabbedPane.addTab("IPv4", ipv4Panel);
@@ -111,6 +143,30 @@ public class NetIP extends JFrame {
         closeButton.addActionListener(e -> System.exit(0));
         copyButton.addActionListener(e -> copyToClipboard());
 
+        // Live recalculation, restarted by every edit so it only fires once the user pauses -------
+        liveTimer = new Timer(LIVE_DELAY_MS, e -> calculate(true));
+        liveTimer.setRepeats(false);
+        DocumentListener edits = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                liveTimer.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                liveTimer.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                liveTimer.restart();
+            }
+        };
+        for (JTextField field : new JTextField[]{ipv4AddressField, ipv4SubnetMaskField, ipv4SubnetsField, ipv6AddressField, ipv6PrefixLengthField, ipv6SubnetsField}) {
+            field.getDocument().addDocumentListener(edits);
+        }
+        tabbedPane.addChangeListener(e -> liveTimer.restart());
+
         // Adding components to Frame -----------------------------------------------
         add(tabbedPane, BorderLayout.NORTH);
         add(new JScrollPane(outputArea), BorderLayout.CENTER);
@@ -126,8 +182,12 @@ public class NetIP extends JFrame {
     private void clearFields() {
         ipv4AddressField.setText("");
         ipv4SubnetMaskField.setText("");
+        ipv4SubnetsField.setText("");
         ipv6AddressField.setText("");
         ipv6PrefixLengthField.setText("");
+        ipv6SubnetsField.setText("");
+        liveTimer.stop(); // Clearing the fields restarted it
+        cancelCalculation();
         outputArea.setText("");
     }
     // Copy the output to the system clipboard
@@ -138,33 +198,177 @@ public class NetIP extends JFrame {
     private class CalculateActionListener implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
-            if (tabbedPane.getSelectedIndex() == 0) { // IPv4
-                // Perform IPv4 Calculation ------------------------------------------------
-                String ip = ipv4AddressField.getText();
-                String subnetMask = ipv4SubnetMaskField.getText();
-                int prefixLength = IPv4Info.subnetMaskToPrefixLength(subnetMask); // Convert subnet mask to prefix length
-                if (!IPValidator.validateIPv4Address(ip) || !IPValidator.validateMaskValues(prefixLength)) { // Validate IP and subnet mask
-                    outputArea.setText("Invalid IPv4 Address or Subnet Mask.");
-                    return;
-                }
-                IPv4Info ipv4Info = new IPv4Info(ip, subnetMask); // Create new IPv4Info object
-                outputArea.setText(OutputFormatter.formatIPv4Output(ipv4Info)); // Format the output
-            } else { // IPv6
-                // Perform IPv6 Calculation ------------------------------------------------
-                String ip = ipv6AddressField.getText();
-                int prefixLength;
-                try {
-                    prefixLength = Integer.parseInt(ipv6PrefixLengthField.getText()); // Get prefix length
-                } catch (NumberFormatException ex) {
-                    outputArea.setText("Invalid Prefix Length.");
-                    return;
+            liveTimer.stop(); // The button calculates right away
+            calculate(false);
+        }
+    }
+
+    // Start a calculation of the visible tab. The field values are read here on the EDT and handed to the worker.
+    private void calculate(boolean live) {
+        boolean ipv4 = tabbedPane.getSelectedIndex() == 0;
+        String ip = (ipv4 ? ipv4AddressField : ipv6AddressField).getText();
+        if (live && ip.isEmpty()) { // Nothing typed yet, no point in reporting an invalid address
+            return;
+        }
+        cancelCalculation();
+        outputArea.setText("");
+        currentWorker = ipv4
+                ? new CalculationWorker(true, ip, ipv4SubnetMaskField.getText(), ipv4SubnetsField.getText())
+                : new CalculationWorker(false, ip, ipv6PrefixLengthField.getText(), ipv6SubnetsField.getText());
+        calculator.execute(currentWorker);
+    }
+
+    private void cancelCalculation() {
+        if (currentWorker != null) {
+            currentWorker.cancel(true);
+            currentWorker = null;
+        }
+    }
+
+    // Background calculation ---------------------------------------------------------------
+    // The report is published first, then the subnet listing in chunks of CHUNK_LINES lines. A cancelled or
+    // superseded worker stops at the next chunk, and anything it had already published is dropped in process().
+    private class CalculationWorker extends SwingWorker<Void, String> {
+        private final boolean ipv4;
+        private final String ip;
+        private final String mask; // Subnet mask for IPv4, prefix length for IPv6
+        private final String subnets;
+
+        CalculationWorker(boolean ipv4, String ip, String mask, String subnets) {
+            this.ipv4 = ipv4;
+            this.ip = ip;
+            this.mask = mask;
+            this.subnets = subnets.trim();
+        }
+
+        @Override
+        protected Void doInBackground() {
+            if (ipv4) {
+                calculateIPv4();
+            } else {
+                calculateIPv6();
+            }
+            return null;
+        }
+
+        // Perform IPv4 Calculation ------------------------------------------------
+        private void calculateIPv4() {
+            int prefixLength = IPv4Info.subnetMaskToPrefixLength(mask); // Convert subnet mask to prefix length
+            if (!IPValidator.validateIPv4Address(ip) || !IPValidator.validateMaskValues(prefixLength)) { // Validate IP and subnet mask
+                publish("Invalid IPv4 Address or Subnet Mask.");
+                return;
+            }
+            IPv4Info ipv4Info = new IPv4Info(ip, mask); // Create new IPv4Info object
+            publish(OutputFormatter.formatIPv4Output(ipv4Info)); // Format the output
+            int newPrefix = subnetPrefix(32);
+            if (newPrefix >= 0) {
+                listIPv4Subnets(ipv4Info.getNetwork(), newPrefix);
+            }
+        }
+
+        // Perform IPv6 Calculation ------------------------------------------------
+        private void calculateIPv6() {
+            int prefixLength;
+            try {
+                prefixLength = Integer.parseInt(mask); // Get prefix length
+            } catch (NumberFormatException ex) {
+                publish("Invalid Prefix Length.");
+                return;
+            }
+            if (!IPValidator.validateIPv6Address(ip)) { // Validate IPv6 address
+                publish("Invalid IPv6 Address.");
+                return;
+            }
+            IPv6Info ipv6Info = new IPv6Info(ip, prefixLength);
+            publish(OutputFormatter.formatIPv6Output(ipv6Info)); // Format the output
+            int newPrefix = subnetPrefix(128);
+            if (newPrefix >= 0 && ipv6Info.getNetwork() != null) {
+                listIPv6Subnets(ipv6Info.getNetwork(), newPrefix);
+            }
+        }
+
+        // The "List Subnets" prefix length, written as 26 or /26. -1 when the field is empty or invalid.
+        private int subnetPrefix(int max) {
+            if (subnets.isEmpty()) {
+                return -1;
+            }
+            int from = subnets.charAt(0) == '/' ? 1 : 0;
+            int newPrefix = IPParser.parsePrefixLength(subnets, from, subnets.length(), max);
+            if (newPrefix < 0) {
+                publish("\n\nInvalid subnet prefix length: " + subnets);
+            }
+            return newPrefix;
+        }
+
+        private void listIPv4Subnets(IPv4Network network, int newPrefix) {
+            if (newPrefix < network.getPrefix()) {
+                publish("\n\nCannot split /" + network.getPrefix() + " into /" + newPrefix + ".");
+                return;
+            }
+            long total = 1L << (newPrefix - network.getPrefix());
+            StringBuilder chunk = new StringBuilder(CHUNK_LINES * 20);
+            chunk.append("\n\nSubnets (/").append(newPrefix).append("): ").append(total);
+            Spliterator.OfInt addresses = Subnets.ipv4Subnets(network, newPrefix);
+            int listed = 0;
+            while (listed < MAX_LISTED_SUBNETS && !isCancelled()
+                    && addresses.tryAdvance((int address) -> AddressFormat.appendDottedQuad(chunk.append('\n'), address).append('/').append(newPrefix))) {
+                if (++listed % CHUNK_LINES == 0) {
+                    publish(chunk.toString());
+                    chunk.setLength(0);
                 }
-                if (!IPValidator.validateIPv6Address(ip)) { // Validate IPv6 address
-                    outputArea.setText("Invalid IPv6 Address.");
-                    return;
+            }
+            if (listed < total && !isCancelled()) {
+                chunk.append("\n... ").append(total - listed).append(" more");
+            }
+            publish(chunk.toString());
+        }
+
+        private void listIPv6Subnets(IPv6Network network, int newPrefix) {
+            if (newPrefix < network.getPrefix()) {
+                publish("\n\nCannot split /" + network.getPrefix() + " into /" + newPrefix + ".");
+                return;
+            }
+            BigInteger total = BigInteger.ONE.shiftLeft(newPrefix - network.getPrefix());
+            StringBuilder chunk = new StringBuilder(CHUNK_LINES * 48);
+            chunk.append("\n\nSubnets (/").append(newPrefix).append("): ").append(total);
+            // More than 2^64 children cannot be enumerated by index, but only the first MAX_LISTED_SUBNETS are shown anyway
+            IPv6Network first = new IPv6Network(network.getNetworkHigh(), network.getNetworkLow(), Math.max(network.getPrefix(), newPrefix - 64));
+            Spliterator<IPv6Network> children = Subnets.ipv6Subnets(first, newPrefix);
+            int listed = 0;
+            while (listed < MAX_LISTED_SUBNETS && !isCancelled()
+                    && children.tryAdvance(child -> AddressFormat.appendIPv6(chunk.append('\n'), child.getNetworkHigh(), child.getNetworkLow()).append('/').append(newPrefix))) {
+                if (++listed % CHUNK_LINES == 0) {
+                    publish(chunk.toString());
+                    chunk.setLength(0);
                 }
-                IPv6Info ipv6Info = new IPv6Info(ip, prefixLength);
-                outputArea.setText(OutputFormatter.formatIPv6Output(ipv6Info)); // Format the output
+            }
+            if (total.compareTo(BigInteger.valueOf(listed)) > 0 && !isCancelled()) {
+                chunk.append("\n... ").append(total.subtract(BigInteger.valueOf(listed))).append(" more");
+            }
+            publish(chunk.toString());
+        }
+
+        @Override
+        protected void process(List<String> chunks) { // On the EDT
+            if (this != currentWorker || isCancelled()) {
+                return; // A newer request owns the output area
+            }
+            for (String chunk : chunks) {
+                outputArea.append(chunk);
+            }
+        }
+
+        @Override
+        protected void done() { // On the EDT
+            if (this != currentWorker || isCancelled()) {
+                return;
+            }
+            try {
+                get();
+            } catch (ExecutionException ex) {
+                outputArea.append("\n\nCalculation failed: " + ex.getCause().getMessage());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
             }
         }
     }
@@ -0,0 +1,618 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * NetIPBatch.java - This program is the headless batch mode of the subnet calculator. It reads "address/prefix" or "address mask" lines
+ * from a file or standard input and streams the calculated network information out as CSV, TSV or JSON Lines.
+ * Input and output go through fixed-size NIO buffers, so memory use does not grow with the size of the input.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class NetIPBatch {
+    static final int BUFFER_SIZE = 1 << 16; // Also the longest line that is accepted and the input handed to a worker at a time
+
+    public enum Format { CSV, TSV, JSONL }
+
+    private final Format format;
+    private final int threads;
+    private long records;
+    private long errors;
+
+    public NetIPBatch(Format format) {
+        this(format, 1);
+    }
+
+    public NetIPBatch(Format format, int threads) { // 0 uses every available core
+        this.format = format;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    // Stream every line of the input channel to the output channel -----------------
+    public void run(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        if (threads > 1) {
+            runParallel(in, out);
+            return;
+        }
+        RecordFormatter formatter = new RecordFormatter(format);
+        ByteBuffer input = ByteBuffer.allocate(BUFFER_SIZE);
+        ByteBuffer output = ByteBuffer.allocate(BUFFER_SIZE);
+        StringBuilder line = new StringBuilder(512);
+        formatter.appendHeader(line);
+        put(line, output, out);
+        boolean eof = false;
+        boolean skipping = false; // Inside a line that did not fit into the buffer
+        while (!eof || input.position() > 0) {
+            if (!eof && in.read(input) < 0) {
+                eof = true;
+            }
+            input.flip();
+            byte[] bytes = input.array();
+            int start = input.position();
+            int limit = input.limit();
+            for (int i = start; i < limit; i++) { // One batch is every complete line in the buffer
+                if (bytes[i] == '\n') {
+                    if (!skipping) {
+                        count(formatter.appendLine(bytes, start, i, line));
+                        put(line, output, out);
+                    }
+                    skipping = false;
+                    start = i + 1;
+                }
+            }
+            if (eof && start < limit) { // Last line without a line break
+                if (!skipping) {
+                    count(formatter.appendLine(bytes, start, limit, line));
+                    put(line, output, out);
+                }
+                start = limit;
+            }
+            input.position(start);
+            input.compact();
+            if (!input.hasRemaining()) { // The buffer holds one incomplete line, report it once and drop the rest of it
+                if (!skipping) {
+                    count(formatter.appendError(bytes, 0, 64, "Line too long", line));
+                    put(line, output, out);
+                }
+                input.clear();
+                skipping = true;
+            }
+        }
+        output.flip();
+        while (output.hasRemaining()) {
+            out.write(output);
+        }
+    }
+
+    private void count(int result) {
+        if (result != RecordFormatter.SKIPPED) {
+            records++;
+            if (result == RecordFormatter.ERROR) {
+                errors++;
+            }
+        }
+    }
+
+    // Copy the formatted line into the output buffer, flushing it when full
+    private static void put(StringBuilder line, ByteBuffer output, WritableByteChannel out) throws IOException {
+        int length = line.length();
+        for (int i = 0; i < length; i++) {
+            if (!output.hasRemaining()) {
+                output.flip();
+                while (output.hasRemaining()) {
+                    out.write(output);
+                }
+                output.clear();
+            }
+            output.put((byte) line.charAt(i)); // Everything written is ASCII, input bytes are copied unchanged
+        }
+        line.setLength(0);
+    }
+
+    // Parallel mode -------------------------------------------------------------------
+    // The calling thread cuts the input into chunks of whole lines and hands them to a fixed worker pool.
+    // Results are written strictly in submission order, and at most two chunks per worker are in flight,
+    // so the output matches the serial mode and memory stays bounded. Chunks and their buffers are recycled.
+    private static final class Chunk {
+        final byte[] input = new byte[BUFFER_SIZE];
+        int length;
+        boolean tooLong; // The chunk is the start of a single line that does not fit into it
+        byte[] output = new byte[BUFFER_SIZE * 4]; // Grows to fit the widest output format
+        int outputLength;
+        long records;
+        long errors;
+    }
+
+    private static final class Worker { // Per-thread reusable state
+        final RecordFormatter formatter;
+        final StringBuilder line = new StringBuilder(512);
+
+        Worker(Format format) {
+            formatter = new RecordFormatter(format);
+        }
+
+        Chunk process(Chunk chunk) {
+            chunk.outputLength = 0;
+            chunk.records = 0;
+            chunk.errors = 0;
+            byte[] bytes = chunk.input;
+            if (chunk.tooLong) {
+                add(chunk, formatter.appendError(bytes, 0, 64, "Line too long", line));
+                return chunk;
+            }
+            int start = 0;
+            for (int i = 0; i < chunk.length; i++) {
+                if (bytes[i] == '\n') {
+                    add(chunk, formatter.appendLine(bytes, start, i, line));
+                    start = i + 1;
+                }
+            }
+            if (start < chunk.length) { // Only the last chunk ends without a line break
+                add(chunk, formatter.appendLine(bytes, start, chunk.length, line));
+            }
+            return chunk;
+        }
+
+        private void add(Chunk chunk, int result) {
+            if (result != RecordFormatter.SKIPPED) {
+                chunk.records++;
+                if (result == RecordFormatter.ERROR) {
+                    chunk.errors++;
+                }
+            }
+            int length = line.length();
+            if (chunk.outputLength + length > chunk.output.length) {
+                chunk.output = Arrays.copyOf(chunk.output, Math.max(chunk.output.length * 2, chunk.outputLength + length));
+            }
+            for (int i = 0; i < length; i++) {
+                chunk.output[chunk.outputLength++] = (byte) line.charAt(i);
+            }
+            line.setLength(0);
+        }
+    }
+
+    private void runParallel(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "netip-batch-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ThreadLocal<Worker> workers = ThreadLocal.withInitial(() -> new Worker(format));
+        int maxInFlight = threads * 2;
+        ArrayDeque<Chunk> free = new ArrayDeque<>();
+        ArrayDeque<Future<Chunk>> pending = new ArrayDeque<>();
+        byte[] carry = new byte[BUFFER_SIZE]; // Partial line left at the end of the previous chunk
+        int carryLength = 0;
+        boolean skipping = false;
+        boolean eof = false;
+        try {
+            StringBuilder header = new StringBuilder();
+            new RecordFormatter(format).appendHeader(header);
+            ByteBuffer headerBytes = ByteBuffer.wrap(header.toString().getBytes(StandardCharsets.US_ASCII));
+            while (headerBytes.hasRemaining()) {
+                out.write(headerBytes);
+            }
+            while (!eof) {
+                Chunk chunk = free.isEmpty() ? new Chunk() : free.pop();
+                System.arraycopy(carry, 0, chunk.input, 0, carryLength);
+                chunk.length = carryLength;
+                chunk.tooLong = false;
+                carryLength = 0;
+                ByteBuffer target = ByteBuffer.wrap(chunk.input);
+                target.position(chunk.length);
+                while (target.hasRemaining()) {
+                    if (in.read(target) < 0) {
+                        eof = true;
+                        break;
+                    }
+                    if (skipping) { // Drop the rest of an over-long line
+                        int newline = indexOf(chunk.input, 0, target.position(), (byte) '\n');
+                        if (newline < 0) {
+                            target.clear();
+                            continue;
+                        }
+                        int remaining = target.position() - newline - 1;
+                        System.arraycopy(chunk.input, newline + 1, chunk.input, 0, remaining);
+                        target.position(remaining);
+                        skipping = false;
+                    }
+                }
+                chunk.length = target.position();
+                if (!eof) {
+                    int lastNewline = lastIndexOf(chunk.input, chunk.length, (byte) '\n');
+                    if (lastNewline < 0) {
+                        chunk.tooLong = true;
+                        skipping = true;
+                    } else {
+                        carryLength = chunk.length - lastNewline - 1;
+                        System.arraycopy(chunk.input, lastNewline + 1, carry, 0, carryLength);
+                        chunk.length = lastNewline + 1;
+                    }
+                }
+                pending.add(pool.submit(() -> workers.get().process(chunk)));
+                if (pending.size() >= maxInFlight) {
+                    free.push(write(pending.poll(), out));
+                }
+            }
+            while (!pending.isEmpty()) {
+                write(pending.poll(), out);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Chunk write(Future<Chunk> future, WritableByteChannel out) throws IOException {
+        Chunk chunk;
+        try {
+            chunk = future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a worker");
+        } catch (ExecutionException ex) {
+            throw new IOException("Worker failed", ex.getCause());
+        }
+        records += chunk.records;
+        errors += chunk.errors;
+        ByteBuffer buffer = ByteBuffer.wrap(chunk.output, 0, chunk.outputLength);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        return chunk;
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(byte[] bytes, int to, byte value) {
+        for (int i = to - 1; i >= 0; i--) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Formats one record per line, the buffers are reused so each worker needs its own instance
+    static final class RecordFormatter {
+        static final String[] COLUMNS = {"input", "version", "address", "prefix", "network", "broadcast", "first_host", "last_host",
+                "total_hosts", "usable_hosts", "subnet_mask", "wildcard_mask", "binary_mask", "class", "type", "error"};
+
+        static final int SKIPPED = 0; // Blank line or comment
+        static final int OK = 1;
+        static final int ERROR = 2;
+
+        private final Format format;
+        private final long[] halves = new long[2];
+        private boolean first; // No field written yet on the current line
+
+        RecordFormatter(Format format) {
+            this.format = format;
+        }
+
+        void appendHeader(StringBuilder sb) {
+            if (format == Format.JSONL) {
+                return;
+            }
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    sb.append(format == Format.CSV ? ',' : '\t');
+                }
+                sb.append(COLUMNS[i]);
+            }
+            sb.append('\n');
+        }
+
+        // Trim one input line and format it unless it is blank or a comment, returns SKIPPED, OK or ERROR
+        int appendLine(byte[] bytes, int from, int to, StringBuilder sb) {
+            while (to > from && bytes[to - 1] <= ' ') { // Trailing blanks and '\r'
+                to--;
+            }
+            while (from < to && bytes[from] <= ' ') {
+                from++;
+            }
+            if (from == to || bytes[from] == '#') {
+                return SKIPPED;
+            }
+            return appendRecord(bytes, from, to, sb);
+        }
+
+        // Parse and calculate one "address/prefix", "address mask" or "address prefix" record
+        int appendRecord(byte[] bytes, int from, int to, StringBuilder sb) {
+            int split = -1; // Position of the '/' or the blank between the address and the mask
+            boolean ipv6 = false;
+            for (int i = from; i < to; i++) {
+                byte b = bytes[i];
+                if (b == ':') {
+                    ipv6 = true;
+                } else if (b == '/' || b == ' ' || b == '\t' || b == ',') {
+                    split = i;
+                    break;
+                }
+            }
+            int addressEnd = split < 0 ? to : split;
+            int maskStart = split + 1;
+            while (split >= 0 && maskStart < to && (bytes[maskStart] == ' ' || bytes[maskStart] == '\t')) {
+                maskStart++;
+            }
+            if (ipv6) {
+                int code = IPParser.parseIPv6(bytes, from, addressEnd, halves);
+                if (code != IPParser.OK) {
+                    return appendError(bytes, from, to, IPParser.describe(code), sb);
+                }
+                int prefix = split < 0 ? 128 : IPParser.parsePrefixLength(bytes, maskStart, to, 128);
+                if (prefix < 0) {
+                    return appendError(bytes, from, to, "Invalid prefix length", sb);
+                }
+                appendIPv6(bytes, from, to, halves[0], halves[1], prefix, sb);
+                return OK;
+            }
+            long address = IPParser.parseIPv4(bytes, from, addressEnd);
+            if (address < 0) {
+                return appendError(bytes, from, to, IPParser.describe((int) address), sb);
+            }
+            int prefix = 32;
+            if (split >= 0) {
+                long mask = IPParser.parseIPv4(bytes, maskStart, to);
+                prefix = mask >= 0 ? IPv4Network.prefixLength((int) mask) : IPParser.parsePrefixLength(bytes, maskStart, to, 32);
+                if (prefix < 0) {
+                    return appendError(bytes, from, to, "Invalid subnet mask", sb);
+                }
+            }
+            appendIPv4(bytes, from, to, (int) address, prefix, sb);
+            return OK;
+        }
+
+        // Same fields as OutputFormatter.formatIPv4Output
+        void appendIPv4(byte[] bytes, int from, int to, int address, int prefix, StringBuilder sb) {
+            begin(sb);
+            input(sb, bytes, from, to);
+            key(sb, 1).append('4');
+            AddressFormat.appendDottedQuad(text(sb, 2), address);
+            close(sb);
+            key(sb, 3).append(prefix);
+            AddressFormat.appendDottedQuad(text(sb, 4), IPv4Network.network(address, prefix));
+            close(sb);
+            AddressFormat.appendDottedQuad(text(sb, 5), IPv4Network.broadcast(address, prefix));
+            close(sb);
+            AddressFormat.appendDottedQuad(text(sb, 6), IPv4Network.firstHost(address, prefix));
+            close(sb);
+            AddressFormat.appendDottedQuad(text(sb, 7), IPv4Network.lastHost(address, prefix));
+            close(sb);
+            key(sb, 8).append(1L << (32 - prefix));
+            key(sb, 9).append(IPv4Network.usableHosts(prefix));
+            AddressFormat.appendDottedQuad(text(sb, 10), IPv4Network.mask(prefix));
+            close(sb);
+            AddressFormat.appendDottedQuad(text(sb, 11), ~IPv4Network.mask(prefix));
+            close(sb);
+            AddressFormat.appendBinary(text(sb, 12), IPv4Network.mask(prefix));
+            close(sb);
+            text(sb, 13).append(IPv4Network.ipClass(address));
+            close(sb);
+            text(sb, 14).append(IPv4Network.isPrivate(address) ? "Private" : "Public");
+            close(sb);
+            empty(sb, 15);
+            end(sb);
+        }
+
+        // Same fields as OutputFormatter.formatIPv6Output, the range goes into first_host and last_host
+        void appendIPv6(byte[] bytes, int from, int to, long high, long low, int prefix, StringBuilder sb) {
+            begin(sb);
+            input(sb, bytes, from, to);
+            key(sb, 1).append('6');
+            AddressFormat.appendIPv6Full(text(sb, 2), high, low);
+            close(sb);
+            key(sb, 3).append(prefix);
+            long networkHigh = high & IPv6Network.maskHigh(prefix);
+            long networkLow = low & IPv6Network.maskLow(prefix);
+            AddressFormat.appendIPv6Full(text(sb, 4), networkHigh, networkLow);
+            close(sb);
+            empty(sb, 5);
+            AddressFormat.appendIPv6Full(text(sb, 6), networkHigh, networkLow);
+            close(sb);
+            AddressFormat.appendIPv6Full(text(sb, 7), high | ~IPv6Network.maskHigh(prefix), low | ~IPv6Network.maskLow(prefix));
+            close(sb);
+            text(sb, 8).append(IPv6Network.totalAddressesText(prefix)); // A string, up to 2^128 does not fit a JSON number
+            close(sb);
+            for (int column = 9; column < COLUMNS.length; column++) {
+                empty(sb, column);
+            }
+            end(sb);
+        }
+
+        int appendError(byte[] bytes, int from, int to, String message, StringBuilder sb) {
+            begin(sb);
+            input(sb, bytes, from, to);
+            for (int column = 1; column < COLUMNS.length - 1; column++) {
+                empty(sb, column);
+            }
+            text(sb, COLUMNS.length - 1).append(message);
+            close(sb);
+            end(sb);
+            return ERROR;
+        }
+
+        // Field helpers, CSV and TSV leave empty columns, JSON Lines leaves the key out -----
+        private void begin(StringBuilder sb) {
+            first = true;
+            if (format == Format.JSONL) {
+                sb.append('{');
+            }
+        }
+
+        private void end(StringBuilder sb) {
+            if (format == Format.JSONL) {
+                sb.append('}');
+            }
+            sb.append('\n');
+        }
+
+        private StringBuilder key(StringBuilder sb, int column) {
+            if (format == Format.JSONL) {
+                sb.append(first ? "\"" : ",\"").append(COLUMNS[column]).append("\":");
+            } else if (!first) {
+                sb.append(format == Format.CSV ? ',' : '\t');
+            }
+            first = false;
+            return sb;
+        }
+
+        private StringBuilder text(StringBuilder sb, int column) { // Opens a string value
+            key(sb, column);
+            if (format == Format.JSONL) {
+                sb.append('"');
+            }
+            return sb;
+        }
+
+        private void close(StringBuilder sb) {
+            if (format == Format.JSONL) {
+                sb.append('"');
+            }
+        }
+
+        private void empty(StringBuilder sb, int column) {
+            if (format != Format.JSONL) {
+                key(sb, column);
+            }
+        }
+
+        private void input(StringBuilder sb, byte[] bytes, int from, int to) { // The raw line, escaped for the output format
+            text(sb, 0);
+            boolean quote = false;
+            if (format == Format.CSV) {
+                for (int i = from; i < to && !quote; i++) {
+                    quote = bytes[i] == ',' || bytes[i] == '"';
+                }
+                if (quote) {
+                    sb.append('"');
+                }
+            }
+            for (int i = from; i < to; i++) {
+                int ch = bytes[i] & 0xFF;
+                if (ch < ' ' || ch > '~') {
+                    ch = ch == '\t' ? ' ' : '?'; // Keep the output plain ASCII and free of column separators
+                } else if (format == Format.JSONL && (ch == '"' || ch == '\\')) {
+                    sb.append('\\');
+                } else if (quote && ch == '"') {
+                    sb.append('"');
+                }
+                sb.append((char) ch);
+            }
+            if (quote) {
+                sb.append('"');
+            }
+            close(sb);
+        }
+    }
+
+    // Command line -----------------------------------------------------------------
+    public static void main(String[] args) {
+        Format format = Format.CSV;
+        String inputPath = null;
+        String outputPath = null;
+        int threads = 1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--format":
+                case "-f":
+                    if (i + 1 == args.length) {
+                        usage("Missing value for " + args[i]);
+                    }
+                    try {
+                        format = Format.valueOf(args[++i].toUpperCase());
+                    } catch (IllegalArgumentException ex) {
+                        usage("Unknown format: " + args[i]);
+                    }
+                    break;
+                case "--output":
+                case "-o":
+                    if (i + 1 == args.length) {
+                        usage("Missing value for " + args[i]);
+                    }
+                    outputPath = args[++i];
+                    break;
+                case "--threads":
+                case "-t":
+                    if (i + 1 == args.length) {
+                        usage("Missing value for " + args[i]);
+                    }
+                    try {
+                        threads = Integer.parseInt(args[++i]);
+                    } catch (NumberFormatException ex) {
+                        usage("Invalid thread count: " + args[i]);
+                    }
+                    break;
+                case "--help":
+                case "-h":
+                    usage(null);
+                    break;
+                default:
+                    if (inputPath != null) {
+                        usage("Only one input file can be given");
+                    }
+                    inputPath = args[i];
+            }
+        }
+        NetIPBatch batch = new NetIPBatch(format, threads);
+        try (ReadableByteChannel in = inputPath == null || inputPath.equals("-")
+                ? new FileInputStream(FileDescriptor.in).getChannel()
+                : FileChannel.open(Paths.get(inputPath), StandardOpenOption.READ);
+             WritableByteChannel out = outputPath == null
+                     ? new FileOutputStream(FileDescriptor.out).getChannel()
+                     : FileChannel.open(Paths.get(outputPath), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            batch.run(in, out);
+        } catch (IOException ex) {
+            System.err.println("NetIP batch failed: " + ex.getMessage() + (ex.getCause() != null ? " (" + ex.getCause() + ")" : ""));
+            System.exit(2);
+        }
+        if (batch.getErrors() > 0) {
+            System.err.println(batch.getErrors() + " of " + batch.getRecords() + " records could not be calculated.");
+            System.exit(1);
+        }
+    }
+
+    private static void usage(String error) {
+        if (error != null) {
+            System.err.println(error);
+        }
+        System.err.println("Usage: java -cp out NetIPBatch [--format csv|tsv|jsonl] [--threads N] [--output FILE] [INPUT|-]");
+        System.err.println("--threads 0 uses every core; the output order always matches the input order.");
+        System.err.println("Each input line is \"address/prefix\", \"address mask\" or a bare address; lines starting with # are skipped.");
+        System.exit(error == null ? 0 : 2);
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * NetIPCli.java - This class is the headless command line entry point for scripts: one calculation per call, printed as the same report the window shows.
+ * It only touches the parser, IPv4Info/IPv6Info and OutputFormatter, so no AWT or Swing class is ever loaded. The path from main to the printed
+ * report also avoids lambdas and "+" string concatenation, whose bootstrap methods would cost more at startup than the calculation itself.
+ * Together with an AppCDS archive or a native image (see the README) a call finishes in a few milliseconds.
+ * Usage: java NetIPCli ADDRESS/PREFIX | ADDRESS MASK | ADDRESS PREFIX
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+public final class NetIPCli {
+    static final int EXIT_OK = 0;
+    static final int EXIT_INVALID = 1; // The address, mask or prefix is not valid
+    static final int EXIT_USAGE = 2;
+
+    private NetIPCli() {
+    }
+
+    public static void main(String[] args) {
+        StringBuilder out = new StringBuilder(512);
+        int status = run(args, out);
+        if (status == EXIT_OK) {
+            System.out.print(out);
+        } else {
+            System.err.print(out);
+        }
+        System.out.flush();
+        System.exit(status);
+    }
+
+    // Formats the report (or the error message) into out and returns the exit status
+    static int run(String[] args, StringBuilder out) {
+        String address;
+        String mask;
+        if (args.length == 1 && args[0].indexOf('/') >= 0) {
+            int slash = args[0].indexOf('/');
+            address = args[0].substring(0, slash);
+            mask = args[0].substring(slash + 1);
+        } else if (args.length == 1 || args.length == 2) {
+            address = args[0];
+            mask = args.length == 2 ? args[1] : null; // A bare address is a host route, /32 or /128
+        } else {
+            out.append("Usage: java -cp out NetIPCli ADDRESS/PREFIX | ADDRESS MASK | ADDRESS PREFIX\n");
+            return EXIT_USAGE;
+        }
+        if (address.indexOf(':') >= 0) {
+            int prefix = mask == null ? 128 : IPParser.parsePrefixLength(mask, 0, mask.length(), 128);
+            if (!IPValidator.validateIPv6Address(address)) {
+                out.append("Invalid IPv6 Address: ").append(address).append('\n');
+                return EXIT_INVALID;
+            }
+            if (prefix < 0) {
+                out.append("Invalid Prefix Length: ").append(mask).append('\n');
+                return EXIT_INVALID;
+            }
+            OutputFormatter.appendIPv6Output(out, new IPv6Info(address, prefix)).append('\n');
+            return EXIT_OK;
+        }
+        if (!IPValidator.validateIPv4Address(address)) {
+            out.append("Invalid IPv4 Address: ").append(address).append('\n');
+            return EXIT_INVALID;
+        }
+        int prefix = 32;
+        if (mask != null) { // Dotted-quad subnet mask or prefix length, like the batch input
+            long maskBits = IPParser.parseIPv4(mask);
+            prefix = maskBits >= 0 ? IPv4Network.prefixLength((int) maskBits) : IPParser.parsePrefixLength(mask, 0, mask.length(), 32);
+        }
+        if (prefix < 0) {
+            out.append("Invalid Subnet Mask: ").append(mask).append('\n');
+            return EXIT_INVALID;
+        }
+        OutputFormatter.appendIPv4Output(out, new IPv4Info(address, prefix)).append('\n');
+        return EXIT_OK;
+    }
+}
@@ -0,0 +1,352 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * NetIPMetrics.java - This class counts and times the stages of a calculation: validation, parsing, calculation, formatting and HTTP requests.
+ * Every stage keeps a call count, an error count and a latency histogram with log-linear buckets (about 12% wide, like an HDR histogram),
+ * all in LongAdders so that many threads can record at once without contending. Registered result caches report their hits and misses too.
+ * The numbers are published as a JMX MBean named NetIP:type=Metrics and as a plain text dump.
+ * Metrics are off unless the JVM is started with -Dnetip.metrics=true. The flag is a static final field, so when it is off
+ * the JIT removes the timing calls from the calculation code entirely.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanParameterInfo;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class NetIPMetrics {
+    public static final boolean ENABLED = Boolean.getBoolean("netip.metrics");
+    public static final String OBJECT_NAME = "NetIP:type=Metrics";
+
+    // The measured stages. CALCULATE is the mask, prefix and class work in the IPCalculator constructors,
+    // PARSE is the address parse that IPv4Info and IPv6Info do after it, so the two never overlap.
+    public enum Stage {
+        VALIDATE, PARSE, CALCULATE, FORMAT, REQUEST;
+
+        final String label = name().toLowerCase(Locale.ROOT);
+    }
+
+    private static final List<CacheEntry> CACHES = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger CACHE_IDS = new AtomicInteger();
+
+    static {
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsBean(), new ObjectName(OBJECT_NAME));
+            } catch (JMException | SecurityException ex) {
+                System.err.println("NetIP metrics are not published over JMX: " + ex); // The text dump still works
+            }
+        }
+    }
+
+    private NetIPMetrics() {
+    }
+
+    // The histograms are created on first use, so a short run with metrics off (such as NetIPCli) never builds them
+    private static final class Histograms {
+        static final Histogram[] BY_STAGE = new Histogram[Stage.values().length];
+
+        static {
+            for (int i = 0; i < BY_STAGE.length; i++) {
+                BY_STAGE[i] = new Histogram();
+            }
+        }
+    }
+
+    // Recording -------------------------------------------------------------------------
+    // Usage: long started = NetIPMetrics.start(); ... NetIPMetrics.record(Stage.FORMAT, started, ok);
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    public static void record(Stage stage, long startNanos, boolean ok) {
+        if (!ENABLED) {
+            return;
+        }
+        Histograms.BY_STAGE[stage.ordinal()].record(System.nanoTime() - startNanos, ok);
+    }
+
+    // Caches are held weakly, a cache that is no longer used drops out of the report
+    public static void registerCache(String name, ResultCache<?> cache) {
+        if (!ENABLED) {
+            return;
+        }
+        CACHES.removeIf(entry -> entry.cache.get() == null);
+        CACHES.add(new CacheEntry(name + "-" + CACHE_IDS.incrementAndGet(), cache));
+    }
+
+    public static void reset() {
+        for (Histogram histogram : Histograms.BY_STAGE) {
+            histogram.reset();
+        }
+    }
+
+    // Reading ---------------------------------------------------------------------------
+    public static long count(Stage stage) {
+        return Histograms.BY_STAGE[stage.ordinal()].count();
+    }
+
+    public static long errorCount(Stage stage) {
+        return Histograms.BY_STAGE[stage.ordinal()].errors.sum();
+    }
+
+    public static double meanNanos(Stage stage) {
+        Histogram histogram = Histograms.BY_STAGE[stage.ordinal()];
+        long count = histogram.count();
+        return count == 0 ? 0.0 : (double) histogram.totalNanos.sum() / count;
+    }
+
+    public static long maxNanos(Stage stage) {
+        return Histograms.BY_STAGE[stage.ordinal()].max.get();
+    }
+
+    // Upper bound of the bucket holding the given quantile (0.5 for the median), never more than the largest value seen
+    public static long percentileNanos(Stage stage, double quantile) {
+        return Histograms.BY_STAGE[stage.ordinal()].percentile(quantile);
+    }
+
+    public static String dump() {
+        return appendDump(new StringBuilder(1024)).toString();
+    }
+
+    public static StringBuilder appendDump(StringBuilder sb) {
+        sb.append(String.format(Locale.ROOT, "%-10s %12s %10s %10s %10s %10s %10s %10s %12s%n",
+                "stage", "count", "errors", "mean ns", "p50 ns", "p90 ns", "p99 ns", "p99.9 ns", "max ns"));
+        for (Stage stage : Stage.values()) {
+            sb.append(String.format(Locale.ROOT, "%-10s %12d %10d %10.1f %10d %10d %10d %10d %12d%n",
+                    stage.label, count(stage), errorCount(stage), meanNanos(stage), percentileNanos(stage, 0.5),
+                    percentileNanos(stage, 0.9), percentileNanos(stage, 0.99), percentileNanos(stage, 0.999), maxNanos(stage)));
+        }
+        for (CacheEntry entry : CACHES) {
+            ResultCache<?> cache = entry.cache.get();
+            if (cache != null) {
+                sb.append(String.format(Locale.ROOT, "cache %s: size=%d/%d hits=%d misses=%d evictions=%d hitRate=%.3f%n",
+                        entry.name, cache.size(), cache.maximumSize(), cache.hitCount(), cache.missCount(),
+                        cache.evictionCount(), cache.hitRate()));
+            }
+        }
+        if (!ENABLED) {
+            sb.append("(metrics are off, start the JVM with -Dnetip.metrics=true)\n");
+        }
+        return sb;
+    }
+
+    // Histogram -------------------------------------------------------------------------
+    // Values below 8 get a bucket each. Above that every power of two is split into 8 equal sub-buckets, so a bucket
+    // is at most 1/8 of its lower bound wide. 488 buckets cover every positive long.
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return value < 0 ? 0 : (int) value; // nanoTime never goes backwards on one thread, but be safe
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    private static final class Histogram {
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+        Histogram() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos, boolean ok) {
+            buckets[bucket(nanos)].increment();
+            totalNanos.add(nanos);
+            max.accumulate(nanos);
+            if (!ok) {
+                errors.increment();
+            }
+        }
+
+        long count() { // The count is the bucket total, which saves one more adder on every record
+            long count = 0;
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        long percentile(double quantile) {
+            long[] counts = new long[BUCKETS];
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets[i].sum();
+                count += counts[i];
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), max.get());
+                }
+            }
+            return max.get();
+        }
+
+        void reset() {
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+            totalNanos.reset();
+            errors.reset();
+            max.reset();
+        }
+    }
+
+    private static final class CacheEntry {
+        final String name;
+        final WeakReference<ResultCache<?>> cache;
+
+        CacheEntry(String name, ResultCache<?> cache) {
+            this.name = name;
+            this.cache = new WeakReference<>(cache);
+        }
+    }
+
+    // JMX --------------------------------------------------------------------------------
+    // A dynamic MBean, so every stage and every registered cache shows up as its own set of attributes:
+    // validateCount, validateErrors, validateMeanNanos, validateP99Nanos, ... and cache.<name>.hits, ...
+    private static final class MetricsBean implements DynamicMBean {
+        private static final String[] STAGE_ATTRIBUTES = {"Count", "Errors", "MeanNanos", "P50Nanos", "P90Nanos", "P99Nanos", "P999Nanos", "MaxNanos"};
+        private static final String[] CACHE_ATTRIBUTES = {"size", "hits", "misses", "evictions", "hitRate"};
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            for (Stage stage : Stage.values()) {
+                if (attribute.startsWith(stage.label)) {
+                    switch (attribute.substring(stage.label.length())) {
+                        case "Count": return count(stage);
+                        case "Errors": return errorCount(stage);
+                        case "MeanNanos": return meanNanos(stage);
+                        case "P50Nanos": return percentileNanos(stage, 0.5);
+                        case "P90Nanos": return percentileNanos(stage, 0.9);
+                        case "P99Nanos": return percentileNanos(stage, 0.99);
+                        case "P999Nanos": return percentileNanos(stage, 0.999);
+                        case "MaxNanos": return maxNanos(stage);
+                        default: break;
+                    }
+                }
+            }
+            for (CacheEntry entry : CACHES) {
+                ResultCache<?> cache = entry.cache.get();
+                String prefix = "cache." + entry.name + ".";
+                if (cache != null && attribute.startsWith(prefix)) {
+                    switch (attribute.substring(prefix.length())) {
+                        case "size": return cache.size();
+                        case "hits": return cache.hitCount();
+                        case "misses": return cache.missCount();
+                        case "evictions": return cache.evictionCount();
+                        case "hitRate": return cache.hitRate();
+                        default: break;
+                    }
+                }
+            }
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            AttributeList list = new AttributeList();
+            for (String name : attributes) {
+                try {
+                    list.add(new Attribute(name, getAttribute(name)));
+                } catch (AttributeNotFoundException ex) {
+                    // Left out, as the DynamicMBean contract allows
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Read-only: " + attribute.getName());
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String operation, Object[] params, String[] signature) throws ReflectionException {
+            switch (operation) {
+                case "reset":
+                    reset();
+                    return null;
+                case "dump":
+                    return dump();
+                default:
+                    throw new ReflectionException(new NoSuchMethodException(operation));
+            }
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            List<MBeanAttributeInfo> attributes = new ArrayList<>();
+            for (Stage stage : Stage.values()) {
+                for (String suffix : STAGE_ATTRIBUTES) {
+                    String type = suffix.equals("MeanNanos") ? "double" : "long";
+                    attributes.add(new MBeanAttributeInfo(stage.label + suffix, type, stage.label + " " + suffix, true, false, false));
+                }
+            }
+            for (CacheEntry entry : CACHES) {
+                if (entry.cache.get() != null) {
+                    for (String suffix : CACHE_ATTRIBUTES) {
+                        String type = suffix.equals("size") ? "int" : suffix.equals("hitRate") ? "double" : "long";
+                        String name = "cache." + entry.name + "." + suffix;
+                        attributes.add(new MBeanAttributeInfo(name, type, name, true, false, false));
+                    }
+                }
+            }
+            MBeanOperationInfo[] operations = {
+                    new MBeanOperationInfo("reset", "Clears the stage counters and histograms", new MBeanParameterInfo[0], "void", MBeanOperationInfo.ACTION),
+                    new MBeanOperationInfo("dump", "The text report", new MBeanParameterInfo[0], "java.lang.String", MBeanOperationInfo.INFO)
+            };
+            return new MBeanInfo(NetIPMetrics.class.getName(), "NetIP calculation metrics",
+                    attributes.toArray(new MBeanAttributeInfo[0]), null, operations, null);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * NetIPServer.java - This program serves the subnet calculations over HTTP as JSON, using the HttpServer built into the JDK.
+ * GET /calculate?input=10.0.0.1/24 returns the same fields as a NetIPBatch JSON Lines record, GET /contains checks whether
+ * a network contains an address or another network, POST /batch streams a whole batch body back as it is calculated,
+ * and GET /metrics returns the NetIPMetrics text dump.
+ * Each request runs on its own virtual thread when the JDK has them (21 and later) and on a pooled thread otherwise.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class NetIPServer {
+    private static final int MAX_QUERY_INPUT = 512; // Longest single address or prefix accepted in a query string
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public NetIPServer(InetSocketAddress address) throws IOException {
+        this.server = HttpServer.create(address, 1024);
+        this.executor = newRequestExecutor();
+        server.setExecutor(executor);
+        route("/calculate", "GET", this::calculate);
+        route("/contains", "GET", this::contains);
+        route("/batch", "POST", this::batch);
+        route("/metrics", "GET", NetIPServer::metrics);
+        route("/health", "GET", exchange -> respond(exchange, 200, "{\"status\":\"ok\"}"));
+    }
+
+    void route(String path, String method, Handler handler) { // Every endpoint goes through handle for its method check, errors and metrics
+        server.createContext(path, exchange -> handle(exchange, method, handler));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop(int delaySeconds) { // Waits up to the delay for running requests, then closes the socket
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    public int getPort() { // The bound port, useful when the server was created on port 0
+        return server.getAddress().getPort();
+    }
+
+    // One virtual thread per request on JDK 21 and later. The project targets Java 17, so the factory is looked up by reflection.
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            int threads = Math.max(4, 4 * Runtime.getRuntime().availableProcessors()); // Requests rarely block, a few threads per core is enough
+            return Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "netip-http");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    // Handlers ---------------------------------------------------------------------------
+    interface Handler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+
+    private static void handle(HttpExchange exchange, String method, Handler handler) throws IOException {
+        long started = NetIPMetrics.start();
+        boolean failed = false;
+        try {
+            if (!exchange.getRequestMethod().equals(method)) {
+                exchange.getResponseHeaders().set("Allow", method);
+                respond(exchange, 405, error("Use " + method));
+                return;
+            }
+            handler.handle(exchange);
+        } catch (IllegalArgumentException ex) {
+            respond(exchange, 400, error(ex.getMessage()));
+        } catch (RuntimeException | IOException ex) { // A 500 while the headers are unsent, otherwise the client sees the stream cut off
+            failed = true;
+            if (exchange.getResponseCode() < 0) {
+                respond(exchange, 500, error("Internal error"));
+            }
+        } finally {
+            exchange.close();
+            int status = exchange.getResponseCode(); // -1 if no response was ever sent
+            NetIPMetrics.record(NetIPMetrics.Stage.REQUEST, started, !failed && status > 0 && status < 400);
+        }
+    }
+
+    // GET /calculate?input=address/prefix (or "address mask"), the result is one JSON object
+    private void calculate(HttpExchange exchange) throws IOException {
+        String input = parameter(exchange, "input");
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        StringBuilder sb = new StringBuilder(512);
+        int result = new NetIPBatch.RecordFormatter(NetIPBatch.Format.JSONL).appendRecord(bytes, 0, bytes.length, sb);
+        sb.setLength(sb.length() - 1); // Drop the line break of the JSON Lines record
+        respond(exchange, result == NetIPBatch.RecordFormatter.OK ? 200 : 400, sb.toString());
+    }
+
+    // GET /contains?network=10.0.0.0/8&address=10.1.2.3, the address may also be a network such as 10.1.0.0/16
+    private void contains(HttpExchange exchange) throws IOException {
+        Map<String, String> query = query(exchange);
+        String network = required(query, "network");
+        String address = required(query, "address");
+        boolean contains;
+        if (network.indexOf(':') >= 0) {
+            IPv6Network outer = parseIPv6(network, "network");
+            IPv6Network inner = parseIPv6(address.indexOf('/') >= 0 ? address : address + "/128", "address");
+            contains = outer.contains(inner);
+        } else {
+            IPv4Network outer = parseIPv4(network, "network");
+            IPv4Network inner = parseIPv4(address.indexOf('/') >= 0 ? address : address + "/32", "address");
+            contains = inner.getPrefix() >= outer.getPrefix() && outer.contains(inner.getAddress());
+        }
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("{\"network\":");
+        quote(sb, network).append(",\"address\":");
+        quote(sb, address).append(",\"contains\":").append(contains).append('}');
+        respond(exchange, 200, sb.toString());
+    }
+
+    // POST /batch?format=jsonl|csv|tsv with one record per line, the results stream back while the body is still being read
+    private void batch(HttpExchange exchange) throws IOException {
+        String formatName = query(exchange).getOrDefault("format", "jsonl");
+        NetIPBatch.Format format;
+        try {
+            format = NetIPBatch.Format.valueOf(formatName.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown format: " + formatName);
+        }
+        exchange.getResponseHeaders().set("Content-Type", format == NetIPBatch.Format.JSONL ? "application/x-ndjson"
+                : format == NetIPBatch.Format.CSV ? "text/csv" : "text/tab-separated-values");
+        exchange.sendResponseHeaders(200, 0); // Chunked, the length is not known up front
+        try (InputStream in = exchange.getRequestBody(); OutputStream out = exchange.getResponseBody()) {
+            new NetIPBatch(format).run(Channels.newChannel(in), Channels.newChannel(out));
+        }
+    }
+
+    // GET /metrics, the NetIPMetrics text dump (all zero unless the server runs with -Dnetip.metrics=true)
+    private static void metrics(HttpExchange exchange) throws IOException {
+        byte[] body = NetIPMetrics.dump().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // Request and response helpers ---------------------------------------------------------
+    private static IPv4Network parseIPv4(String cidr, String name) {
+        int slash = cidr.indexOf('/');
+        int prefix = slash < 0 ? -1 : IPParser.parsePrefixLength(cidr, slash + 1, cidr.length(), 32);
+        long address = slash < 0 ? -1 : IPParser.parseIPv4(cidr, 0, slash);
+        if (prefix < 0 || address < 0) {
+            throw new IllegalArgumentException("Invalid IPv4 " + name + ": " + cidr);
+        }
+        return new IPv4Network((int) address, prefix);
+    }
+
+    private static IPv6Network parseIPv6(String cidr, String name) {
+        int slash = cidr.indexOf('/');
+        long[] halves = new long[2];
+        int prefix = slash < 0 ? -1 : IPParser.parsePrefixLength(cidr, slash + 1, cidr.length(), 128);
+        if (prefix < 0 || IPParser.parseIPv6(cidr, 0, slash, halves) != IPParser.OK) {
+            throw new IllegalArgumentException("Invalid IPv6 " + name + ": " + cidr);
+        }
+        return new IPv6Network(halves[0], halves[1], prefix);
+    }
+
+    private static String parameter(HttpExchange exchange, String name) {
+        return required(query(exchange), name);
+    }
+
+    private static String required(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        if (value.length() > MAX_QUERY_INPUT) {
+            throw new IllegalArgumentException("Parameter too long: " + name);
+        }
+        return value;
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> values = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return values;
+        }
+        for (String pair : raw.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            values.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    private static StringBuilder quote(StringBuilder sb, String text) { // JSON string, control characters dropped
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == '"' || ch == '\\') {
+                sb.append('\\').append(ch);
+            } else if (ch >= ' ') {
+                sb.append(ch);
+            }
+        }
+        return sb.append('"');
+    }
+
+    private static String error(String message) {
+        return quote(new StringBuilder(64).append("{\"error\":"), message).append('}').toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // Command line -------------------------------------------------------------------------
+    public static void main(String[] args) throws IOException {
+        String host = "127.0.0.1"; // Only local clients unless another address is given
+        int port = 8080;
+        for (int i = 0; i < args.length; i++) {
+            if ((args[i].equals("--port") || args[i].equals("-p")) && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            } else if ((args[i].equals("--bind") || args[i].equals("-b")) && i + 1 < args.length) {
+                host = args[++i];
+            } else {
+                System.err.println("Usage: java -cp out NetIPServer [--port 8080] [--bind 127.0.0.1]");
+                System.exit(2);
+            }
+        }
+        // Small JSON responses are written as headers plus body; without TCP_NODELAY, Nagle's algorithm and delayed ACKs hold many
+        // keep-alive responses back for tens of milliseconds. The JDK reads the property once, before its first server is created.
+        // It is JVM-wide, so only the standalone server sets it; an application embedding NetIPServer passes -Dsun.net.httpserver.nodelay=true.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        NetIPServer server = new NetIPServer(new InetSocketAddress(host, port));
+        server.start();
+        System.err.println("NetIP service listening on http://" + host + ":" + server.getPort() + "/");
+    }
+}
@@ -13,29 +13,77 @@ public class OutputFormatter {
 
     // Format the output for IPv4 addresses ------------------------------------------------
     public static String formatIPv4Output(IPv4Info ipv4Info) {
-        StringJoiner sj = new StringJoiner("\n");
-        sj.add("IP Address: " + ipv4Info.getIpAddress());
-        sj.add("Network Address: " + ipv4Info.calculateNetworkAddress());
-        sj.add("Usable Host IP Range: " + ipv4Info.calculateUsableHostIPRange());
-        sj.add("Total Number of Hosts: " + ipv4Info.calculateTotalHosts());
-        sj.add("Number of Usable Hosts: " + (ipv4Info.calculateTotalHosts() - 2));
-        sj.add("Subnet Mask: " + ipv4Info.getSubnetMask());
-        sj.add("Wildcard Mask: " + ipv4Info.calculateWildcardMask());
-        sj.add("Binary Subnet Mask: " + ipv4Info.calculateBinarySubnetMask());
-        sj.add("IP Class: " + ipv4Info.calculateIPClass());
-        sj.add("CIDR Notation: /" + ipv4Info.calculateCIDRNotation());
-        sj.add("IP Type: " + (ipv4Info.isPrivate() ? "Private" : "Public"));
-        sj.add("Broadcast Address: " + ipv4Info.calculateBroadcastAddress());
-        return sj.toString();
+        return appendIPv4Output(new StringBuilder(384), ipv4Info).toString();
+    }
+
+    // Append the same report to a reusable builder, nothing else is allocated for a valid address
+    public static StringBuilder appendIPv4Output(StringBuilder sb, IPv4Info ipv4Info) {
+        long started = NetIPMetrics.start();
+        appendIPv4Report(sb, ipv4Info);
+        NetIPMetrics.record(NetIPMetrics.Stage.FORMAT, started, ipv4Info.getNetwork() != null);
+        return sb;
+    }
+
+    private static StringBuilder appendIPv4Report(StringBuilder sb, IPv4Info ipv4Info) {
+        IPv4Network network = ipv4Info.getNetwork();
+        if (network == null) { // Not a valid dotted-quad address, each field reports its own error
+            StringJoiner sj = new StringJoiner("\n");
+            sj.add("IP Address: " + ipv4Info.getIpAddress());
+            sj.add("Network Address: " + ipv4Info.calculateNetworkAddress());
+            sj.add("Usable Host IP Range: " + ipv4Info.calculateUsableHostIPRange());
+            sj.add("Total Number of Hosts: " + ipv4Info.calculateTotalHosts());
+            sj.add("Number of Usable Hosts: " + ipv4Info.calculateUsableHosts());
+            sj.add("Subnet Mask: " + ipv4Info.getSubnetMask());
+            sj.add("Wildcard Mask: " + ipv4Info.calculateWildcardMask());
+            sj.add("Binary Subnet Mask: " + ipv4Info.calculateBinarySubnetMask());
+            sj.add("IP Class: " + ipv4Info.calculateIPClass());
+            sj.add("CIDR Notation: /" + ipv4Info.calculateCIDRNotation());
+            sj.add("IP Type: " + (ipv4Info.isPrivate() ? "Private" : "Public"));
+            sj.add("Broadcast Address: " + ipv4Info.calculateBroadcastAddress());
+            return sb.append(sj);
+        }
+        sb.append("IP Address: ").append(ipv4Info.getIpAddress());
+        AddressFormat.appendDottedQuad(sb.append("\nNetwork Address: "), network.getNetworkAddress());
+        AddressFormat.appendDottedQuad(sb.append("\nUsable Host IP Range: "), network.getFirstHost());
+        AddressFormat.appendDottedQuad(sb.append(" - "), network.getLastHost());
+        sb.append("\nTotal Number of Hosts: ").append(network.getTotalAddresses());
+        sb.append("\nNumber of Usable Hosts: ").append(network.getUsableHosts());
+        AddressFormat.appendDottedQuad(sb.append("\nSubnet Mask: "), network.getSubnetMask());
+        AddressFormat.appendDottedQuad(sb.append("\nWildcard Mask: "), network.getWildcardMask());
+        AddressFormat.appendBinary(sb.append("\nBinary Subnet Mask: "), network.getSubnetMask());
+        sb.append("\nIP Class: ").append(network.getIPClass());
+        sb.append("\nCIDR Notation: /").append(network.getPrefix());
+        sb.append("\nIP Type: ").append(network.isPrivate() ? "Private" : "Public");
+        return AddressFormat.appendDottedQuad(sb.append("\nBroadcast Address: "), network.getBroadcastAddress());
     }
     // Format the output for IPv6 addresses ------------------------------------------------
     public static String formatIPv6Output(IPv6Info ipv6Info) {
-        StringJoiner sj = new StringJoiner("\n");
-        sj.add("IP Address: " + ipv6Info.getIpAddress());
-        sj.add("Full IP Address: " + ipv6Info.calculateFullIPAddress());
-        sj.add("Total IP Addresses: " + ipv6Info.calculateTotalIPs());
-        sj.add("Network: " + ipv6Info.calculateNetwork());
-        sj.add("IP Range: " + ipv6Info.calculateRange());
-        return sj.toString();
+        return appendIPv6Output(new StringBuilder(256), ipv6Info).toString();
+    }
+
+    public static StringBuilder appendIPv6Output(StringBuilder sb, IPv6Info ipv6Info) {
+        long started = NetIPMetrics.start();
+        appendIPv6Report(sb, ipv6Info);
+        NetIPMetrics.record(NetIPMetrics.Stage.FORMAT, started, ipv6Info.getNetwork() != null);
+        return sb;
+    }
+
+    private static StringBuilder appendIPv6Report(StringBuilder sb, IPv6Info ipv6Info) {
+        IPv6Network network = ipv6Info.getNetwork();
+        if (network == null) {
+            StringJoiner sj = new StringJoiner("\n");
+            sj.add("IP Address: " + ipv6Info.getIpAddress());
+            sj.add("Full IP Address: " + ipv6Info.calculateFullIPAddress());
+            sj.add("Total IP Addresses: " + ipv6Info.calculateTotalIPs());
+            sj.add("Network: " + ipv6Info.calculateNetwork());
+            sj.add("IP Range: " + ipv6Info.calculateRange());
+            return sb.append(sj);
+        }
+        sb.append("IP Address: ").append(ipv6Info.getIpAddress());
+        AddressFormat.appendIPv6Full(sb.append("\nFull IP Address: "), network.getHigh(), network.getLow());
+        sb.append("\nTotal IP Addresses: ").append(IPv6Network.totalAddressesText(network.getPrefix()));
+        AddressFormat.appendIPv6Full(sb.append("\nNetwork: "), network.getNetworkHigh(), network.getNetworkLow());
+        AddressFormat.appendIPv6Full(sb.append("\nIP Range: "), network.getNetworkHigh(), network.getNetworkLow());
+        return AddressFormat.appendIPv6Full(sb.append(" - "), network.getLastHigh(), network.getLastLow());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,486 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * OverlapDetector.java - This program finds every duplicate, containment and partial overlap in a large inventory of IPv4 and IPv6 prefixes and ranges.
+ * The entries are kept in primitive arrays and radix-sorted by first address (longest range first on ties), then a sweep line walks them
+ * once: every entry that is still open when another one starts overlaps it, so the work is linear in the entries plus the pairs reported.
+ * The parallel mode cuts the sorted entries into slices, seeds each slice with the entries still open at its start and sweeps the slices
+ * on several threads. Pairs are handed to a sink as they are found, and the command line prints them as tab-separated lines.
+ * Usage: java OverlapDetector [--parallel THREADS] [INPUT|-]
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class OverlapDetector {
+
+    public enum Kind {
+        DUPLICATE, // Both entries cover exactly the same addresses
+        CONTAINS, // The first entry covers all of the second one
+        OVERLAPS // The entries share addresses but neither covers the other, only possible with ranges
+    }
+
+    // Receives each pair as entry ids (the order the entries were added in). In the parallel mode it is called from several threads at once.
+    public interface PairSink {
+        void accept(Kind kind, int first, int second);
+    }
+
+    private final Group ipv4 = new Group(false);
+    private final Group ipv6 = new Group(true);
+    private int size;
+    private int[] positions; // Entry id to sorted position, IPv6 entries stored as ~position
+    private boolean sorted;
+
+    public int size() {
+        return size;
+    }
+
+    // Adding entries, each call returns the id of the new entry -------------------------------
+    public int addIPv4(int first, int last) { // Inclusive range
+        if (Integer.compareUnsigned(first, last) > 0) {
+            throw new IllegalArgumentException("Range ends before it starts");
+        }
+        ipv4.add(0L, first & 0xFFFFFFFFL, 0L, last & 0xFFFFFFFFL, size);
+        sorted = false;
+        return size++;
+    }
+
+    public int add(IPv4Network network) {
+        return addIPv4(network.getNetworkAddress(), network.getBroadcastAddress());
+    }
+
+    public int addIPv6(long firstHigh, long firstLow, long lastHigh, long lastLow) {
+        if (IPv6Network.compare(firstHigh, firstLow, lastHigh, lastLow) > 0) {
+            throw new IllegalArgumentException("Range ends before it starts");
+        }
+        ipv6.add(firstHigh, firstLow, lastHigh, lastLow, size);
+        sorted = false;
+        return size++;
+    }
+
+    public int add(IPv6Network network) {
+        return addIPv6(network.getNetworkHigh(), network.getNetworkLow(), network.getLastHigh(), network.getLastLow());
+    }
+
+    // An address, address/prefix or first-last range of either family. Returns the id, or -1 if the text is not valid.
+    public int add(CharSequence text, int from, int to) {
+        int dash = -1;
+        int slash = -1;
+        boolean ipv6Text = false;
+        for (int i = from; i < to; i++) {
+            char ch = text.charAt(i);
+            if (ch == '-') {
+                dash = i;
+            } else if (ch == '/') {
+                slash = i;
+            } else if (ch == ':') {
+                ipv6Text = true;
+            }
+        }
+        if (dash >= 0 && slash >= 0) {
+            return -1;
+        }
+        if (!ipv6Text) {
+            if (dash >= 0) {
+                long first = IPParser.parseIPv4(text, from, dash);
+                long last = IPParser.parseIPv4(text, dash + 1, to);
+                return first < 0 || last < 0 || first > last ? -1 : addIPv4((int) first, (int) last);
+            }
+            int prefix = slash < 0 ? 32 : IPParser.parsePrefixLength(text, slash + 1, to, 32);
+            long address = IPParser.parseIPv4(text, from, slash < 0 ? to : slash);
+            if (prefix < 0 || address < 0) {
+                return -1;
+            }
+            return addIPv4(IPv4Network.network((int) address, prefix), IPv4Network.broadcast((int) address, prefix));
+        }
+        long[] first = new long[2];
+        if (dash >= 0) {
+            long[] last = new long[2];
+            if (IPParser.parseIPv6(text, from, dash, first) != IPParser.OK || IPParser.parseIPv6(text, dash + 1, to, last) != IPParser.OK
+                    || IPv6Network.compare(first[0], first[1], last[0], last[1]) > 0) {
+                return -1;
+            }
+            return addIPv6(first[0], first[1], last[0], last[1]);
+        }
+        int prefix = slash < 0 ? 128 : IPParser.parsePrefixLength(text, slash + 1, to, 128);
+        if (prefix < 0 || IPParser.parseIPv6(text, from, slash < 0 ? to : slash, first) != IPParser.OK) {
+            return -1;
+        }
+        long high = first[0] & IPv6Network.maskHigh(prefix);
+        long low = first[1] & IPv6Network.maskLow(prefix);
+        return addIPv6(high, low, high | ~IPv6Network.maskHigh(prefix), low | ~IPv6Network.maskLow(prefix));
+    }
+
+    // Writes an entry as address/prefix when it is one CIDR block and as first-last otherwise
+    public StringBuilder appendEntry(StringBuilder sb, int id) {
+        sort();
+        int position = positions[id];
+        Group group = position >= 0 ? ipv4 : ipv6;
+        return group.append(sb, position >= 0 ? position : ~position);
+    }
+
+    // Detection -------------------------------------------------------------------------------
+    public void detect(PairSink sink) {
+        sort();
+        ipv4.sweep(0, ipv4.count, new int[0], sink);
+        ipv6.sweep(0, ipv6.count, new int[0], sink);
+    }
+
+    // The same pairs, found on up to the given number of threads (in a different order)
+    public void detect(PairSink sink, int threads) throws InterruptedException {
+        if (threads <= 1) {
+            detect(sink);
+            return;
+        }
+        sort();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "netip-overlap");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Callable<Void>> slices = new ArrayList<>();
+            ipv4.slice(threads * 4, sink, slices); // A few slices per thread, the pairs are rarely spread evenly
+            ipv6.slice(threads * 4, sink, slices);
+            for (Future<Void> result : executor.invokeAll(slices)) {
+                result.get();
+            }
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void sort() {
+        if (sorted) {
+            return;
+        }
+        ipv4.sort();
+        ipv6.sort();
+        positions = new int[size];
+        for (int i = 0; i < ipv4.count; i++) {
+            positions[ipv4.ids[i]] = i;
+        }
+        for (int i = 0; i < ipv6.count; i++) {
+            positions[ipv6.ids[i]] = ~i;
+        }
+        sorted = true;
+    }
+
+    // Entries of one address family -------------------------------------------------------------
+    // Addresses are 128-bit high:low pairs. IPv4 lives in the low half and its high arrays stay null.
+    private static final class Group {
+        private final boolean ipv6;
+        private long[] firstHigh;
+        private long[] firstLow = new long[16];
+        private long[] lastHigh;
+        private long[] lastLow = new long[16];
+        private int[] ids = new int[16];
+        private int count;
+
+        Group(boolean ipv6) {
+            this.ipv6 = ipv6;
+            if (ipv6) {
+                firstHigh = new long[16];
+                lastHigh = new long[16];
+            }
+        }
+
+        void add(long fh, long fl, long lh, long ll, int id) {
+            if (count == ids.length) {
+                int capacity = count * 2;
+                firstLow = Arrays.copyOf(firstLow, capacity);
+                lastLow = Arrays.copyOf(lastLow, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+                if (ipv6) {
+                    firstHigh = Arrays.copyOf(firstHigh, capacity);
+                    lastHigh = Arrays.copyOf(lastHigh, capacity);
+                }
+            }
+            if (ipv6) {
+                firstHigh[count] = fh;
+                lastHigh[count] = lh;
+            }
+            firstLow[count] = fl;
+            lastLow[count] = ll;
+            ids[count++] = id;
+        }
+
+        private long firstHigh(int i) {
+            return ipv6 ? firstHigh[i] : 0L;
+        }
+
+        private long lastHigh(int i) {
+            return ipv6 ? lastHigh[i] : 0L;
+        }
+
+        // By first address, and the longest range first among entries with the same first address,
+        // so an entry is always sorted after every entry that contains it
+        void sort() {
+            if (count < 2) {
+                return;
+            }
+            if (!ipv6) { // One 64-bit key: first address above, inverted last address below
+                long[] keys = new long[count];
+                for (int i = 0; i < count; i++) {
+                    keys[i] = firstLow[i] << 32 | (~lastLow[i] & 0xFFFFFFFFL);
+                }
+                CidrAggregator.radixSort(new long[count], keys, ids, count); // The high halves are all zero and their passes are skipped
+                for (int i = 0; i < count; i++) {
+                    firstLow[i] = keys[i] >>> 32;
+                    lastLow[i] = ~keys[i] & 0xFFFFFFFFL;
+                }
+                return;
+            }
+            int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            CidrAggregator.radixSort(firstHigh, firstLow, order, count);
+            long[] sortedHigh = new long[count];
+            long[] sortedLow = new long[count];
+            int[] sortedIds = new int[count];
+            for (int i = 0; i < count; i++) {
+                sortedHigh[i] = lastHigh[order[i]];
+                sortedLow[i] = lastLow[order[i]];
+                sortedIds[i] = ids[order[i]];
+            }
+            lastHigh = sortedHigh;
+            lastLow = sortedLow;
+            ids = sortedIds;
+            for (int start = 0, end; start < count; start = end) { // Runs with the same first address, longest first
+                end = start + 1;
+                while (end < count && firstHigh[end] == firstHigh[start] && firstLow[end] == firstLow[start]) {
+                    end++;
+                }
+                if (end - start > 1) {
+                    sortByLastDescending(start, end);
+                }
+            }
+        }
+
+        private void sortByLastDescending(int from, int to) {
+            int n = to - from;
+            long[] high = new long[n];
+            long[] low = new long[n];
+            int[] carry = new int[n];
+            for (int i = 0; i < n; i++) {
+                high[i] = ~lastHigh[from + i]; // Inverted, so ascending order of the keys is descending order of the addresses
+                low[i] = ~lastLow[from + i];
+                carry[i] = ids[from + i];
+            }
+            CidrAggregator.radixSort(high, low, carry, n);
+            for (int i = 0; i < n; i++) {
+                lastHigh[from + i] = ~high[i];
+                lastLow[from + i] = ~low[i];
+                ids[from + i] = carry[i];
+            }
+        }
+
+        // The sweep over positions from..to, starting with the given entries open. Every open entry that has not
+        // ended before the next entry starts overlaps it; entries that have ended are dropped on the way.
+        void sweep(int from, int to, int[] seed, PairSink sink) {
+            int[] open = Arrays.copyOf(seed, Math.max(16, seed.length));
+            int openCount = seed.length;
+            for (int k = from; k < to; k++) {
+                long fh = firstHigh(k);
+                long fl = firstLow[k];
+                long lh = lastHigh(k);
+                long ll = lastLow[k];
+                int kept = 0;
+                for (int j = 0; j < openCount; j++) {
+                    int a = open[j];
+                    long ah = lastHigh(a);
+                    long al = lastLow[a];
+                    if (IPv6Network.compare(ah, al, fh, fl) < 0) {
+                        continue; // Ended before k starts, and before everything after k
+                    }
+                    open[kept++] = a;
+                    Kind kind;
+                    if (firstHigh(a) == fh && firstLow[a] == fl && ah == lh && al == ll) {
+                        kind = Kind.DUPLICATE;
+                    } else if (IPv6Network.compare(ah, al, lh, ll) >= 0) {
+                        kind = Kind.CONTAINS;
+                    } else {
+                        kind = Kind.OVERLAPS;
+                    }
+                    sink.accept(kind, ids[a], ids[k]);
+                }
+                if (kept == open.length) {
+                    open = Arrays.copyOf(open, kept * 2);
+                }
+                open[kept++] = k;
+                openCount = kept;
+            }
+        }
+
+        // Cuts the sorted entries into slices and adds one task per slice. A sequential pass without reporting
+        // finds the entries still open at the start of each slice.
+        void slice(int slices, PairSink sink, List<Callable<Void>> tasks) {
+            if (count == 0) {
+                return;
+            }
+            int step = Math.max(1, (count + slices - 1) / slices);
+            int[] open = new int[16];
+            int openCount = 0;
+            for (int from = 0; from < count; from += step) {
+                int kept = 0;
+                for (int j = 0; j < openCount; j++) {
+                    int a = open[j];
+                    if (IPv6Network.compare(lastHigh(a), lastLow[a], firstHigh(from), firstLow[from]) >= 0) {
+                        open[kept++] = a;
+                    }
+                }
+                openCount = kept;
+                int[] seed = Arrays.copyOf(open, openCount);
+                int sliceFrom = from;
+                int sliceTo = Math.min(count, from + step);
+                tasks.add(() -> {
+                    sweep(sliceFrom, sliceTo, seed, sink);
+                    return null;
+                });
+                for (int k = sliceFrom; k < sliceTo; k++) { // Everything in this slice may still be open at the next one
+                    if (openCount == open.length) {
+                        open = Arrays.copyOf(open, openCount * 2);
+                    }
+                    open[openCount++] = k;
+                }
+            }
+        }
+
+        StringBuilder append(StringBuilder sb, int i) {
+            long fh = firstHigh(i);
+            long fl = firstLow[i];
+            long lh = lastHigh(i);
+            long ll = lastLow[i];
+            // One CIDR block when the size is a power of two and the first address is aligned to it
+            long sizeLow = ll - fl + 1;
+            long sizeHigh = lh - fh - (Long.compareUnsigned(ll, fl) < 0 ? 1 : 0) + (sizeLow == 0 ? 1 : 0);
+            int width = ipv6 ? 128 : 32;
+            int bits = -1;
+            if (sizeHigh == 0 && sizeLow != 0 && Long.bitCount(sizeLow) == 1) {
+                bits = Long.numberOfTrailingZeros(sizeLow);
+            } else if (sizeLow == 0 && (sizeHigh == 0 || Long.bitCount(sizeHigh) == 1)) {
+                bits = sizeHigh == 0 ? 128 : 64 + Long.numberOfTrailingZeros(sizeHigh); // 0 means the whole 128-bit space
+            }
+            boolean aligned = bits >= 0 && bits <= width
+                    && (bits >= 64 ? (fl == 0 && (bits == 128 || (fh & ((1L << (bits - 64)) - 1)) == 0)) : (fl & ((1L << bits) - 1)) == 0);
+            appendAddress(sb, fh, fl);
+            if (aligned) {
+                return sb.append('/').append(width - bits);
+            }
+            return appendAddress(sb.append('-'), lh, ll);
+        }
+
+        private StringBuilder appendAddress(StringBuilder sb, long high, long low) {
+            return ipv6 ? AddressFormat.appendIPv6(sb, high, low) : AddressFormat.appendDottedQuad(sb, (int) low);
+        }
+    }
+
+    // Command line ---------------------------------------------------------------------------
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int threads = 1;
+        String inputPath = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--parallel") && i + 1 < args.length) {
+                threads = Integer.parseInt(args[++i]);
+            } else if (args[i].startsWith("-") && !args[i].equals("-")) {
+                System.err.println("Usage: java -cp out OverlapDetector [--parallel THREADS] [INPUT|-]");
+                System.err.println("Input lines hold an address, address/prefix or first-last range as their first field.");
+                System.err.println("Prints kind, line and entry of both sides for every duplicate, containment and overlap.");
+                System.exit(2);
+            } else {
+                inputPath = args[i];
+            }
+        }
+        OverlapDetector detector = new OverlapDetector();
+        int[] lines = new int[1024]; // Line number of every entry id
+        int bad = 0;
+        try (BufferedReader reader = inputPath == null || inputPath.equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.US_ASCII), 1 << 16)
+                : Files.newBufferedReader(Paths.get(inputPath), StandardCharsets.US_ASCII)) {
+            String text;
+            int lineNumber = 0;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                int from = 0;
+                while (from < text.length() && text.charAt(from) <= ' ') {
+                    from++;
+                }
+                if (from == text.length() || text.charAt(from) == '#') {
+                    continue;
+                }
+                int to = from;
+                while (to < text.length() && text.charAt(to) > ' ') {
+                    to++;
+                }
+                int id = detector.add(text, from, to);
+                if (id < 0) {
+                    bad++;
+                    continue;
+                }
+                if (id == lines.length) {
+                    lines = Arrays.copyOf(lines, id * 2);
+                }
+                lines[id] = lineNumber;
+            }
+        }
+        PrintStream out = new PrintStream(new BufferedOutputStream(System.out, 1 << 16), false, StandardCharsets.US_ASCII);
+        LongAdder[] counts = {new LongAdder(), new LongAdder(), new LongAdder()};
+        int[] lineOf = lines;
+        // Each thread fills its own buffer and writes it out in one piece, so lines from different threads never mix
+        ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(1 << 16));
+        List<StringBuilder> allBuffers = new ArrayList<>();
+        PairSink sink = (kind, first, second) -> {
+            counts[kind.ordinal()].increment();
+            StringBuilder sb = buffers.get();
+            if (sb.length() == 0) {
+                synchronized (allBuffers) {
+                    if (!allBuffers.contains(sb)) {
+                        allBuffers.add(sb);
+                    }
+                }
+            }
+            sb.append(kind.name().toLowerCase(Locale.ROOT)).append('\t').append(lineOf[first]).append('\t');
+            detector.appendEntry(sb, first).append('\t').append(lineOf[second]).append('\t');
+            detector.appendEntry(sb, second).append('\n');
+            if (sb.length() >= 1 << 15) {
+                synchronized (out) {
+                    out.append(sb);
+                }
+                sb.setLength(0);
+            }
+        };
+        detector.sort(); // Before the threads start, appendEntry needs the sorted positions
+        detector.detect(sink, threads);
+        for (StringBuilder sb : allBuffers) {
+            out.append(sb);
+        }
+        out.flush();
+        System.err.println(counts[0].sum() + " duplicates, " + counts[1].sum() + " containments, " + counts[2].sum() + " overlaps"
+                + (bad > 0 ? ", " + bad + " lines could not be parsed" : ""));
+        System.exit(counts[0].sum() + counts[1].sum() + counts[2].sum() == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,496 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * PrefixDatabase.java - This class writes prefix tables and address sets to a compact binary file and answers lookups straight from the memory-mapped file.
+ * The prefixes are flattened into sorted, disjoint ranges that each carry the value of their longest matching prefix,
+ * so a lookup is one binary search over the mapped keys. Opening a file only reads its header, which keeps startup in milliseconds,
+ * and every process that maps the same file shares its pages through the operating system's page cache.
+ * -
+ * File layout (big-endian):
+ * header   magic "NETIPDB1", int version, int flags (bit 0 = IPv6), int range count, int prefix count, int keys offset, int values offset
+ * keys     first address of each range, ascending; an int per range for IPv4, two longs (high, low) for IPv6. The first key is always 0.
+ * values   an int per range, NO_MATCH where no prefix covers the range
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public final class PrefixDatabase {
+    public static final int NO_MATCH = PrefixTable.NO_MATCH;
+
+    private static final long MAGIC = 0x4E45544950444231L; // "NETIPDB1"
+    private static final int VERSION = 1;
+    private static final int FLAG_IPV6 = 1;
+    private static final int HEADER_SIZE = 32;
+
+    private final ByteBuffer buffer; // Only absolute reads are used, so lookups from several threads need no locking
+    private final boolean ipv6;
+    private final int rangeCount;
+    private final int prefixCount;
+    private final int keysOffset;
+    private final int valuesOffset;
+
+    private PrefixDatabase(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getLong(0) != MAGIC) {
+            throw new IOException("Not a NetIP prefix database");
+        }
+        if (buffer.getInt(8) != VERSION) {
+            throw new IOException("Unsupported prefix database version: " + buffer.getInt(8));
+        }
+        this.buffer = buffer;
+        this.ipv6 = (buffer.getInt(12) & FLAG_IPV6) != 0;
+        this.rangeCount = buffer.getInt(16);
+        this.prefixCount = buffer.getInt(20);
+        this.keysOffset = buffer.getInt(24);
+        this.valuesOffset = buffer.getInt(28);
+        long keysEnd = keysOffset + (long) rangeCount * (ipv6 ? 16 : 4);
+        if (rangeCount < 1 || keysOffset < HEADER_SIZE || keysEnd > valuesOffset
+                || valuesOffset + (long) rangeCount * 4 > buffer.capacity()) {
+            throw new IOException("Corrupt prefix database header");
+        }
+    }
+
+    // Map a database file read-only. The mapping stays valid until the object is garbage collected, even if the file is replaced.
+    public static PrefixDatabase open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Prefix database larger than 2 GB: " + file);
+            }
+            return new PrefixDatabase(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static Writer ipv4Writer() {
+        return new Writer(false);
+    }
+
+    public static Writer ipv6Writer() {
+        return new Writer(true);
+    }
+
+    public boolean isIPv6() {
+        return ipv6;
+    }
+
+    public int size() { // Number of distinct prefixes the file was written from
+        return prefixCount;
+    }
+
+    public int rangeCount() {
+        return rangeCount;
+    }
+
+    // Lookups ------------------------------------------------------------------
+    public int lookup(int ipv4Address) { // Value of the longest prefix covering the address, or NO_MATCH
+        if (ipv6) {
+            throw new IllegalStateException("IPv6 prefix database");
+        }
+        int key = ipv4Address ^ Integer.MIN_VALUE; // Biased so signed comparisons follow address order
+        int low = 0;
+        int high = rangeCount - 1;
+        while (low < high) { // Last range whose first address is at or below the address, key 0 guarantees one exists
+            int mid = (low + high + 1) >>> 1;
+            if ((buffer.getInt(keysOffset + 4 * mid) ^ Integer.MIN_VALUE) <= key) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return buffer.getInt(valuesOffset + 4 * low);
+    }
+
+    public int lookup(long high, long low) {
+        if (!ipv6) {
+            throw new IllegalStateException("IPv4 prefix database");
+        }
+        int from = 0;
+        int to = rangeCount - 1;
+        while (from < to) {
+            int mid = (from + to + 1) >>> 1;
+            int at = keysOffset + 16 * mid;
+            if (IPv6Network.compare(buffer.getLong(at), buffer.getLong(at + 8), high, low) <= 0) {
+                from = mid;
+            } else {
+                to = mid - 1;
+            }
+        }
+        return buffer.getInt(valuesOffset + 4 * from);
+    }
+
+    // Batch lookups, values[i] is the value of the longest prefix covering address i, e.g. the owning subnet of each address in a log batch
+    public void lookupAll(int[] ipv4Addresses, int[] values, int count) {
+        if (count < 0 || count > ipv4Addresses.length || count > values.length) {
+            throw new IllegalArgumentException("Count " + count + " does not fit the arrays");
+        }
+        for (int i = 0; i < count; i++) {
+            values[i] = lookup(ipv4Addresses[i]);
+        }
+    }
+
+    public void lookupAll(long[] high, long[] low, int[] values, int count) {
+        if (count < 0 || count > high.length || count > low.length || count > values.length) {
+            throw new IllegalArgumentException("Count " + count + " does not fit the arrays");
+        }
+        for (int i = 0; i < count; i++) {
+            values[i] = lookup(high[i], low[i]);
+        }
+    }
+
+    public int lookup(CharSequence address) { // Parses the address first, returns NO_MATCH if it is not valid
+        if (ipv6) {
+            long[] halves = new long[2];
+            return IPParser.parseIPv6(address, halves) == IPParser.OK ? lookup(halves[0], halves[1]) : NO_MATCH;
+        }
+        long packed = IPParser.parseIPv4(address);
+        return packed >= 0 ? lookup((int) packed) : NO_MATCH;
+    }
+
+    public boolean contains(int ipv4Address) { // For files written from an address set
+        return lookup(ipv4Address) != NO_MATCH;
+    }
+
+    public boolean contains(long high, long low) {
+        return lookup(high, low) != NO_MATCH;
+    }
+
+    // Writer, collects prefixes and writes the flattened ranges. Not thread safe. -----------
+    // Prefixes follow the calculator semantics: host bits are ignored and a later value for the same prefix replaces the earlier one.
+    // A value can be any int except NO_MATCH, which lookups return for a miss.
+    public static final class Writer {
+        private final boolean ipv6;
+        private final int width;
+        private long[] high = new long[64]; // IPv4 addresses are kept in the low half
+        private long[] low = new long[64];
+        private int[] prefixes = new int[64];
+        private int[] values = new int[64];
+        private int count;
+        private final long[] halves = new long[2];
+
+        private Writer(boolean ipv6) {
+            this.ipv6 = ipv6;
+            this.width = ipv6 ? 128 : 32;
+        }
+
+        public Writer add(int ipv4Address, int prefix, int value) {
+            if (ipv6 || prefix < 0 || prefix > 32) {
+                throw new IllegalArgumentException("Invalid IPv4 prefix for this database: /" + prefix);
+            }
+            return append(0L, IPv4Network.network(ipv4Address, prefix) & 0xFFFFFFFFL, prefix, value);
+        }
+
+        public Writer add(long high, long low, int prefix, int value) {
+            if (!ipv6 || prefix < 0 || prefix > 128) {
+                throw new IllegalArgumentException("Invalid IPv6 prefix for this database: /" + prefix);
+            }
+            return append(high & IPv6Network.maskHigh(prefix), low & IPv6Network.maskLow(prefix), prefix, value);
+        }
+
+        public Writer add(IPv4Network network, int value) {
+            return add(network.getAddress(), network.getPrefix(), value);
+        }
+
+        public Writer add(IPv6Network network, int value) {
+            return add(network.getHigh(), network.getLow(), network.getPrefix(), value);
+        }
+
+        public Writer add(IPCalculator info, int value) { // Uses the address and CIDR notation the calculator was created with
+            if (info instanceof IPv4Info && ((IPv4Info) info).getNetwork() != null) {
+                return add(((IPv4Info) info).getNetwork(), value);
+            } else if (info instanceof IPv6Info && ((IPv6Info) info).getNetwork() != null) {
+                return add(((IPv6Info) info).getNetwork(), value);
+            }
+            throw new IllegalArgumentException("Invalid address: " + info.getIpAddress());
+        }
+
+        // Add a prefix in "address/length" notation, returns false if it cannot be parsed
+        public boolean add(CharSequence cidr, int value) {
+            int slash = -1;
+            for (int i = 0; i < cidr.length(); i++) {
+                if (cidr.charAt(i) == '/') {
+                    slash = i;
+                    break;
+                }
+            }
+            if (slash < 0) {
+                return false;
+            }
+            int prefix = IPParser.parsePrefixLength(cidr, slash + 1, cidr.length(), width);
+            if (prefix < 0) {
+                return false;
+            }
+            if (ipv6) {
+                if (IPParser.parseIPv6(cidr, 0, slash, halves) != IPParser.OK) {
+                    return false;
+                }
+                add(halves[0], halves[1], prefix, value);
+            } else {
+                long packed = IPParser.parseIPv4(cidr, 0, slash);
+                if (packed < 0) {
+                    return false;
+                }
+                add((int) packed, prefix, value);
+            }
+            return true;
+        }
+
+        public Writer addAll(IPv4Set set, int value) { // Every address of the set maps to value
+            CidrRanges.Cursor blocks = new CidrRanges.Cursor(32);
+            for (int i = 0; i < set.rangeCount(); i++) {
+                blocks.reset(0L, set.rangeStart(i) & 0xFFFFFFFFL, 0L, set.rangeEnd(i) & 0xFFFFFFFFL);
+                while (blocks.next()) {
+                    add((int) blocks.getLow(), blocks.getPrefix(), value);
+                }
+            }
+            return this;
+        }
+
+        public Writer addAll(IPv6Set set, int value) {
+            CidrRanges.Cursor blocks = new CidrRanges.Cursor(128);
+            for (int i = 0; i < set.rangeCount(); i++) {
+                blocks.reset(set.rangeStartHigh(i), set.rangeStartLow(i), set.rangeEndHigh(i), set.rangeEndLow(i));
+                while (blocks.next()) {
+                    add(blocks.getHigh(), blocks.getLow(), blocks.getPrefix(), value);
+                }
+            }
+            return this;
+        }
+
+        private Writer append(long networkHigh, long networkLow, int prefix, int value) {
+            if (value == NO_MATCH) {
+                throw new IllegalArgumentException("The value " + NO_MATCH + " is reserved for NO_MATCH");
+            }
+            if (count == high.length) {
+                int capacity = count * 2;
+                high = Arrays.copyOf(high, capacity);
+                low = Arrays.copyOf(low, capacity);
+                prefixes = Arrays.copyOf(prefixes, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            high[count] = networkHigh;
+            low[count] = networkLow;
+            prefixes[count] = prefix;
+            values[count++] = value;
+            return this;
+        }
+
+        // Write to a temporary file next to the target and move it into place, so processes that have the old file mapped keep working
+        public void write(Path file) throws IOException {
+            Path parent = file.toAbsolutePath().getParent();
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    write(out);
+                }
+                try {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (java.nio.file.AtomicMoveNotSupportedException ex) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        public void write(OutputStream stream) throws IOException {
+            Ranges ranges = flatten();
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16));
+            int keySize = ipv6 ? 16 : 4;
+            long valuesOffset = HEADER_SIZE + (long) ranges.count * keySize;
+            if (valuesOffset + 4L * ranges.count > Integer.MAX_VALUE) {
+                throw new IOException("Too many ranges for one prefix database: " + ranges.count);
+            }
+            out.writeLong(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(ipv6 ? FLAG_IPV6 : 0);
+            out.writeInt(ranges.count);
+            out.writeInt(ranges.prefixCount);
+            out.writeInt(HEADER_SIZE);
+            out.writeInt((int) valuesOffset);
+            for (int i = 0; i < ranges.count; i++) {
+                if (ipv6) {
+                    out.writeLong(ranges.high[i]);
+                    out.writeLong(ranges.low[i]);
+                } else {
+                    out.writeInt((int) ranges.low[i]);
+                }
+            }
+            for (int i = 0; i < ranges.count; i++) {
+                out.writeInt(ranges.values[i]);
+            }
+            out.flush();
+        }
+
+        // Sort the prefixes by network address, shorter prefixes first, and sweep them with a stack of the prefixes
+        // that are still open. Every point where the innermost open prefix changes starts a new range.
+        private Ranges flatten() {
+            int[] byPrefix = new int[width + 2]; // Counting sort on the prefix length first, the radix sort below keeps that order
+            for (int i = 0; i < count; i++) {
+                byPrefix[prefixes[i] + 1]++;
+            }
+            for (int p = 1; p < byPrefix.length; p++) {
+                byPrefix[p] += byPrefix[p - 1];
+            }
+            long[] sortedHigh = new long[count];
+            long[] sortedLow = new long[count];
+            int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                int slot = byPrefix[prefixes[i]]++;
+                sortedHigh[slot] = high[i];
+                sortedLow[slot] = low[i];
+                order[slot] = i;
+            }
+            CidrAggregator.radixSort(sortedHigh, sortedLow, order, count);
+
+            Ranges ranges = new Ranges(count * 2 + 1);
+            ranges.emit(0L, 0L, NO_MATCH);
+            long[] openHigh = new long[width + 1]; // Last address of each open prefix, outermost first
+            long[] openLow = new long[width + 1];
+            int[] openValue = new int[width + 1];
+            int depth = 0;
+            for (int s = 0; s < count; s++) {
+                int i = order[s];
+                long startHigh = sortedHigh[s];
+                long startLow = sortedLow[s];
+                if (s > 0 && startHigh == sortedHigh[s - 1] && startLow == sortedLow[s - 1] && prefixes[i] == prefixes[order[s - 1]]) {
+                    ranges.prefixCount--; // Same prefix again, the later value wins
+                    depth--;
+                }
+                while (depth > 0 && IPv6Network.compare(openHigh[depth - 1], openLow[depth - 1], startHigh, startLow) < 0) {
+                    depth--;
+                    close(ranges, openHigh[depth], openLow[depth], depth > 0 ? openValue[depth - 1] : NO_MATCH);
+                }
+                ranges.emit(startHigh, startLow, values[i]);
+                ranges.prefixCount++;
+                if (width == 32) {
+                    openHigh[depth] = 0L;
+                    openLow[depth] = startLow | (~IPv4Network.mask(prefixes[i]) & 0xFFFFFFFFL);
+                } else {
+                    openHigh[depth] = startHigh | ~IPv6Network.maskHigh(prefixes[i]);
+                    openLow[depth] = startLow | ~IPv6Network.maskLow(prefixes[i]);
+                }
+                openValue[depth++] = values[i];
+            }
+            while (depth > 0) {
+                depth--;
+                close(ranges, openHigh[depth], openLow[depth], depth > 0 ? openValue[depth - 1] : NO_MATCH);
+            }
+            return ranges;
+        }
+
+        // The enclosing value takes over after the last address of a closed prefix, unless that was the end of the address space
+        private void close(Ranges ranges, long lastHigh, long lastLow, int value) {
+            if (width == 32 ? lastLow == 0xFFFFFFFFL : lastHigh == -1L && lastLow == -1L) {
+                return;
+            }
+            long nextLow = lastLow + 1;
+            ranges.emit(nextLow == 0 ? lastHigh + 1 : lastHigh, nextLow, value);
+        }
+    }
+
+    // Flattened ranges, neighbouring ranges with the same value are joined
+    private static final class Ranges {
+        private long[] high;
+        private long[] low;
+        private int[] values;
+        private int count;
+        private int prefixCount;
+
+        Ranges(int capacity) {
+            high = new long[capacity];
+            low = new long[capacity];
+            values = new int[capacity];
+        }
+
+        void emit(long startHigh, long startLow, int value) {
+            if (count > 0 && high[count - 1] == startHigh && low[count - 1] == startLow) {
+                values[count - 1] = value; // A later boundary at the same address replaces the earlier one
+                if (count > 1 && values[count - 2] == value) {
+                    count--;
+                }
+                return;
+            }
+            if (count > 0 && values[count - 1] == value) {
+                return;
+            }
+            if (count == high.length) {
+                high = Arrays.copyOf(high, count * 2);
+                low = Arrays.copyOf(low, count * 2);
+                values = Arrays.copyOf(values, count * 2);
+            }
+            high[count] = startHigh;
+            low[count] = startLow;
+            values[count++] = value;
+        }
+    }
+
+    // Command line ---------------------------------------------------------------------------
+    // build: one "address/prefix [value]" per line, the value defaults to the position of the prefix in the file
+    // lookup: prints the value for each address, or -1
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 3 && args[0].equals("build")) {
+            Writer ipv4 = ipv4Writer();
+            Writer ipv6 = ipv6Writer();
+            boolean anyIPv6 = false;
+            int position = 0;
+            int bad = 0;
+            try (BufferedReader reader = Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.US_ASCII)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.charAt(0) == '#') {
+                        continue;
+                    }
+                    int space = line.indexOf(' ');
+                    String cidr = space < 0 ? line : line.substring(0, space);
+                    int value = position;
+                    if (space >= 0) {
+                        try {
+                            value = Integer.parseInt(line.substring(space + 1).trim());
+                        } catch (NumberFormatException ex) {
+                            bad++;
+                            continue;
+                        }
+                    }
+                    boolean isIPv6 = cidr.indexOf(':') >= 0;
+                    anyIPv6 |= isIPv6;
+                    if ((isIPv6 ? ipv6 : ipv4).add(cidr, value)) {
+                        position++;
+                    } else {
+                        bad++;
+                    }
+                }
+            }
+            if (anyIPv6 && ipv4.count > 0) {
+                System.err.println("A prefix database holds one address family, found IPv4 and IPv6 prefixes.");
+                System.exit(2);
+            }
+            (anyIPv6 ? ipv6 : ipv4).write(Paths.get(args[2]));
+            System.err.println("Wrote " + position + " prefixes to " + args[2] + (bad > 0 ? ", skipped " + bad + " invalid lines" : ""));
+        } else if (args.length >= 3 && args[0].equals("lookup")) {
+            PrefixDatabase database = open(Paths.get(args[1]));
+            for (int i = 2; i < args.length; i++) {
+                System.out.println(args[i] + " " + database.lookup(args[i]));
+            }
+        } else {
+            System.err.println("Usage: java -cp out PrefixDatabase build PREFIXES.txt OUTPUT.db");
+            System.err.println("       java -cp out PrefixDatabase lookup DATABASE.db ADDRESS...");
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,529 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * PrefixDiff.java - This program compares two prefix snapshots, such as yesterday's and today's routing or IPAM export, and prints the address space
+ * that became covered (+) and the space that is no longer covered (-), as CIDR blocks or as first-last ranges.
+ * Each input is read once into chunks of packed ranges. A chunk is radix-sorted and merged, and when an input does not fit in one chunk
+ * the sorted chunks are spilled to temporary run files and merged back. The two merged streams are then compared in one sequential pass,
+ * so memory depends on the chunk size only, never on the size of the inputs.
+ * Usage: java PrefixDiff [--ranges] [--chunk RANGES] [--tmp DIR] OLD NEW
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PrefixDiff {
+    public static final int DEFAULT_CHUNK = 1 << 20; // Ranges per in-memory chunk, about 56 MB while sorting
+    private static final int MAX_RUNS = 64; // More spilled runs than this are merged into one first, which bounds the open buffers
+    private static final int IO_BUFFER = 1 << 16;
+
+    // Receives each changed range. Addresses are 128-bit high:low pairs, IPv4 in the low half with width 32.
+    public interface DeltaSink {
+        void accept(boolean added, int width, long firstHigh, long firstLow, long lastHigh, long lastLow) throws IOException;
+    }
+
+    private final int chunkRanges;
+    private final Path tempDirectory;
+    private int invalidLines;
+
+    public PrefixDiff(int chunkRanges, Path tempDirectory) {
+        if (chunkRanges < 2) {
+            throw new IllegalArgumentException("Chunk size must be at least 2 ranges: " + chunkRanges);
+        }
+        this.chunkRanges = chunkRanges;
+        this.tempDirectory = tempDirectory;
+    }
+
+    // Lines that were not an address or prefix, counted over both inputs
+    public int getInvalidLines() {
+        return invalidLines;
+    }
+
+    // Compares the inputs, IPv4 deltas first, then IPv6, each in address order. Lines hold an address or address/prefix
+    // as their first field; blank lines and lines starting with # are skipped.
+    public void diff(BufferedReader before, BufferedReader after, DeltaSink sink) throws IOException {
+        Spiller[] old = read(before);
+        Spiller[] now;
+        try {
+            now = read(after);
+        } catch (IOException | RuntimeException ex) {
+            old[0].delete();
+            old[1].delete();
+            throw ex;
+        }
+        try {
+            compare(old[0].finish(), now[0].finish(), 32, sink);
+            compare(old[1].finish(), now[1].finish(), 128, sink);
+        } finally {
+            for (Spiller spiller : new Spiller[]{old[0], old[1], now[0], now[1]}) {
+                spiller.delete();
+            }
+        }
+    }
+
+    private Spiller[] read(BufferedReader reader) throws IOException {
+        Spiller ipv4 = new Spiller(32);
+        Spiller ipv6 = new Spiller(128);
+        long[] halves = new long[2];
+        String text;
+        try {
+            while ((text = reader.readLine()) != null) {
+                int from = 0;
+                int length = text.length();
+                while (from < length && text.charAt(from) <= ' ') {
+                    from++;
+                }
+                if (from == length || text.charAt(from) == '#') {
+                    continue;
+                }
+                int to = from;
+                while (to < length && text.charAt(to) > ' ') {
+                    to++;
+                }
+                int slash = text.indexOf('/', from);
+                int end = slash < 0 || slash > to ? to : slash;
+                boolean ipv6Line = text.indexOf(':', from) >= 0 && text.indexOf(':', from) < to;
+                int prefix = end == to ? (ipv6Line ? 128 : 32) : IPParser.parsePrefixLength(text, end + 1, to, ipv6Line ? 128 : 32);
+                if (ipv6Line) {
+                    if (prefix < 0 || IPParser.parseIPv6(text, from, end, halves) != IPParser.OK) {
+                        invalidLines++;
+                        continue;
+                    }
+                    long firstHigh = halves[0] & IPv6Network.maskHigh(prefix);
+                    long firstLow = halves[1] & IPv6Network.maskLow(prefix);
+                    ipv6.add(firstHigh, firstLow, firstHigh | ~IPv6Network.maskHigh(prefix), firstLow | ~IPv6Network.maskLow(prefix));
+                } else {
+                    long address = IPParser.parseIPv4(text, from, end);
+                    if (prefix < 0 || address < 0) {
+                        invalidLines++;
+                        continue;
+                    }
+                    ipv4.add(0L, IPv4Network.network((int) address, prefix) & 0xFFFFFFFFL, 0L, IPv4Network.broadcast((int) address, prefix) & 0xFFFFFFFFL);
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            ipv4.delete();
+            ipv6.delete();
+            throw ex;
+        }
+        return new Spiller[]{ipv4, ipv6};
+    }
+
+    // One pass over two sorted streams of disjoint, non-adjacent ranges ----------------------------
+    private static void compare(Ranges old, Ranges now, int width, DeltaSink sink) throws IOException {
+        try {
+            boolean hasOld = old.next();
+            boolean hasNow = now.next();
+            while (hasOld || hasNow) {
+                if (!hasNow) {
+                    sink.accept(false, width, old.firstHigh, old.firstLow, old.lastHigh, old.lastLow);
+                    hasOld = old.next();
+                } else if (!hasOld) {
+                    sink.accept(true, width, now.firstHigh, now.firstLow, now.lastHigh, now.lastLow);
+                    hasNow = now.next();
+                } else {
+                    int order = IPv6Network.compare(old.firstHigh, old.firstLow, now.firstHigh, now.firstLow);
+                    if (order != 0) { // The earlier range is uncovered on the other side up to the later start
+                        Ranges first = order < 0 ? old : now;
+                        Ranges second = order < 0 ? now : old;
+                        long beforeHigh = second.firstHigh - (second.firstLow == 0 ? 1 : 0); // second.first - 1
+                        long beforeLow = second.firstLow - 1;
+                        if (IPv6Network.compare(first.lastHigh, first.lastLow, beforeHigh, beforeLow) <= 0) {
+                            sink.accept(order > 0, width, first.firstHigh, first.firstLow, first.lastHigh, first.lastLow);
+                            if (order < 0) {
+                                hasOld = old.next();
+                            } else {
+                                hasNow = now.next();
+                            }
+                        } else {
+                            sink.accept(order > 0, width, first.firstHigh, first.firstLow, beforeHigh, beforeLow);
+                            first.firstHigh = second.firstHigh;
+                            first.firstLow = second.firstLow;
+                        }
+                    } else { // Same start, covered on both sides up to the earlier end
+                        int ends = IPv6Network.compare(old.lastHigh, old.lastLow, now.lastHigh, now.lastLow);
+                        Ranges longer = ends < 0 ? now : old;
+                        Ranges shorter = ends < 0 ? old : now;
+                        if (ends != 0) {
+                            longer.firstLow = shorter.lastLow + 1; // Cannot wrap, the longer range goes past it
+                            longer.firstHigh = shorter.lastHigh + (longer.firstLow == 0 ? 1 : 0);
+                        }
+                        if (ends <= 0) {
+                            hasOld = old.next();
+                        }
+                        if (ends >= 0) {
+                            hasNow = now.next();
+                        }
+                    }
+                }
+            }
+        } finally {
+            old.close();
+            now.close();
+        }
+    }
+
+    // Sorted range streams ------------------------------------------------------------------
+    private abstract static class Ranges {
+        long firstHigh;
+        long firstLow;
+        long lastHigh;
+        long lastLow;
+
+        abstract boolean next() throws IOException;
+
+        void close() throws IOException {
+        }
+    }
+
+    private static final class ArrayRanges extends Ranges {
+        private final long[] keys; // firstHigh, firstLow, lastHigh, lastLow per range
+        private final int count;
+        private int position;
+
+        ArrayRanges(long[] keys, int count) {
+            this.keys = keys;
+            this.count = count;
+        }
+
+        @Override
+        boolean next() {
+            if (position == count) {
+                return false;
+            }
+            int at = 4 * position++;
+            firstHigh = keys[at];
+            firstLow = keys[at + 1];
+            lastHigh = keys[at + 2];
+            lastLow = keys[at + 3];
+            return true;
+        }
+    }
+
+    private static final class RunRanges extends Ranges {
+        private final DataInputStream in;
+
+        RunRanges(Path file) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), IO_BUFFER));
+        }
+
+        @Override
+        boolean next() throws IOException {
+            try {
+                firstHigh = in.readLong();
+            } catch (EOFException ex) {
+                return false;
+            }
+            firstLow = in.readLong();
+            lastHigh = in.readLong();
+            lastLow = in.readLong();
+            return true;
+        }
+
+        @Override
+        void close() throws IOException {
+            in.close();
+        }
+    }
+
+    // K-way merge by first address with a binary heap, joining ranges that overlap or touch
+    private static final class MergedRanges extends Ranges {
+        private final Ranges[] heap;
+        private int size;
+
+        MergedRanges(List<Ranges> sources) throws IOException {
+            this.heap = new Ranges[sources.size()];
+            for (Ranges source : sources) {
+                if (source.next()) {
+                    heap[size++] = source;
+                    siftUp(size - 1);
+                } else {
+                    source.close();
+                }
+            }
+        }
+
+        @Override
+        boolean next() throws IOException {
+            if (size == 0) {
+                return false;
+            }
+            Ranges top = heap[0];
+            firstHigh = top.firstHigh;
+            firstLow = top.firstLow;
+            lastHigh = top.lastHigh;
+            lastLow = top.lastLow;
+            advance();
+            while (size > 0 && touches(lastHigh, lastLow, heap[0].firstHigh, heap[0].firstLow)) {
+                top = heap[0];
+                if (IPv6Network.compare(top.lastHigh, top.lastLow, lastHigh, lastLow) > 0) {
+                    lastHigh = top.lastHigh;
+                    lastLow = top.lastLow;
+                }
+                advance();
+            }
+            return true;
+        }
+
+        private void advance() throws IOException { // Move the top source on, or drop it when it is exhausted
+            Ranges top = heap[0];
+            if (!top.next()) {
+                top.close();
+                heap[0] = heap[--size];
+                heap[size] = null;
+            }
+            if (size > 0) {
+                siftDown(0);
+            }
+        }
+
+        private void siftUp(int index) {
+            Ranges item = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (IPv6Network.compare(heap[parent].firstHigh, heap[parent].firstLow, item.firstHigh, item.firstLow) <= 0) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = item;
+        }
+
+        private void siftDown(int index) {
+            Ranges item = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && IPv6Network.compare(heap[child + 1].firstHigh, heap[child + 1].firstLow, heap[child].firstHigh, heap[child].firstLow) < 0) {
+                    child++;
+                }
+                if (IPv6Network.compare(heap[child].firstHigh, heap[child].firstLow, item.firstHigh, item.firstLow) >= 0) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = item;
+        }
+
+        @Override
+        void close() throws IOException {
+            for (int i = 0; i < size; i++) {
+                heap[i].close();
+            }
+            size = 0;
+        }
+    }
+
+    // True when a range starting at first overlaps or directly follows a range ending at last
+    private static boolean touches(long lastHigh, long lastLow, long firstHigh, long firstLow) {
+        if (lastHigh == -1L && lastLow == -1L) {
+            return true;
+        }
+        long nextLow = lastLow + 1;
+        long nextHigh = lastHigh + (nextLow == 0 ? 1 : 0);
+        return IPv6Network.compare(firstHigh, firstLow, nextHigh, nextLow) <= 0;
+    }
+
+    // Chunking and spilling of one address family of one input ---------------------------------
+    private final class Spiller {
+        private final int width;
+        private long[] startHigh = new long[Math.min(1024, chunkRanges)];
+        private long[] startLow = new long[startHigh.length];
+        private long[] endHigh = new long[startHigh.length];
+        private long[] endLow = new long[startHigh.length];
+        private int count;
+        private final List<Path> runs = new ArrayList<>();
+
+        Spiller(int width) {
+            this.width = width;
+        }
+
+        void add(long firstHigh, long firstLow, long lastHigh, long lastLow) throws IOException {
+            if (count == startHigh.length) {
+                if (count >= chunkRanges) {
+                    spill();
+                } else { // Grow up to the chunk size, small inputs never allocate a full chunk
+                    int capacity = (int) Math.min(chunkRanges, 2L * count);
+                    startHigh = java.util.Arrays.copyOf(startHigh, capacity);
+                    startLow = java.util.Arrays.copyOf(startLow, capacity);
+                    endHigh = java.util.Arrays.copyOf(endHigh, capacity);
+                    endLow = java.util.Arrays.copyOf(endLow, capacity);
+                }
+            }
+            startHigh[count] = firstHigh;
+            startLow[count] = firstLow;
+            endHigh[count] = lastHigh;
+            endLow[count++] = lastLow;
+        }
+
+        // Sorts the chunk and merges overlapping and touching ranges, returns them as firstHigh, firstLow, lastHigh, lastLow quads
+        private long[] sortChunk() {
+            int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            long[] high = java.util.Arrays.copyOf(startHigh, count);
+            long[] low = java.util.Arrays.copyOf(startLow, count);
+            CidrAggregator.radixSort(high, low, order, count); // Passes over the always-zero upper bits of IPv4 are skipped
+            long[] keys = new long[4 * count];
+            int merged = 0;
+            for (int i = 0; i < count; i++) {
+                int source = order[i];
+                int last = 4 * (merged - 1);
+                if (merged > 0 && touches(keys[last + 2], keys[last + 3], high[i], low[i])) {
+                    if (IPv6Network.compare(endHigh[source], endLow[source], keys[last + 2], keys[last + 3]) > 0) {
+                        keys[last + 2] = endHigh[source];
+                        keys[last + 3] = endLow[source];
+                    }
+                } else {
+                    int at = 4 * merged++;
+                    keys[at] = high[i];
+                    keys[at + 1] = low[i];
+                    keys[at + 2] = endHigh[source];
+                    keys[at + 3] = endLow[source];
+                }
+            }
+            count = 0;
+            return java.util.Arrays.copyOf(keys, 4 * merged);
+        }
+
+        private void spill() throws IOException {
+            long[] keys = sortChunk();
+            runs.add(writeRun(new ArrayRanges(keys, keys.length / 4)));
+            if (runs.size() >= MAX_RUNS) { // Merge the runs into one before more buffers would be needed
+                List<Ranges> sources = new ArrayList<>();
+                for (Path run : runs) {
+                    sources.add(new RunRanges(run));
+                }
+                Path merged = writeRun(new MergedRanges(sources));
+                delete();
+                runs.add(merged);
+            }
+        }
+
+        private Path writeRun(Ranges ranges) throws IOException {
+            Path file = tempDirectory == null ? Files.createTempFile("netip-diff", ".run") : Files.createTempFile(tempDirectory, "netip-diff", ".run");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), IO_BUFFER))) {
+                while (ranges.next()) {
+                    out.writeLong(ranges.firstHigh);
+                    out.writeLong(ranges.firstLow);
+                    out.writeLong(ranges.lastHigh);
+                    out.writeLong(ranges.lastLow);
+                }
+            } catch (IOException ex) {
+                Files.deleteIfExists(file);
+                throw ex;
+            } finally {
+                ranges.close();
+            }
+            return file;
+        }
+
+        // The sorted, merged stream of everything added. An input that fit in one chunk never touches the disk.
+        Ranges finish() throws IOException {
+            if (runs.isEmpty()) {
+                long[] keys = sortChunk();
+                return new ArrayRanges(keys, keys.length / 4);
+            }
+            if (count > 0) {
+                spill();
+            }
+            startHigh = startLow = endHigh = endLow = null; // The chunk is no longer needed while merging
+            List<Ranges> sources = new ArrayList<>();
+            for (Path run : runs) {
+                sources.add(new RunRanges(run));
+            }
+            return new MergedRanges(sources);
+        }
+
+        void delete() throws IOException {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+            runs.clear();
+        }
+    }
+
+    // Command line -------------------------------------------------------------------------
+    public static void main(String[] args) throws IOException {
+        boolean ranges = false;
+        int chunk = DEFAULT_CHUNK;
+        Path tmp = null;
+        List<String> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--ranges")) {
+                ranges = true;
+            } else if (args[i].equals("--chunk") && i + 1 < args.length) {
+                chunk = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--tmp") && i + 1 < args.length) {
+                tmp = Paths.get(args[++i]);
+            } else if (args[i].startsWith("--")) {
+                files.clear();
+                break;
+            } else {
+                files.add(args[i]);
+            }
+        }
+        if (files.size() != 2) {
+            System.err.println("Usage: java -cp out PrefixDiff [--ranges] [--chunk RANGES] [--tmp DIR] OLD NEW");
+            System.err.println("Prints + for address space only covered by NEW and - for space only covered by OLD.");
+            System.exit(2);
+        }
+        PrintStream out = new PrintStream(new BufferedOutputStream(System.out, IO_BUFFER), false, StandardCharsets.US_ASCII);
+        StringBuilder line = new StringBuilder(96);
+        CidrRanges.Cursor ipv4Blocks = new CidrRanges.Cursor(32);
+        CidrRanges.Cursor ipv6Blocks = new CidrRanges.Cursor(128);
+        long[] counts = new long[2]; // Removed, added ranges
+        boolean printRanges = ranges;
+        DeltaSink sink = (added, width, firstHigh, firstLow, lastHigh, lastLow) -> {
+            counts[added ? 1 : 0]++;
+            char sign = added ? '+' : '-';
+            if (printRanges) {
+                line.setLength(0);
+                line.append(sign).append(' ');
+                appendAddress(line, width, firstHigh, firstLow).append('-');
+                out.append(appendAddress(line, width, lastHigh, lastLow)).append('\n');
+                return;
+            }
+            CidrRanges.Cursor blocks = (width == 32 ? ipv4Blocks : ipv6Blocks).reset(firstHigh, firstLow, lastHigh, lastLow);
+            while (blocks.next()) {
+                line.setLength(0);
+                line.append(sign).append(' ');
+                out.append(appendAddress(line, width, blocks.getHigh(), blocks.getLow()).append('/').append(blocks.getPrefix())).append('\n');
+            }
+        };
+        PrefixDiff diff = new PrefixDiff(chunk, tmp);
+        try (BufferedReader before = Files.newBufferedReader(Paths.get(files.get(0)), StandardCharsets.US_ASCII);
+             BufferedReader after = Files.newBufferedReader(Paths.get(files.get(1)), StandardCharsets.US_ASCII)) {
+            diff.diff(before, after, sink);
+        }
+        out.flush();
+        System.err.println(counts[1] + " ranges added, " + counts[0] + " ranges removed"
+                + (diff.getInvalidLines() > 0 ? ", " + diff.getInvalidLines() + " lines could not be parsed" : ""));
+        System.exit(counts[0] + counts[1] == 0 ? 0 : 1); // Like diff(1): 1 when the snapshots differ
+    }
+
+    private static StringBuilder appendAddress(StringBuilder sb, int width, long high, long low) {
+        return width == 32 ? AddressFormat.appendDottedQuad(sb, (int) low) : AddressFormat.appendIPv6(sb, high, low);
+    }
+}
@@ -0,0 +1,252 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * PrefixTable.java - This class answers longest-prefix-match lookups over a large set of IPv4 or IPv6 prefixes.
+ * The prefixes are stored in a path-compressed binary trie laid out in primitive arrays, so there is no object per node.
+ * A built table never changes and can be read by any number of threads without locking.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.util.Arrays;
+
+public final class PrefixTable {
+    public static final int NO_MATCH = -1;
+    private static final int NONE = -1; // Missing child
+
+    // Node arrays, node 0 is the root (the /0 prefix). IPv4 addresses are kept left-aligned in the upper half.
+    private final boolean ipv6;
+    private final long[] keyHigh;
+    private final long[] keyLow;
+    private final byte[] length; // Prefix length of the node, between 0 and 128, read back with & 0xFF
+    private final int[] value; // Value stored for the prefix, or NO_MATCH for pure branch nodes
+    private final int[] children; // Child for bit 0 at 2 * node, child for bit 1 at 2 * node + 1
+    private final int prefixCount;
+
+    private PrefixTable(Builder builder) {
+        int nodes = builder.nodeCount;
+        this.ipv6 = builder.ipv6;
+        this.keyHigh = Arrays.copyOf(builder.keyHigh, nodes);
+        this.keyLow = Arrays.copyOf(builder.keyLow, nodes);
+        this.length = Arrays.copyOf(builder.length, nodes);
+        this.value = Arrays.copyOf(builder.value, nodes);
+        this.children = Arrays.copyOf(builder.children, 2 * nodes);
+        this.prefixCount = builder.prefixCount;
+    }
+
+    public static Builder ipv4Builder() {
+        return new Builder(false);
+    }
+
+    public static Builder ipv6Builder() {
+        return new Builder(true);
+    }
+
+    public boolean isIPv6() {
+        return ipv6;
+    }
+
+    public int size() { // Number of distinct prefixes
+        return prefixCount;
+    }
+
+    public int nodeCount() {
+        return value.length;
+    }
+
+    // Lookups ------------------------------------------------------------------
+    public int lookup(int ipv4Address) { // Value of the longest prefix covering the address, or NO_MATCH
+        return lookup((long) ipv4Address << 32, 0L);
+    }
+
+    public int lookup(long high, long low) {
+        int best = NO_MATCH;
+        int node = 0;
+        while (node != NONE) {
+            int prefix = length[node] & 0xFF;
+            if (((high ^ keyHigh[node]) & IPv6Network.maskHigh(prefix)) != 0
+                    || ((low ^ keyLow[node]) & IPv6Network.maskLow(prefix)) != 0) {
+                break; // Nothing below this node can match either
+            }
+            if (value[node] != NO_MATCH) {
+                best = value[node];
+            }
+            if (prefix == 128) {
+                break;
+            }
+            node = children[2 * node + bit(high, low, prefix)];
+        }
+        return best;
+    }
+
+    public int lookup(CharSequence address) { // Parses the address first, returns NO_MATCH if it is not valid
+        if (ipv6) {
+            long[] halves = new long[2];
+            return IPParser.parseIPv6(address, halves) == IPParser.OK ? lookup(halves[0], halves[1]) : NO_MATCH;
+        }
+        long packed = IPParser.parseIPv4(address);
+        return packed >= 0 ? lookup((int) packed) : NO_MATCH;
+    }
+
+    // Bit helpers ----------------------------------------------------------------
+    static int bit(long high, long low, int index) { // Bit at the given position, counting from the most significant bit
+        return index < 64 ? (int) (high >>> (63 - index)) & 1 : (int) (low >>> (127 - index)) & 1;
+    }
+
+    static int commonPrefix(long aHigh, long aLow, long bHigh, long bLow) { // Number of leading bits the two keys share
+        long diff = aHigh ^ bHigh;
+        return diff != 0 ? Long.numberOfLeadingZeros(diff) : 64 + Long.numberOfLeadingZeros(aLow ^ bLow);
+    }
+
+    // Builder, not thread safe. Each call to build() takes a snapshot. --------
+    // A value can be any int except NO_MATCH, which lookups return for a miss and the trie uses to mark branch nodes.
+    public static final class Builder {
+        private final boolean ipv6;
+        private long[] keyHigh = new long[64];
+        private long[] keyLow = new long[64];
+        private byte[] length = new byte[64];
+        private int[] value = new int[64];
+        private int[] children = new int[128];
+        private int nodeCount;
+        private int prefixCount;
+        private final long[] halves = new long[2];
+
+        private Builder(boolean ipv6) {
+            this.ipv6 = ipv6;
+            newNode(0L, 0L, 0, NO_MATCH); // Root
+        }
+
+        public Builder add(int ipv4Address, int prefix, int prefixValue) {
+            if (ipv6 || prefix < 0 || prefix > 32) {
+                throw new IllegalArgumentException("Invalid IPv4 prefix for this table: /" + prefix);
+            }
+            return insert((long) ipv4Address << 32, 0L, prefix, prefixValue);
+        }
+
+        public Builder add(long high, long low, int prefix, int prefixValue) {
+            if (!ipv6 || prefix < 0 || prefix > 128) {
+                throw new IllegalArgumentException("Invalid IPv6 prefix for this table: /" + prefix);
+            }
+            return insert(high, low, prefix, prefixValue);
+        }
+
+        public Builder add(IPv4Network network, int prefixValue) {
+            return add(network.getAddress(), network.getPrefix(), prefixValue);
+        }
+
+        public Builder add(IPv6Network network, int prefixValue) {
+            return add(network.getHigh(), network.getLow(), network.getPrefix(), prefixValue);
+        }
+
+        public Builder add(IPCalculator info, int prefixValue) { // Uses the address and CIDR notation the calculator was created with
+            if (info instanceof IPv4Info && ((IPv4Info) info).getNetwork() != null) {
+                return add(((IPv4Info) info).getNetwork(), prefixValue);
+            } else if (info instanceof IPv6Info && ((IPv6Info) info).getNetwork() != null) {
+                return add(((IPv6Info) info).getNetwork(), prefixValue);
+            }
+            throw new IllegalArgumentException("Invalid address: " + info.getIpAddress());
+        }
+
+        // Add a prefix in "address/length" notation, returns false if it cannot be parsed
+        public boolean add(CharSequence cidr, int prefixValue) {
+            int slash = -1;
+            for (int i = 0; i < cidr.length(); i++) {
+                if (cidr.charAt(i) == '/') {
+                    slash = i;
+                    break;
+                }
+            }
+            if (slash < 0) {
+                return false;
+            }
+            int prefix = IPParser.parsePrefixLength(cidr, slash + 1, cidr.length(), ipv6 ? 128 : 32);
+            if (prefix < 0) {
+                return false;
+            }
+            if (ipv6) {
+                if (IPParser.parseIPv6(cidr, 0, slash, halves) != IPParser.OK) {
+                    return false;
+                }
+                insert(halves[0], halves[1], prefix, prefixValue);
+            } else {
+                long packed = IPParser.parseIPv4(cidr, 0, slash);
+                if (packed < 0) {
+                    return false;
+                }
+                insert(packed << 32, 0L, prefix, prefixValue);
+            }
+            return true;
+        }
+
+        public PrefixTable build() {
+            return new PrefixTable(this);
+        }
+
+        // Walk down the compressed trie and either stop at an existing node, hang a new leaf or split an edge
+        private Builder insert(long high, long low, int prefix, int prefixValue) {
+            if (prefixValue == NO_MATCH) {
+                throw new IllegalArgumentException("The value " + NO_MATCH + " is reserved for NO_MATCH");
+            }
+            high &= IPv6Network.maskHigh(prefix); // Host bits are ignored, like calculateNetworkAddress does
+            low &= IPv6Network.maskLow(prefix);
+            int node = 0;
+            while (true) {
+                int nodeLength = length[node] & 0xFF;
+                if (nodeLength == prefix) {
+                    if (value[node] == NO_MATCH) {
+                        prefixCount++;
+                    }
+                    value[node] = prefixValue;
+                    return this;
+                }
+                int slot = 2 * node + bit(high, low, nodeLength);
+                int child = children[slot];
+                if (child == NONE) {
+                    int leaf = newNode(high, low, prefix, prefixValue); // Separate statement, newNode may replace the children array
+                    children[slot] = leaf;
+                    prefixCount++;
+                    return this;
+                }
+                int childLength = length[child] & 0xFF;
+                int common = Math.min(Math.min(prefix, childLength), commonPrefix(high, low, keyHigh[child], keyLow[child]));
+                if (common == childLength) {
+                    node = child; // The new prefix lies below the child
+                    continue;
+                }
+                // Split the edge with a node at the point where the keys diverge
+                int split = newNode(high & IPv6Network.maskHigh(common), low & IPv6Network.maskLow(common), common, NO_MATCH);
+                children[slot] = split;
+                children[2 * split + bit(keyHigh[child], keyLow[child], common)] = child;
+                if (common == prefix) {
+                    value[split] = prefixValue;
+                } else {
+                    int leaf = newNode(high, low, prefix, prefixValue);
+                    children[2 * split + bit(high, low, common)] = leaf;
+                }
+                prefixCount++;
+                return this;
+            }
+        }
+
+        private int newNode(long high, long low, int prefix, int nodeValue) {
+            if (nodeCount == value.length) {
+                int capacity = value.length * 2;
+                keyHigh = Arrays.copyOf(keyHigh, capacity);
+                keyLow = Arrays.copyOf(keyLow, capacity);
+                length = Arrays.copyOf(length, capacity);
+                value = Arrays.copyOf(value, capacity);
+                children = Arrays.copyOf(children, 2 * capacity);
+            }
+            int node = nodeCount++;
+            keyHigh[node] = high;
+            keyLow[node] = low;
+            length[node] = (byte) prefix;
+            value[node] = nodeValue;
+            children[2 * node] = NONE;
+            children[2 * node + 1] = NONE;
+            return node;
+        }
+    }
+}
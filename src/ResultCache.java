@@ -0,0 +1,285 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * ResultCache.java - This class is a size-bounded, thread-safe cache keyed on a packed address, a second 64-bit half and a small tag such as the prefix length.
+ * Keys are hashed onto lock stripes; each stripe keeps its entries in primitive arrays with an open-addressing index
+ * and evicts with the CLOCK algorithm, so entries that were used since the hand last passed get a second chance.
+ * Lookups take primitive keys, which keeps hits free of allocation, and hit, miss and eviction counts are kept in LongAdders.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ResultCache<V> {
+
+    // Computes the value for a missing key. A lambda that captures nothing is created once, so passing it does not allocate.
+    public interface Loader<V> {
+        V load(long high, long low, int tag);
+    }
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final int maximumSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ResultCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maximumSize);
+        }
+        // About two stripes per core keeps contention low, but every stripe should still hold a useful number of entries
+        int stripes = Integer.highestOneBit(Math.max(1, Math.min(2 * Runtime.getRuntime().availableProcessors(), maximumSize / 16)) * 2 - 1);
+        this.segments = new Segment[stripes];
+        this.segmentMask = stripes - 1;
+        this.maximumSize = maximumSize;
+        int perSegment = (maximumSize + stripes - 1) / stripes;
+        for (int i = 0; i < stripes; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    // Lists this cache in the NetIPMetrics report, does nothing when metrics are off
+    public ResultCache<V> registerMetrics(String name) {
+        NetIPMetrics.registerCache(name, this);
+        return this;
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    // Returns the cached value or null, and counts a hit or a miss
+    public V get(long high, long low, int tag) {
+        long hash = hash(high, low, tag);
+        Segment segment = segments[(int) (hash >>> 40) & segmentMask];
+        Object value;
+        synchronized (segment) {
+            value = segment.get(hash, high, low, tag);
+        }
+        (value != null ? hits : misses).increment();
+        @SuppressWarnings("unchecked")
+        V result = (V) value;
+        return result;
+    }
+
+    // Returns the cached value, or loads, stores and returns it. The loader runs outside the lock,
+    // so two threads missing on the same key may both load it; the first value stored is the one kept.
+    public V computeIfAbsent(long high, long low, int tag, Loader<V> loader) {
+        long hash = hash(high, low, tag);
+        Segment segment = segments[(int) (hash >>> 40) & segmentMask];
+        Object value;
+        synchronized (segment) {
+            value = segment.get(hash, high, low, tag);
+        }
+        if (value != null) {
+            hits.increment();
+            @SuppressWarnings("unchecked")
+            V result = (V) value;
+            return result;
+        }
+        misses.increment();
+        V loaded = loader.load(high, low, tag);
+        if (loaded == null) {
+            return null; // Nothing to remember, e.g. an invalid address
+        }
+        synchronized (segment) {
+            value = segment.putIfAbsent(hash, high, low, tag, loaded, evictions);
+        }
+        @SuppressWarnings("unchecked")
+        V result = (V) value;
+        return result;
+    }
+
+    public void put(long high, long low, int tag, V value) {
+        long hash = hash(high, low, tag);
+        Segment segment = segments[(int) (hash >>> 40) & segmentMask];
+        synchronized (segment) {
+            segment.put(hash, high, low, tag, value, evictions);
+        }
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int total = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                total += segment.size;
+            }
+        }
+        return total;
+    }
+
+    // Statistics ---------------------------------------------------------------------
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCache[size=" + size() + "/" + maximumSize + ", hits=" + hitCount() + ", misses=" + missCount()
+                + ", evictions=" + evictionCount() + "]";
+    }
+
+    private static long hash(long high, long low, int tag) { // Mixes every key bit into the stripe and slot bits
+        long h = high * 0x9E3779B97F4A7C15L ^ Long.rotateLeft(low * 0xC2B2AE3D27D4EB4FL, 31) ^ tag * 0x165667B19E3779F9L;
+        h ^= h >>> 29;
+        h *= 0xBF58476D1CE4E5B9L;
+        return h ^ (h >>> 32);
+    }
+
+    // One lock stripe ----------------------------------------------------------------
+    // Entries live in slots 0..size-1 of the arrays. The index is a linear-probing table of slot + 1 (0 means empty)
+    // at least twice as large as the capacity, and removals shift later probes back so no tombstones are needed.
+    private static final class Segment {
+        private final int capacity;
+        private final long[] keyHigh;
+        private final long[] keyLow;
+        private final int[] keyTag;
+        private final long[] hashes;
+        private final Object[] values;
+        private final boolean[] referenced; // Set by every hit, cleared as the CLOCK hand passes
+        private final int[] index;
+        private final int indexMask;
+        private int size;
+        private int hand;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+            this.keyHigh = new long[capacity];
+            this.keyLow = new long[capacity];
+            this.keyTag = new int[capacity];
+            this.hashes = new long[capacity];
+            this.values = new Object[capacity];
+            this.referenced = new boolean[capacity];
+            this.index = new int[Integer.highestOneBit(capacity * 2 - 1) * 2];
+            this.indexMask = index.length - 1;
+        }
+
+        Object get(long hash, long high, long low, int tag) {
+            int slot = find(hash, high, low, tag);
+            if (slot < 0) {
+                return null;
+            }
+            referenced[slot] = true;
+            return values[slot];
+        }
+
+        Object putIfAbsent(long hash, long high, long low, int tag, Object value, LongAdder evictions) {
+            int slot = find(hash, high, low, tag);
+            if (slot >= 0) {
+                return values[slot];
+            }
+            insert(hash, high, low, tag, value, evictions);
+            return value;
+        }
+
+        void put(long hash, long high, long low, int tag, Object value, LongAdder evictions) {
+            int slot = find(hash, high, low, tag);
+            if (slot >= 0) {
+                values[slot] = value;
+                referenced[slot] = true;
+            } else {
+                insert(hash, high, low, tag, value, evictions);
+            }
+        }
+
+        void clear() {
+            java.util.Arrays.fill(index, 0);
+            java.util.Arrays.fill(values, null);
+            size = 0;
+            hand = 0;
+        }
+
+        private int find(long hash, long high, long low, int tag) {
+            int position = (int) hash & indexMask;
+            int entry;
+            while ((entry = index[position]) != 0) {
+                int slot = entry - 1;
+                if (hashes[slot] == hash && keyHigh[slot] == high && keyLow[slot] == low && keyTag[slot] == tag) {
+                    return slot;
+                }
+                position = (position + 1) & indexMask;
+            }
+            return -1;
+        }
+
+        private void insert(long hash, long high, long low, int tag, Object value, LongAdder evictions) {
+            int slot;
+            if (size < capacity) {
+                slot = size++;
+            } else {
+                slot = evict();
+                evictions.increment();
+            }
+            keyHigh[slot] = high;
+            keyLow[slot] = low;
+            keyTag[slot] = tag;
+            hashes[slot] = hash;
+            values[slot] = value;
+            referenced[slot] = false; // A new entry has to be hit once before it survives the hand
+            int position = (int) hash & indexMask;
+            while (index[position] != 0) {
+                position = (position + 1) & indexMask;
+            }
+            index[position] = slot + 1;
+        }
+
+        // Advance the hand until it finds an entry that was not used since the last pass, and unlink it
+        private int evict() {
+            while (referenced[hand]) {
+                referenced[hand] = false;
+                hand = hand + 1 == capacity ? 0 : hand + 1;
+            }
+            int victim = hand;
+            hand = hand + 1 == capacity ? 0 : hand + 1;
+            int position = (int) hashes[victim] & indexMask;
+            while (index[position] != victim + 1) {
+                position = (position + 1) & indexMask;
+            }
+            // Backward-shift deletion: move later entries of the probe run into the hole when their home slot allows it
+            int hole = position;
+            int next = position;
+            while (true) {
+                next = (next + 1) & indexMask;
+                int entry = index[next];
+                if (entry == 0) {
+                    break;
+                }
+                int home = (int) hashes[entry - 1] & indexMask;
+                boolean movable = hole <= next ? home <= hole || home > next : home <= hole && home > next;
+                if (movable) {
+                    index[hole] = entry;
+                    hole = next;
+                }
+            }
+            index[hole] = 0;
+            values[victim] = null;
+            return victim;
+        }
+    }
+}
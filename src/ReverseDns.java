@@ -0,0 +1,358 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * ReverseDns.java - This class builds reverse DNS names: the in-addr.arpa and ip6.arpa zones a prefix is delegated in, including
+ * RFC 2317 classless zones for IPv4 prefixes longer than /24, and the PTR name of every address. It also writes PTR records for a
+ * whole range, and the CNAMEs a parent zone needs for a classless delegation. Records are built byte by byte into one buffer that
+ * is flushed to a channel whenever it fills up, so a full IPv4 /8 or millions of IPv6 addresses never sit in memory at once.
+ * Usage: java ReverseDns zones PREFIX | cnames PREFIX [--ttl N] | ptr PREFIX|FIRST-LAST --host TEMPLATE [--ttl N] [--limit N] [--classless] [-o FILE]
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ReverseDns {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[] NIBBLES = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IN_ADDR_ARPA = "in-addr.arpa.".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IP6_ARPA = "ip6.arpa.".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PTR = "\tIN\tPTR\t".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CNAME = "\tIN\tCNAME\t".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] hostBefore; // Host name template around the "{}" placeholder
+    private final byte[] hostAfter;
+    private final boolean hostHasAddress;
+    private final byte[] ttl; // "\t3600", or empty to use the zone's $TTL
+    private final int maxRecord; // Longest possible record, the buffer is flushed before it gets this full
+
+    // The template is the PTR target, e.g. "host-{}.example.com.", where {} becomes the address with dashes
+    // (192-0-2-10, or 2001-db8-0-0-0-0-0-1 for IPv6). A negative TTL leaves it out of the records.
+    public ReverseDns(String hostTemplate, int ttl) {
+        for (int i = 0; i < hostTemplate.length(); i++) {
+            char ch = hostTemplate.charAt(i);
+            if (ch <= ' ' || ch > '~') {
+                throw new IllegalArgumentException("Host name template must be printable ASCII without spaces");
+            }
+        }
+        int placeholder = hostTemplate.indexOf("{}");
+        hostHasAddress = placeholder >= 0;
+        hostBefore = (hostHasAddress ? hostTemplate.substring(0, placeholder) : hostTemplate).getBytes(StandardCharsets.US_ASCII);
+        hostAfter = (hostHasAddress ? hostTemplate.substring(placeholder + 2) : "").getBytes(StandardCharsets.US_ASCII);
+        this.ttl = (ttl < 0 ? "" : "\t" + ttl).getBytes(StandardCharsets.US_ASCII);
+        maxRecord = 128 + this.ttl.length + hostBefore.length + hostAfter.length;
+    }
+
+    // Names -------------------------------------------------------------------------------------
+    public static String ptrName(int address) { // 10.2.0.192.in-addr.arpa.
+        return appendPtrName(new StringBuilder(29), address).toString();
+    }
+
+    public static StringBuilder appendPtrName(StringBuilder sb, int address) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            sb.append((address >>> shift) & 0xFF).append('.');
+        }
+        return sb.append("in-addr.arpa.");
+    }
+
+    public static String ptrName(long high, long low) { // 32 nibbles, last one first, then ip6.arpa.
+        return appendPtrName(new StringBuilder(73), high, low).toString();
+    }
+
+    public static StringBuilder appendPtrName(StringBuilder sb, long high, long low) {
+        return appendNibbles(sb, high, low, 32).append("ip6.arpa.");
+    }
+
+    // The zones a prefix is delegated in. A prefix on an octet (IPv4) or nibble (IPv6) boundary has one zone, any other prefix
+    // is split into the zones at the next boundary, e.g. a /22 into four /24 zones. IPv4 prefixes longer than /24 get one
+    // RFC 2317 classless zone such as 64/26.2.0.192.in-addr.arpa.
+    public static List<String> zoneNames(IPv4Network network) {
+        int prefix = network.getPrefix();
+        int address = network.getNetworkAddress();
+        List<String> zones = new ArrayList<>();
+        if (prefix > 24) {
+            zones.add(classlessZone(address, prefix));
+            return zones;
+        }
+        int boundary = (prefix + 7) & ~7;
+        for (int i = 0; i < 1 << (boundary - prefix); i++) {
+            int zone = address + (boundary == 0 ? 0 : i << (32 - boundary));
+            StringBuilder sb = new StringBuilder(29);
+            for (int octet = boundary / 8 - 1; octet >= 0; octet--) {
+                sb.append((zone >>> (24 - 8 * octet)) & 0xFF).append('.');
+            }
+            zones.add(sb.append("in-addr.arpa.").toString());
+        }
+        return zones;
+    }
+
+    public static List<String> zoneNames(IPv6Network network) {
+        int prefix = network.getPrefix();
+        int boundary = (prefix + 3) & ~3;
+        List<String> zones = new ArrayList<>();
+        for (int i = 0; i < 1 << (boundary - prefix); i++) {
+            long high = network.getNetworkHigh();
+            long low = network.getNetworkLow();
+            if (boundary > 64) {
+                low += (long) i << (128 - boundary);
+            } else if (boundary > 0) {
+                high += (long) i << (64 - boundary);
+            }
+            zones.add(appendNibbles(new StringBuilder(73), high, low, boundary / 4).append("ip6.arpa.").toString());
+        }
+        return zones;
+    }
+
+    // One zone name, or the first and last of several, for the calculator reports
+    public static String zoneSummary(List<String> zones) {
+        if (zones.size() == 1) {
+            return zones.get(0);
+        }
+        return zones.get(0) + " - " + zones.get(zones.size() - 1) + " (" + zones.size() + " zones)";
+    }
+
+    private static String classlessZone(int network, int prefix) { // RFC 2317 section 4, <first>/<prefix>.c.b.a.in-addr.arpa.
+        StringBuilder sb = new StringBuilder(32).append(network & 0xFF).append('/').append(prefix).append('.');
+        for (int shift = 8; shift < 32; shift += 8) {
+            sb.append((network >>> shift) & 0xFF).append('.');
+        }
+        return sb.append("in-addr.arpa.").toString();
+    }
+
+    private static StringBuilder appendNibbles(StringBuilder sb, long high, long low, int count) { // The first count nibbles, reversed
+        for (int i = count - 1; i >= 0; i--) {
+            sb.append((char) NIBBLES[nibble(high, low, i)]).append('.');
+        }
+        return sb;
+    }
+
+    private static int nibble(long high, long low, int index) { // Nibble 0 to 31, from the left
+        return (int) ((index < 16 ? high >>> (60 - 4 * index) : low >>> (60 - 4 * (index - 16))) & 0xF);
+    }
+
+    // Records -----------------------------------------------------------------------------------
+    // PTR records for the hosts of a network, at most limit of them. With classless set, a prefix longer than /24 is written into its RFC 2317 zone.
+    public long writeIPv4(WritableByteChannel out, IPv4Network network, boolean classless, long limit) throws IOException {
+        byte[] zone = classless && network.getPrefix() > 24
+                ? classlessZone(network.getNetworkAddress(), network.getPrefix()).getBytes(StandardCharsets.US_ASCII) : null;
+        return writeIPv4(out, network.getFirstHost(), network.getLastHost(), zone, false, limit);
+    }
+
+    // PTR records for the addresses of an inclusive range, at most limit of them, returns the number of records written
+    public long writeIPv4(WritableByteChannel out, int first, int last, long limit) throws IOException {
+        if (Integer.compareUnsigned(first, last) > 0) {
+            throw new IllegalArgumentException("Range ends before it starts");
+        }
+        return writeIPv4(out, first, last, null, false, limit);
+    }
+
+    // The CNAMEs the parent /24 zone needs to hand a classless delegation over, one per address (RFC 2317 section 4)
+    public long writeClasslessCnames(WritableByteChannel out, IPv4Network network) throws IOException {
+        if (network.getPrefix() <= 24) {
+            throw new IllegalArgumentException("Classless delegation needs a prefix longer than /24");
+        }
+        byte[] zone = classlessZone(network.getNetworkAddress(), network.getPrefix()).getBytes(StandardCharsets.US_ASCII);
+        return writeIPv4(out, network.getNetworkAddress(), network.getBroadcastAddress(), zone, true, Long.MAX_VALUE);
+    }
+
+    private long writeIPv4(WritableByteChannel out, int first, int last, byte[] zone, boolean cnames, long limit) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long count = 0;
+        for (int address = first; count < limit; address++) {
+            if (buffer.remaining() < maxRecord) {
+                flush(buffer, out);
+            }
+            if (zone == null || cnames) {
+                for (int shift = 0; shift < 32; shift += 8) {
+                    AddressFormat.putOctet(buffer, (address >>> shift) & 0xFF).put((byte) '.');
+                }
+                buffer.put(IN_ADDR_ARPA);
+            } else {
+                AddressFormat.putOctet(buffer, address & 0xFF).put((byte) '.').put(zone);
+            }
+            buffer.put(ttl);
+            if (cnames) {
+                AddressFormat.putOctet(buffer.put(CNAME), address & 0xFF).put((byte) '.').put(zone);
+            } else {
+                buffer.put(PTR).put(hostBefore);
+                if (hostHasAddress) {
+                    AddressFormat.putOctet(buffer, address >>> 24).put((byte) '-');
+                    AddressFormat.putOctet(buffer, (address >>> 16) & 0xFF).put((byte) '-');
+                    AddressFormat.putOctet(buffer, (address >>> 8) & 0xFF).put((byte) '-');
+                    AddressFormat.putOctet(buffer, address & 0xFF).put(hostAfter);
+                }
+            }
+            buffer.put((byte) '\n');
+            count++;
+            if (address == last) {
+                break;
+            }
+        }
+        flush(buffer, out);
+        return count;
+    }
+
+    // PTR records for the addresses of an inclusive range, at most limit of them, e.g. a sample of the first hosts of a /64
+    public long writeIPv6(WritableByteChannel out, long firstHigh, long firstLow, long lastHigh, long lastLow, long limit) throws IOException {
+        if (IPv6Network.compare(firstHigh, firstLow, lastHigh, lastLow) > 0) {
+            throw new IllegalArgumentException("Range ends before it starts");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long count = 0;
+        long high = firstHigh;
+        long low = firstLow;
+        while (count < limit) {
+            if (buffer.remaining() < maxRecord) {
+                flush(buffer, out);
+            }
+            for (int i = 31; i >= 0; i--) {
+                buffer.put(NIBBLES[nibble(high, low, i)]).put((byte) '.');
+            }
+            buffer.put(IP6_ARPA).put(ttl).put(PTR).put(hostBefore);
+            if (hostHasAddress) {
+                for (int g = 0; g < 8; g++) {
+                    if (g > 0) {
+                        buffer.put((byte) '-');
+                    }
+                    AddressFormat.putHexGroup(buffer, AddressFormat.group(high, low, g));
+                }
+                buffer.put(hostAfter);
+            }
+            buffer.put((byte) '\n');
+            count++;
+            if (high == lastHigh && low == lastLow) {
+                break;
+            }
+            if (++low == 0) {
+                high++;
+            }
+        }
+        flush(buffer, out);
+        return count;
+    }
+
+    public long writeIPv6(WritableByteChannel out, IPv6Network network, long limit) throws IOException {
+        return writeIPv6(out, network.getNetworkHigh(), network.getNetworkLow(), network.getLastHigh(), network.getLastLow(), limit);
+    }
+
+    private static void flush(ByteBuffer buffer, WritableByteChannel out) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Command line ----------------------------------------------------------------------------
+    public static void main(String[] args) throws IOException {
+        String mode = args.length > 1 ? args[0] : "";
+        String target = args.length > 1 ? args[1] : "";
+        String host = null;
+        String outputPath = null;
+        int ttl = -1;
+        long limit = Long.MAX_VALUE;
+        boolean classless = false;
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--host":
+                    host = i + 1 < args.length ? args[++i] : null;
+                    break;
+                case "--ttl":
+                    ttl = i + 1 < args.length ? Integer.parseInt(args[++i]) : -1;
+                    break;
+                case "--limit":
+                    limit = i + 1 < args.length ? Long.parseLong(args[++i]) : limit;
+                    break;
+                case "--classless":
+                    classless = true;
+                    break;
+                case "-o":
+                    outputPath = i + 1 < args.length ? args[++i] : null;
+                    break;
+                default:
+                    mode = "";
+                    break;
+            }
+        }
+        if (!mode.equals("zones") && !mode.equals("cnames") && !(mode.equals("ptr") && host != null)) {
+            usage();
+        }
+        boolean ipv6 = target.indexOf(':') >= 0;
+        int dash = target.indexOf('-');
+        int slash = target.indexOf('/');
+        long[] first = new long[2];
+        long[] last = new long[2];
+        Object network = null;
+        if (dash >= 0) { // A range, PTR records only
+            boolean valid;
+            if (ipv6) {
+                valid = IPParser.parseIPv6(target, 0, dash, first) == IPParser.OK && IPParser.parseIPv6(target, dash + 1, target.length(), last) == IPParser.OK;
+            } else {
+                first[1] = IPParser.parseIPv4(target, 0, dash);
+                last[1] = IPParser.parseIPv4(target, dash + 1, target.length());
+                valid = first[1] >= 0 && last[1] >= 0;
+            }
+            if (!valid || !mode.equals("ptr") || IPv6Network.compare(first[0], first[1], last[0], last[1]) > 0) {
+                System.err.println("Invalid range: " + target);
+                System.exit(2);
+            }
+        } else {
+            String address = slash < 0 ? target : target.substring(0, slash);
+            int prefix = slash < 0 ? (ipv6 ? 128 : 32) : IPParser.parsePrefixLength(target, slash + 1, target.length(), ipv6 ? 128 : 32);
+            network = prefix < 0 ? null : ipv6 ? IPv6Network.parse(address, prefix) : IPv4Network.parse(address, prefix);
+            if (network == null) {
+                System.err.println("Invalid prefix: " + target);
+                System.exit(2);
+            }
+        }
+        if (mode.equals("zones")) {
+            List<String> zones = ipv6 ? zoneNames((IPv6Network) network) : zoneNames((IPv4Network) network);
+            StringBuilder sb = new StringBuilder();
+            for (String zone : zones) {
+                sb.append(zone).append('\n');
+            }
+            System.out.print(sb);
+            return;
+        }
+        if (mode.equals("cnames") && (ipv6 || ((IPv4Network) network).getPrefix() <= 24)) {
+            System.err.println("Classless CNAMEs need an IPv4 prefix longer than /24");
+            System.exit(2);
+        }
+        ReverseDns dns = new ReverseDns(host == null ? "" : host, ttl);
+        try (WritableByteChannel out = outputPath == null
+                ? new FileOutputStream(FileDescriptor.out).getChannel()
+                : FileChannel.open(Paths.get(outputPath), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long written;
+            if (mode.equals("cnames")) {
+                written = dns.writeClasslessCnames(out, (IPv4Network) network);
+            } else if (ipv6) {
+                written = network == null ? dns.writeIPv6(out, first[0], first[1], last[0], last[1], limit) : dns.writeIPv6(out, (IPv6Network) network, limit);
+            } else {
+                written = network == null ? dns.writeIPv4(out, (int) first[1], (int) last[1], limit) : dns.writeIPv4(out, (IPv4Network) network, classless, limit);
+            }
+            if (outputPath != null) {
+                System.err.println(written + " records written to " + outputPath);
+            }
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: java -cp out ReverseDns zones PREFIX");
+        System.err.println("       java -cp out ReverseDns cnames PREFIX [--ttl N]");
+        System.err.println("       java -cp out ReverseDns ptr PREFIX|FIRST-LAST --host TEMPLATE [--ttl N] [--limit N] [--classless] [-o FILE]");
+        System.err.println("{} in the host template is replaced by the address with dashes, e.g. host-{}.example.com.");
+        System.exit(2);
+    }
+}
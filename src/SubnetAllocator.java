@@ -0,0 +1,416 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * SubnetAllocator.java - This class hands out subnets of an IPv4 or IPv6 pool with a buddy allocator and plans VLSM layouts from host counts.
+ * The free space is a binary tree over the pool in which every node records the largest free block below it, so allocate, reserve
+ * and free walk one path of at most 128 nodes. A freed block merges with its buddy as soon as both halves are free again.
+ * Blocks are placed best-fit: when both halves of a node have room, the half with the smaller largest free block is used,
+ * which keeps the big free blocks whole for later requests. Not thread safe, callers that share an allocator must lock it.
+ * Usage: java SubnetAllocator 10.0.0.0/16 500 200 60 2
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.math.BigInteger;
+
+public final class SubnetAllocator {
+    private static final int NONE = Integer.MAX_VALUE; // Largest free block of a fully allocated subtree
+
+    // Addresses are kept left-aligned in two longs, IPv4 in the top 32 bits of the upper half
+    private final int width; // 32 or 128
+    private final long poolHigh;
+    private final long poolLow;
+    private final int poolPrefix;
+
+    // Tree nodes in parallel arrays. left[n] == 0 means n has no children (the root is node 0 and never a child):
+    // then n is either one free block (free[n] is its prefix length) or one allocated block (free[n] is NONE).
+    // For a split node, free[n] is the shortest prefix length that can still be allocated below it.
+    private int[] left = new int[64];
+    private int[] right = new int[64];
+    private int[] free = new int[64];
+    private int nodeCount = 1;
+    private int releasedNodes = -1; // Reusable nodes, linked through left[]
+    private final int[] path = new int[129];
+    private long resultHigh;
+    private long resultLow;
+
+    private SubnetAllocator(int width, long high, long low, int prefix) {
+        this.width = width;
+        this.poolHigh = high & IPv6Network.maskHigh(prefix);
+        this.poolLow = low & IPv6Network.maskLow(prefix);
+        this.poolPrefix = prefix;
+        free[0] = prefix;
+    }
+
+    public static SubnetAllocator ipv4(IPv4Network pool) {
+        return new SubnetAllocator(32, (long) pool.getNetworkAddress() << 32, 0L, pool.getPrefix());
+    }
+
+    public static SubnetAllocator ipv6(IPv6Network pool) {
+        return new SubnetAllocator(128, pool.getNetworkHigh(), pool.getNetworkLow(), pool.getPrefix());
+    }
+
+    public boolean isIPv6() {
+        return width == 128;
+    }
+
+    // Shortest prefix length that can still be allocated, -1 when the pool is full
+    public int largestFreePrefix() {
+        return free[0] == NONE ? -1 : free[0];
+    }
+
+    // Allocation --------------------------------------------------------------------------
+    // Returns the allocated subnet, or null when no free block of that size is left
+    public IPv4Network allocateIPv4(int prefix) {
+        checkFamily(false);
+        return allocate(prefix) ? new IPv4Network((int) (resultHigh >>> 32), prefix) : null;
+    }
+
+    public IPv6Network allocateIPv6(int prefix) {
+        checkFamily(true);
+        return allocate(prefix) ? new IPv6Network(resultHigh, resultLow, prefix) : null;
+    }
+
+    // Marks a given subnet as used, e.g. one that was assigned before the allocator was created.
+    // Returns false when any part of it is already allocated.
+    public boolean reserve(IPv4Network subnet) {
+        checkFamily(false);
+        return reserve((long) subnet.getNetworkAddress() << 32, 0L, subnet.getPrefix());
+    }
+
+    public boolean reserve(IPv6Network subnet) {
+        checkFamily(true);
+        return reserve(subnet.getNetworkHigh(), subnet.getNetworkLow(), subnet.getPrefix());
+    }
+
+    // Returns an allocated or reserved subnet to the pool, exactly as it was handed out
+    public void free(IPv4Network subnet) {
+        checkFamily(false);
+        free((long) subnet.getNetworkAddress() << 32, 0L, subnet.getPrefix());
+    }
+
+    public void free(IPv6Network subnet) {
+        checkFamily(true);
+        free(subnet.getNetworkHigh(), subnet.getNetworkLow(), subnet.getPrefix());
+    }
+
+    private boolean allocate(int prefix) {
+        if (prefix < poolPrefix || prefix > width) {
+            throw new IllegalArgumentException("Cannot allocate /" + prefix + " from a /" + poolPrefix + " pool");
+        }
+        if (free[0] > prefix) {
+            return false;
+        }
+        int node = 0;
+        long high = poolHigh;
+        long low = poolLow;
+        for (int p = poolPrefix; p < prefix; p++) {
+            path[p - poolPrefix] = node;
+            if (left[node] == 0) { // A free block larger than needed
+                split(node, p);
+            }
+            int l = left[node];
+            int r = right[node];
+            // Best fit: use the half whose largest free block is smaller, as long as it is big enough
+            if (free[l] > prefix || (free[r] <= prefix && free[r] > free[l])) {
+                node = r;
+                if (p < 64) {
+                    high |= 1L << (63 - p);
+                } else {
+                    low |= 1L << (127 - p);
+                }
+            } else {
+                node = l;
+            }
+        }
+        free[node] = NONE; // free[node] == prefix here, a whole free block of the right size
+        update(prefix);
+        resultHigh = high;
+        resultLow = low;
+        return true;
+    }
+
+    private boolean reserve(long high, long low, int prefix) {
+        checkInPool(high, low, prefix);
+        int node = 0;
+        for (int p = poolPrefix; p < prefix; p++) {
+            if (left[node] == 0) {
+                if (free[node] == NONE) {
+                    return false; // Inside a block that is already allocated
+                }
+                split(node, p); // Everything below a free block is free, so nothing can fail after this
+            }
+            path[p - poolPrefix] = node;
+            node = bit(high, low, p) ? right[node] : left[node];
+        }
+        if (left[node] != 0 || free[node] != prefix) {
+            return false; // Partly or fully allocated
+        }
+        free[node] = NONE;
+        update(prefix);
+        return true;
+    }
+
+    private void free(long high, long low, int prefix) {
+        checkInPool(high, low, prefix);
+        int node = 0;
+        for (int p = poolPrefix; p < prefix; p++) {
+            if (left[node] == 0) {
+                throw new IllegalArgumentException("Not allocated: " + describe(high, low, prefix));
+            }
+            path[p - poolPrefix] = node;
+            node = bit(high, low, p) ? right[node] : left[node];
+        }
+        if (left[node] != 0 || free[node] != NONE) {
+            throw new IllegalArgumentException("Not allocated: " + describe(high, low, prefix));
+        }
+        free[node] = prefix;
+        update(prefix);
+    }
+
+    // Recompute free[] on the path from the changed node at depth prefix back to the root, merging buddies that are both free
+    private void update(int prefix) {
+        for (int p = prefix - 1; p >= poolPrefix; p--) {
+            int node = path[p - poolPrefix];
+            int l = left[node];
+            int r = right[node];
+            if (left[l] == 0 && left[r] == 0 && free[l] == p + 1 && free[r] == p + 1) {
+                release(l);
+                release(r);
+                left[node] = 0;
+                right[node] = 0;
+                free[node] = p;
+            } else {
+                free[node] = Math.min(free[l], free[r]);
+            }
+        }
+    }
+
+    // Free blocks -------------------------------------------------------------------------
+    // Every free block in address order. Buddies are always merged, so the blocks are as large as alignment allows.
+    public void forEachFree(CidrAggregator.IPv4Sink sink) {
+        checkFamily(false);
+        forEachFreeBlock((high, low, prefix) -> sink.accept((int) (high >>> 32), prefix));
+    }
+
+    public void forEachFree(CidrAggregator.IPv6Sink sink) {
+        checkFamily(true);
+        forEachFreeBlock(sink);
+    }
+
+    public BigInteger freeAddressCount() {
+        BigInteger[] total = {BigInteger.ZERO};
+        forEachFreeBlock((high, low, prefix) -> total[0] = total[0].add(BigInteger.ONE.shiftLeft(width - prefix)));
+        return total[0];
+    }
+
+    private void forEachFreeBlock(CidrAggregator.IPv6Sink sink) {
+        int[] nodes = new int[width - poolPrefix + 2]; // Depth-first, one pending right child per level at most
+        long[] highs = new long[nodes.length];
+        long[] lows = new long[nodes.length];
+        int[] prefixes = new int[nodes.length];
+        nodes[0] = 0;
+        highs[0] = poolHigh;
+        lows[0] = poolLow;
+        prefixes[0] = poolPrefix;
+        int top = 1;
+        while (top > 0) {
+            top--;
+            int node = nodes[top];
+            long high = highs[top];
+            long low = lows[top];
+            int p = prefixes[top];
+            if (left[node] == 0) {
+                if (free[node] != NONE) {
+                    sink.accept(high, low, p);
+                }
+                continue;
+            }
+            if (free[node] == NONE) {
+                continue; // Nothing free below
+            }
+            nodes[top] = right[node];
+            highs[top] = p < 64 ? high | 1L << (63 - p) : high;
+            lows[top] = p < 64 ? low : low | 1L << (127 - p);
+            prefixes[top] = p + 1;
+            top++;
+            nodes[top] = left[node];
+            highs[top] = high;
+            lows[top] = low;
+            prefixes[top] = p + 1;
+            top++;
+        }
+    }
+
+    // VLSM planning -----------------------------------------------------------------------
+    // One subnet per host count, in the order of the counts, or null where the pool has no room left.
+    // Requests are placed largest first. With power-of-two blocks that packs the pool without gaps, so every
+    // request that can fit does fit. An IPv4 subnet needs room for the network and broadcast address except /31 and /32 (RFC 3021).
+    public static IPv4Network[] planIPv4(IPv4Network pool, long[] hostCounts) {
+        SubnetAllocator allocator = ipv4(pool);
+        int[] prefixes = new int[hostCounts.length];
+        for (int i = 0; i < hostCounts.length; i++) {
+            prefixes[i] = ipv4PrefixFor(hostCounts[i]);
+        }
+        IPv4Network[] plan = new IPv4Network[hostCounts.length];
+        for (int i : largestFirst(prefixes, 32)) {
+            if (prefixes[i] >= pool.getPrefix()) {
+                plan[i] = allocator.allocateIPv4(prefixes[i]);
+            }
+        }
+        return plan;
+    }
+
+    public static IPv6Network[] planIPv6(IPv6Network pool, long[] hostCounts) {
+        SubnetAllocator allocator = ipv6(pool);
+        int[] prefixes = new int[hostCounts.length];
+        for (int i = 0; i < hostCounts.length; i++) {
+            prefixes[i] = ipv6PrefixFor(hostCounts[i]);
+        }
+        IPv6Network[] plan = new IPv6Network[hostCounts.length];
+        for (int i : largestFirst(prefixes, 128)) {
+            if (prefixes[i] >= pool.getPrefix()) {
+                plan[i] = allocator.allocateIPv6(prefixes[i]);
+            }
+        }
+        return plan;
+    }
+
+    // Longest IPv4 prefix with at least hosts usable addresses, -1 if even /0 is too small
+    public static int ipv4PrefixFor(long hosts) {
+        if (hosts < 1) {
+            throw new IllegalArgumentException("Host count must be positive: " + hosts);
+        }
+        if (hosts <= 2) {
+            return hosts == 1 ? 32 : 31;
+        }
+        int bits = 64 - Long.numberOfLeadingZeros(hosts + 1); // 2^bits - 2 >= hosts
+        return bits > 32 ? -1 : 32 - bits;
+    }
+
+    public static int ipv6PrefixFor(long hosts) { // Every address is usable, so 2^(128 - prefix) >= hosts
+        if (hosts < 1) {
+            throw new IllegalArgumentException("Host count must be positive: " + hosts);
+        }
+        return 128 - (64 - Long.numberOfLeadingZeros(hosts - 1));
+    }
+
+    // Indices ordered by prefix length, shortest (largest block) first and stable otherwise. A counting sort, as there are at most 129 keys.
+    private static int[] largestFirst(int[] prefixes, int width) {
+        int[] starts = new int[width + 3];
+        for (int prefix : prefixes) {
+            starts[prefix + 2]++; // -1 (too large) sorts first and is skipped by the caller
+        }
+        for (int i = 1; i < starts.length; i++) {
+            starts[i] += starts[i - 1];
+        }
+        int[] order = new int[prefixes.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            order[starts[prefixes[i] + 1]++] = i;
+        }
+        return order;
+    }
+
+    // Helpers ------------------------------------------------------------------------------
+    private void split(int node, int prefix) {
+        int l = newNode();
+        int r = newNode();
+        left[node] = l;
+        right[node] = r;
+        free[l] = prefix + 1;
+        free[r] = prefix + 1;
+    }
+
+    private int newNode() {
+        int node;
+        if (releasedNodes >= 0) {
+            node = releasedNodes;
+            releasedNodes = left[node];
+        } else {
+            if (nodeCount == left.length) {
+                int capacity = left.length * 2;
+                left = java.util.Arrays.copyOf(left, capacity);
+                right = java.util.Arrays.copyOf(right, capacity);
+                free = java.util.Arrays.copyOf(free, capacity);
+            }
+            node = nodeCount++;
+        }
+        left[node] = 0;
+        right[node] = 0;
+        return node;
+    }
+
+    private void release(int node) {
+        left[node] = releasedNodes;
+        releasedNodes = node;
+    }
+
+    private static boolean bit(long high, long low, int position) { // Bit at a prefix position, 0 is the most significant
+        return position < 64 ? (high << position) < 0 : (low << (position - 64)) < 0;
+    }
+
+    private void checkFamily(boolean ipv6) {
+        if (ipv6 != (width == 128)) {
+            throw new IllegalStateException(ipv6 ? "IPv4 pool" : "IPv6 pool");
+        }
+    }
+
+    private void checkInPool(long high, long low, int prefix) {
+        if (prefix < poolPrefix || prefix > width
+                || (high & IPv6Network.maskHigh(poolPrefix)) != poolHigh || (low & IPv6Network.maskLow(poolPrefix)) != poolLow
+                || (high & ~IPv6Network.maskHigh(prefix)) != 0 || (low & ~IPv6Network.maskLow(prefix)) != 0) {
+            throw new IllegalArgumentException("Not a subnet of the pool: " + describe(high, low, prefix));
+        }
+    }
+
+    private String describe(long high, long low, int prefix) {
+        return width == 32 ? IPv4Network.toDottedQuad((int) (high >>> 32)) + "/" + prefix : IPv6Network.toCompressedString(high, low) + "/" + prefix;
+    }
+
+    // Command line: pool followed by host counts ---------------------------------------------------
+    public static void main(String[] args) {
+        if (args.length < 2 || args[0].indexOf('/') < 0) {
+            System.err.println("Usage: java -cp out SubnetAllocator <pool/prefix> <hosts>...");
+            System.exit(2);
+        }
+        String pool = args[0];
+        int slash = pool.indexOf('/');
+        long[] hosts = new long[args.length - 1];
+        for (int i = 1; i < args.length; i++) {
+            hosts[i - 1] = Long.parseLong(args[i]);
+        }
+        boolean ipv6 = pool.indexOf(':') >= 0;
+        int prefix = IPParser.parsePrefixLength(pool, slash + 1, pool.length(), ipv6 ? 128 : 32);
+        Object[] plan;
+        if (ipv6) {
+            IPv6Network network = prefix < 0 ? null : IPv6Network.parse(pool.substring(0, slash), prefix);
+            plan = network == null ? null : planIPv6(network, hosts);
+        } else {
+            IPv4Network network = prefix < 0 ? null : IPv4Network.parse(pool.substring(0, slash), prefix);
+            plan = network == null ? null : planIPv4(network, hosts);
+        }
+        if (plan == null) {
+            System.err.println("Invalid pool: " + pool);
+            System.exit(2);
+        }
+        int unplaced = 0;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < plan.length; i++) {
+            sb.append(hosts[i]).append('\t');
+            if (plan[i] == null) {
+                sb.append("no room\n");
+                unplaced++;
+            } else if (ipv6) {
+                IPv6Network subnet = (IPv6Network) plan[i];
+                AddressFormat.appendIPv6(sb, subnet.getNetworkHigh(), subnet.getNetworkLow()).append('/').append(subnet.getPrefix()).append('\n');
+            } else {
+                IPv4Network subnet = (IPv4Network) plan[i];
+                AddressFormat.appendDottedQuad(sb, subnet.getNetworkAddress()).append('/').append(subnet.getPrefix()).append('\n');
+            }
+        }
+        System.out.print(sb);
+        System.exit(unplaced == 0 ? 0 : 1);
+    }
+}
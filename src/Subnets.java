@@ -0,0 +1,298 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * Subnets.java - This class enumerates the hosts of a subnet and splits a prefix into child subnets of a longer prefix length.
+ * Every result is a Spliterator over a primitive index range that computes each address on demand and splits in exact halves,
+ * so large spaces can be swept by parallel streams without building lists.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class Subnets {
+    // Addresses are ordered as unsigned numbers, which int and long ordering does not match, so SORTED is not reported
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+    private Subnets() {
+    }
+
+    // IPv4 ---------------------------------------------------------------------------
+    // Usable hosts from the first to the last host address (the whole block for /31 and /32, RFC 3021)
+    public static Spliterator.OfInt ipv4Hosts(IPv4Network network) {
+        int first = network.getFirstHost();
+        return new IntRange(first, 0, 0L, (network.getLastHost() - first) & 0xFFFFFFFFL);
+    }
+
+    public static IntStream ipv4HostStream(IPv4Network network, boolean parallel) {
+        return StreamSupport.intStream(ipv4Hosts(network), parallel);
+    }
+
+    // Network addresses of the 2^(newPrefix - prefix) child subnets, e.g. the 256 /24s of a /16
+    public static Spliterator.OfInt ipv4Subnets(IPv4Network network, int newPrefix) {
+        int prefix = network.getPrefix();
+        if (newPrefix < prefix || newPrefix > 32) {
+            throw new IllegalArgumentException("Cannot split /" + prefix + " into /" + newPrefix);
+        }
+        return new IntRange(network.getNetworkAddress(), 32 - newPrefix, 0L, (1L << (newPrefix - prefix)) - 1);
+    }
+
+    public static IntStream ipv4SubnetStream(IPv4Network network, int newPrefix, boolean parallel) {
+        return StreamSupport.intStream(ipv4Subnets(network, newPrefix), parallel);
+    }
+
+    // IPv6 ---------------------------------------------------------------------------
+    // Every address of a /64 or longer prefix, given as the lower half. The upper half is network.getNetworkHigh() for all of them.
+    public static Spliterator.OfLong ipv6Hosts(IPv6Network network) {
+        if (network.getPrefix() < 64) {
+            throw new IllegalArgumentException("Hosts of /" + network.getPrefix() + " do not fit in one 64-bit half, use ipv6Subnets");
+        }
+        return new LongRange(network.getNetworkLow(), 0, 0L, ~IPv6Network.maskLow(network.getPrefix()));
+    }
+
+    public static LongStream ipv6HostStream(IPv6Network network, boolean parallel) {
+        return StreamSupport.longStream(ipv6Hosts(network), parallel);
+    }
+
+    // Child subnets as IPv6Network objects. At most 2^64 children, so newPrefix - prefix may not exceed 64.
+    public static Spliterator<IPv6Network> ipv6Subnets(IPv6Network network, int newPrefix) {
+        int prefix = network.getPrefix();
+        if (newPrefix < prefix || newPrefix > 128 || newPrefix - prefix > 64) {
+            throw new IllegalArgumentException("Cannot split /" + prefix + " into /" + newPrefix);
+        }
+        int bits = newPrefix - prefix;
+        return new NetworkRange(network.getNetworkHigh(), network.getNetworkLow(), newPrefix, 0L, bits == 64 ? -1L : (1L << bits) - 1);
+    }
+
+    public static Stream<IPv6Network> ipv6SubnetStream(IPv6Network network, int newPrefix, boolean parallel) {
+        return StreamSupport.stream(ipv6Subnets(network, newPrefix), parallel);
+    }
+
+    // Upper halves of the child subnets when newPrefix is 64 or shorter, e.g. the 65,536 /64s of a /48, without an object per child
+    public static Spliterator.OfLong ipv6SubnetHighs(IPv6Network network, int newPrefix) {
+        int prefix = network.getPrefix();
+        if (newPrefix < prefix || newPrefix > 64) {
+            throw new IllegalArgumentException("Child /" + newPrefix + " of /" + prefix + " is not selected by the upper half alone");
+        }
+        int bits = newPrefix - prefix;
+        return new LongRange(network.getNetworkHigh(), 64 - newPrefix, 0L, bits == 64 ? -1L : (1L << bits) - 1);
+    }
+
+    public static LongStream ipv6SubnetHighStream(IPv6Network network, int newPrefix, boolean parallel) {
+        return StreamSupport.longStream(ipv6SubnetHighs(network, newPrefix), parallel);
+    }
+
+    // Spliterators over the index range from..to (inclusive, unsigned) ------------------------------
+    // Element i is base + (i << shift). trySplit hands the lower half to the caller, so both halves differ by one element at most.
+    private static final class IntRange implements Spliterator.OfInt {
+        private final int base;
+        private final int shift;
+        private long from; // Between 0 and 2^32 - 1, so signed arithmetic is enough
+        private final long to;
+
+        IntRange(int base, int shift, long from, long to) {
+            this.base = base;
+            this.shift = shift;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (from > to) {
+                return false;
+            }
+            action.accept(base + (int) (from++ << shift));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            for (long i = from; i <= to; i++) {
+                action.accept(base + (int) (i << shift));
+            }
+            from = to + 1;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            long size = to - from + 1;
+            if (size < 2) {
+                return null;
+            }
+            long mid = from + size / 2;
+            IntRange lower = new IntRange(base, shift, from, mid - 1);
+            from = mid;
+            return lower;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.max(0L, to - from + 1);
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    private static final class LongRange implements Spliterator.OfLong {
+        private final long base;
+        private final int shift; // 64 when the range holds a single element
+        private long from;
+        private final long to;
+        private boolean empty;
+
+        LongRange(long base, int shift, long from, long to) {
+            this.base = base;
+            this.shift = shift;
+            this.from = from;
+            this.to = to;
+        }
+
+        private long element(long index) {
+            return shift >= 64 ? base : base + (index << shift);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (empty) {
+                return false;
+            }
+            action.accept(element(from));
+            empty = from == to;
+            from++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            if (empty) {
+                return;
+            }
+            for (long i = from; ; i++) { // Compare before incrementing, to may be the largest unsigned value
+                action.accept(element(i));
+                if (i == to) {
+                    break;
+                }
+            }
+            empty = true;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            if (empty || from == to) {
+                return null;
+            }
+            long mid = from + ((to - from) >>> 1) + 1; // Upper half starts here, the distance is unsigned
+            LongRange lower = new LongRange(base, shift, from, mid - 1);
+            from = mid;
+            return lower;
+        }
+
+        @Override
+        public long estimateSize() {
+            if (empty) {
+                return 0L;
+            }
+            long size = to - from + 1;
+            return size <= 0 ? Long.MAX_VALUE : size; // 2^63 or more elements cannot be counted exactly
+        }
+
+        @Override
+        public int characteristics() {
+            long size = to - from + 1;
+            return size > 0 || empty ? CHARACTERISTICS | Spliterator.SIZED | Spliterator.SUBSIZED : CHARACTERISTICS;
+        }
+    }
+
+    private static final class NetworkRange implements Spliterator<IPv6Network> {
+        private final long baseHigh;
+        private final long baseLow;
+        private final int prefix; // Prefix length of the children
+        private long from;
+        private final long to;
+        private boolean empty;
+
+        NetworkRange(long baseHigh, long baseLow, int prefix, long from, long to) {
+            this.baseHigh = baseHigh;
+            this.baseLow = baseLow;
+            this.prefix = prefix;
+            this.from = from;
+            this.to = to;
+        }
+
+        private IPv6Network element(long index) { // The index fills the bits just above the host part of the child
+            int bits = 128 - prefix;
+            if (bits >= 128) {
+                return new IPv6Network(baseHigh, baseLow, prefix);
+            } else if (bits >= 64) {
+                return new IPv6Network(baseHigh | (index << (bits - 64)), baseLow, prefix);
+            } else if (bits == 0) {
+                return new IPv6Network(baseHigh, baseLow | index, prefix);
+            }
+            return new IPv6Network(baseHigh | (index >>> (64 - bits)), baseLow | (index << bits), prefix);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super IPv6Network> action) {
+            if (empty) {
+                return false;
+            }
+            action.accept(element(from));
+            empty = from == to;
+            from++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super IPv6Network> action) {
+            if (empty) {
+                return;
+            }
+            for (long i = from; ; i++) {
+                action.accept(element(i));
+                if (i == to) {
+                    break;
+                }
+            }
+            empty = true;
+        }
+
+        @Override
+        public Spliterator<IPv6Network> trySplit() {
+            if (empty || from == to) {
+                return null;
+            }
+            long mid = from + ((to - from) >>> 1) + 1;
+            NetworkRange lower = new NetworkRange(baseHigh, baseLow, prefix, from, mid - 1);
+            from = mid;
+            return lower;
+        }
+
+        @Override
+        public long estimateSize() {
+            if (empty) {
+                return 0L;
+            }
+            long size = to - from + 1;
+            return size <= 0 ? Long.MAX_VALUE : size;
+        }
+
+        @Override
+        public int characteristics() {
+            long size = to - from + 1;
+            return size > 0 || empty ? CHARACTERISTICS | Spliterator.SIZED | Spliterator.SUBSIZED : CHARACTERISTICS;
+        }
+    }
+}
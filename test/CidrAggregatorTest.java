@@ -0,0 +1,120 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * CidrAggregatorTest.java - This class checks the aggregated blocks against a brute-force answer. Random prefixes inside a window of
+ * 4096 addresses are marked in a BitSet, and the expected blocks are the fewest aligned blocks covering each run of marked addresses.
+ * The IPv6 window is centred on the boundary between the two longs.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class CidrAggregatorTest {
+    static final int WINDOW = 4096;
+    private static final long IPV6_MIDDLE = 0x20010DB800000001L; // High half of the address at offset 2048, its low half is 0
+
+    // Windows of 4096 addresses, offsets map to high:low ---------------------------------------
+    static long high(boolean ipv6, int offset) {
+        return !ipv6 ? 0L : offset < WINDOW / 2 ? IPV6_MIDDLE - 1 : IPV6_MIDDLE;
+    }
+
+    static long low(boolean ipv6, int offset) {
+        return ipv6 ? offset - WINDOW / 2 : 0x0A000000L + offset; // IPv4 starts at 10.0.0.0
+    }
+
+    static int offset(boolean ipv6, long low) {
+        return (int) (ipv6 ? low + WINDOW / 2 : low - 0x0A000000L);
+    }
+
+    // Fewest aligned blocks covering the marked offsets, as {offset, prefix}
+    static List<int[]> expectedBlocks(boolean ipv6, BitSet marked) {
+        int width = ipv6 ? 128 : 32;
+        List<int[]> blocks = new ArrayList<>();
+        for (int start = marked.nextSetBit(0); start >= 0; start = marked.nextSetBit(start)) {
+            int end = marked.nextClearBit(start);
+            while (start < end) {
+                long low = low(ipv6, start);
+                int alignment = low == 0 ? 64 : Long.numberOfTrailingZeros(low);
+                int bits = 0;
+                while (bits < alignment && start + (2 << bits) <= end) {
+                    bits++;
+                }
+                blocks.add(new int[] {start, width - bits});
+                start += 1 << bits;
+            }
+        }
+        return blocks;
+    }
+
+    static int randomPrefix(boolean ipv6, SplittableRandom random) { // Blocks of 1 to 2048 addresses
+        return (ipv6 ? 128 : 32) - random.nextInt(12);
+    }
+
+    private static String describe(List<int[]> blocks) {
+        StringBuilder sb = new StringBuilder();
+        for (int[] block : blocks) {
+            sb.append(block[0]).append('/').append(block[1]).append(' ');
+        }
+        return sb.toString();
+    }
+
+    // Tests -------------------------------------------------------------------------------
+    @Test
+    void batchAndStreamingMatchBruteForce() {
+        SplittableRandom random = new SplittableRandom(8);
+        for (int round = 0; round < 200; round++) {
+            boolean ipv6 = round % 2 == 1;
+            int count = 1 + random.nextInt(40);
+            BitSet marked = new BitSet(WINDOW);
+            int[] addresses = new int[count];
+            long[] high = new long[count];
+            long[] low = new long[count];
+            int[] prefixes = new int[count];
+            for (int i = 0; i < count; i++) {
+                int offset = random.nextInt(WINDOW); // Host bits are set, the aggregator has to clear them
+                int prefix = randomPrefix(ipv6, random);
+                int size = 1 << ((ipv6 ? 128 : 32) - prefix);
+                int first = offset & -size;
+                marked.set(first, first + size);
+                high[i] = high(ipv6, offset);
+                low[i] = low(ipv6, offset);
+                addresses[i] = (int) low[i];
+                prefixes[i] = prefix;
+            }
+            List<int[]> expected = expectedBlocks(ipv6, marked);
+            List<int[]> streamed = new ArrayList<>();
+            CidrAggregator.Aggregator aggregator = ipv6
+                    ? new CidrAggregator.Aggregator((h, l, prefix) -> streamed.add(new int[] {offset(true, l), prefix}))
+                    : new CidrAggregator.Aggregator((address, prefix) -> streamed.add(new int[] {offset(false, address & 0xFFFFFFFFL), prefix}));
+            marked.stream().forEach(o -> aggregator.add(high(ipv6, o), low(ipv6, o), ipv6 ? 128 : 32)); // Sorted single addresses
+            aggregator.finish();
+            assertEquals(describe(expected), describe(streamed));
+            int blocks = ipv6 ? CidrAggregator.aggregateIPv6(high, low, prefixes, count) : CidrAggregator.aggregateIPv4(addresses, prefixes, count);
+            List<int[]> batch = new ArrayList<>();
+            for (int i = 0; i < blocks; i++) {
+                batch.add(new int[] {ipv6 ? offset(true, low[i]) : offset(false, addresses[i] & 0xFFFFFFFFL), prefixes[i]});
+            }
+            assertEquals(describe(expected), describe(batch));
+        }
+    }
+
+    @Test
+    void streamingIPv4IgnoresHostBitsAndChecksThePrefix() {
+        List<String> blocks = new ArrayList<>();
+        CidrAggregator.Aggregator aggregator = new CidrAggregator.Aggregator((address, prefix) -> blocks.add(IPv4Network.toDottedQuad(address) + "/" + prefix));
+        aggregator.add(0L, 0x0A000005L, 24);
+        aggregator.finish();
+        assertEquals(List.of("10.0.0.0/24"), blocks);
+        assertThrows(IllegalArgumentException.class, () -> aggregator.add(0L, 0x0A000000L, 33));
+        assertThrows(IllegalArgumentException.class, () -> aggregator.add(0L, 0x0A000000L, -1));
+        CidrAggregator.Aggregator ipv6 = new CidrAggregator.Aggregator((high, low, prefix) -> { });
+        assertThrows(IllegalArgumentException.class, () -> ipv6.add(0L, 0L, 129));
+    }
+}
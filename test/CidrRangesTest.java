@@ -0,0 +1,107 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * CidrRangesTest.java - This class checks range decomposition and prefix exclusion against the brute-force blocks of CidrAggregatorTest,
+ * in a 4096-address IPv4 window and an IPv6 window centred on the boundary between the two longs.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class CidrRangesTest {
+    private static String describe(List<int[]> blocks) {
+        StringBuilder sb = new StringBuilder();
+        for (int[] block : blocks) {
+            sb.append(block[0]).append('/').append(block[1]).append(' ');
+        }
+        return sb.toString();
+    }
+
+    private static String describeIPv4(Iterator<IPv4Network> networks) {
+        List<int[]> blocks = new ArrayList<>();
+        networks.forEachRemaining(n -> blocks.add(new int[] {CidrAggregatorTest.offset(false, n.getNetworkAddress() & 0xFFFFFFFFL), n.getPrefix()}));
+        return describe(blocks);
+    }
+
+    private static String describeIPv6(Iterator<IPv6Network> networks) {
+        List<int[]> blocks = new ArrayList<>();
+        networks.forEachRemaining(n -> blocks.add(new int[] {CidrAggregatorTest.offset(true, n.getNetworkLow()), n.getPrefix()}));
+        return describe(blocks);
+    }
+
+    private static long high(boolean ipv6, int offset) {
+        return CidrAggregatorTest.high(ipv6, offset);
+    }
+
+    private static long low(boolean ipv6, int offset) {
+        return CidrAggregatorTest.low(ipv6, offset);
+    }
+
+    @Test
+    void rangesMatchBruteForce() {
+        SplittableRandom random = new SplittableRandom(9);
+        for (int round = 0; round < 500; round++) {
+            boolean ipv6 = round % 2 == 1;
+            int first = random.nextInt(CidrAggregatorTest.WINDOW);
+            int last = first + random.nextInt(CidrAggregatorTest.WINDOW - first);
+            BitSet marked = new BitSet();
+            marked.set(first, last + 1);
+            String expected = describe(CidrAggregatorTest.expectedBlocks(ipv6, marked));
+            String actual = ipv6 ? describeIPv6(CidrRanges.ipv6Range(high(true, first), low(true, first), high(true, last), low(true, last)))
+                    : describeIPv4(CidrRanges.ipv4Range((int) low(false, first), (int) low(false, last)));
+            assertEquals(expected, actual, first + "-" + last);
+        }
+    }
+
+    @Test
+    void exclusionMatchesBruteForce() {
+        SplittableRandom random = new SplittableRandom(10);
+        for (int round = 0; round < 300; round++) {
+            boolean ipv6 = round % 2 == 1;
+            int width = ipv6 ? 128 : 32;
+            int supernetSize = 1 << (6 + random.nextInt(6)); // 64 to 2048 addresses, so excluded prefixes also fall outside it
+            int supernetStart = random.nextInt(CidrAggregatorTest.WINDOW / supernetSize) * supernetSize;
+            int supernetPrefix = width - Integer.numberOfTrailingZeros(supernetSize);
+            BitSet marked = new BitSet();
+            marked.set(supernetStart, supernetStart + supernetSize);
+            List<IPv4Network> excludedIPv4 = new ArrayList<>();
+            List<IPv6Network> excludedIPv6 = new ArrayList<>();
+            for (int i = random.nextInt(12); i > 0; i--) {
+                int offset = random.nextInt(CidrAggregatorTest.WINDOW);
+                int prefix = CidrAggregatorTest.randomPrefix(ipv6, random);
+                int size = 1 << (width - prefix);
+                marked.clear(offset & -size, (offset & -size) + size);
+                if (ipv6) {
+                    excludedIPv6.add(new IPv6Network(high(true, offset), low(true, offset), prefix));
+                } else {
+                    excludedIPv4.add(new IPv4Network((int) low(false, offset), prefix));
+                }
+            }
+            String expected = describe(CidrAggregatorTest.expectedBlocks(ipv6, marked));
+            String actual = ipv6
+                    ? describeIPv6(CidrRanges.exclude(new IPv6Network(high(true, supernetStart), low(true, supernetStart), supernetPrefix), excludedIPv6))
+                    : describeIPv4(CidrRanges.exclude(new IPv4Network((int) low(false, supernetStart), supernetPrefix), excludedIPv4));
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void wholeAddressSpaceAndEmptyRanges() {
+        Iterator<IPv4Network> ipv4 = CidrRanges.ipv4Range(0, -1);
+        assertEquals(0, ipv4.next().getPrefix());
+        assertFalse(ipv4.hasNext());
+        Iterator<IPv6Network> ipv6 = CidrRanges.ipv6Range(0L, 0L, -1L, -1L);
+        assertEquals(0, ipv6.next().getPrefix());
+        assertFalse(ipv6.hasNext());
+        assertFalse(CidrRanges.ipv4Range(0x0A000001, 0x0A000000).hasNext());
+        assertFalse(CidrRanges.ipv6Range(1L, 0L, 0L, -1L).hasNext());
+    }
+}
@@ -0,0 +1,312 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * DifferentialCheck.java - This class runs generated addresses, masks and prefix lengths through the calculator and through
+ * ReferenceCalculator and collects every case where they disagree. It covers IPParser, IPValidator, IPv4Info/IPv6Info with
+ * OutputFormatter, cidrToSubnetMask and subnetMaskToPrefixLength. The cases are a mix of random valid input, edge cases (/0, /31, /32,
+ * /127, /128, all-zero and all-one addresses, compressed and embedded-IPv4 IPv6, zone IDs) and malformed strings made by mutating
+ * valid ones. Each block of cases has its own seeded generator and the blocks run as a parallel stream, so a run is reproducible
+ * from its seed and uses every core. DifferentialCheckTest runs it under "mvn test", ParserFuzzer runs the same checks on coverage-guided input.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+final class DifferentialCheck {
+    private static final int BLOCK = 10_000; // Cases per seeded generator
+    private static final int MAX_REPORTED = 20;
+    private static final int[] IPV4_EDGE_PREFIXES = {0, 1, 8, 16, 23, 24, 30, 31, 32};
+    private static final int[] IPV6_EDGE_PREFIXES = {0, 1, 48, 63, 64, 65, 96, 127, 128};
+    private static final String MUTATIONS = "0123456789abcdefABCDEFgxz.:%/ -+\u0661\uff11\u00e9"; // Includes Arabic-Indic and fullwidth digits
+
+    private DifferentialCheck() {
+    }
+
+    // Checks, each returns null when the calculator agrees with the reference -----------------------
+    static String checkIPv4(String text, int prefix) {
+        long reference = ReferenceCalculator.parseIPv4(text);
+        long parsed = IPParser.parseIPv4(text);
+        if ((parsed < 0) != (reference < 0) || (reference >= 0 && parsed != reference)) {
+            return "IPParser.parseIPv4 returned " + parsed + ", the reference " + reference;
+        }
+        if (IPParser.parseIPv4(text.toCharArray(), 0, text.length()) != parsed) {
+            return "IPParser.parseIPv4(char[]) differs from the CharSequence parse";
+        }
+        if (isLatin1(text)) {
+            byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+            if (IPParser.parseIPv4(bytes, 0, bytes.length) != parsed) {
+                return "IPParser.parseIPv4(byte[]) differs from the CharSequence parse";
+            }
+        }
+        if (IPValidator.validateIPv4Address(text) != reference >= 0) {
+            return "IPValidator.validateIPv4Address disagrees";
+        }
+        String report = OutputFormatter.formatIPv4Output(new IPv4Info(text, prefix)); // Invalid input has to be reported, not thrown
+        if (reference < 0) {
+            return null;
+        }
+        String expected = ReferenceCalculator.ipv4Report(text, prefix);
+        if (!report.equals(expected)) {
+            return difference("IPv4 report", report, expected);
+        }
+        String mask = ReferenceCalculator.dottedQuad(ReferenceCalculator.mask(prefix));
+        if (!IPCalculator.cidrToSubnetMask(prefix).equals(mask)) {
+            return "IPCalculator.cidrToSubnetMask returned " + IPCalculator.cidrToSubnetMask(prefix) + ", the reference " + mask;
+        }
+        String maskReport = OutputFormatter.formatIPv4Output(new IPv4Info(text, mask));
+        return maskReport.equals(expected) ? null : difference("IPv4 report from the subnet mask " + mask, maskReport, expected);
+    }
+
+    static String checkSubnetMask(String mask) {
+        int prefix = IPv4Info.subnetMaskToPrefixLength(mask);
+        int reference = ReferenceCalculator.prefixLength(mask);
+        return prefix == reference ? null : "IPv4Info.subnetMaskToPrefixLength returned " + prefix + ", the reference " + reference;
+    }
+
+    static String checkPrefixLength(String text, int max) {
+        int reference;
+        if (text.isEmpty() || text.length() > 3 || !text.chars().allMatch(ch -> ch >= '0' && ch <= '9')) {
+            reference = -1;
+        } else {
+            reference = Integer.parseInt(text) <= max ? Integer.parseInt(text) : -1;
+        }
+        int parsed = IPParser.parsePrefixLength(text, 0, text.length(), max);
+        return (parsed < 0 ? -1 : parsed) == reference ? null : "IPParser.parsePrefixLength returned " + parsed + ", the reference " + reference;
+    }
+
+    static String checkIPv6(String text, int prefix) {
+        byte[] reference = ReferenceCalculator.parseIPv6(text);
+        long[] halves = new long[2];
+        boolean parsed = IPParser.parseIPv6(text, halves) == IPParser.OK;
+        if (parsed != (reference != null)) {
+            return "IPParser.parseIPv6 " + (parsed ? "accepted" : "rejected") + " it, the reference " + (parsed ? "rejected" : "accepted") + " it";
+        }
+        if (parsed) {
+            BigInteger value = new BigInteger(1, reference);
+            if (value.shiftRight(64).longValue() != halves[0] || value.longValue() != halves[1]) {
+                return "IPParser.parseIPv6 returned " + Long.toHexString(halves[0]) + ":" + Long.toHexString(halves[1]) + ", the reference " + value.toString(16);
+            }
+        }
+        long[] other = new long[2];
+        if ((IPParser.parseIPv6(text.toCharArray(), 0, text.length(), other) == IPParser.OK) != parsed || (parsed && (other[0] != halves[0] || other[1] != halves[1]))) {
+            return "IPParser.parseIPv6(char[]) differs from the CharSequence parse";
+        }
+        if (isLatin1(text)) {
+            byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+            if ((IPParser.parseIPv6(bytes, 0, bytes.length, other) == IPParser.OK) != parsed || (parsed && (other[0] != halves[0] || other[1] != halves[1]))) {
+                return "IPParser.parseIPv6(byte[]) differs from the CharSequence parse";
+            }
+        }
+        if (IPValidator.validateIPv6Address(text) != parsed) {
+            return "IPValidator.validateIPv6Address disagrees";
+        }
+        String report = OutputFormatter.formatIPv6Output(new IPv6Info(text, prefix));
+        if (!parsed) {
+            return null;
+        }
+        String expected = ReferenceCalculator.ipv6Report(text, prefix);
+        return report.equals(expected) ? null : difference("IPv6 report", report, expected);
+    }
+
+    private static boolean isLatin1(String text) {
+        return text.chars().allMatch(ch -> ch <= 0xFF);
+    }
+
+    private static String difference(String what, String actual, String expected) {
+        String[] actualLines = actual.split("\n", -1);
+        String[] expectedLines = expected.split("\n", -1);
+        for (int i = 0; i < Math.min(actualLines.length, expectedLines.length); i++) {
+            if (!actualLines[i].equals(expectedLines[i])) {
+                return what + ": \"" + actualLines[i] + "\", the reference \"" + expectedLines[i] + "\"";
+            }
+        }
+        return what + " has " + actualLines.length + " lines, the reference " + expectedLines.length;
+    }
+
+    // Generators ------------------------------------------------------------------------------
+    static String ipv4(SplittableRandom random) {
+        int[] octets = new int[4];
+        for (int i = 0; i < 4; i++) {
+            switch (random.nextInt(6)) {
+                case 0:
+                    octets[i] = 0;
+                    break;
+                case 1:
+                    octets[i] = 255;
+                    break;
+                default:
+                    octets[i] = random.nextInt(256);
+                    break;
+            }
+        }
+        return octets[0] + "." + octets[1] + "." + octets[2] + "." + octets[3];
+    }
+
+    static String ipv6(SplittableRandom random) {
+        switch (random.nextInt(20)) { // Fixed edge cases now and then
+            case 0:
+                return "::";
+            case 1:
+                return "::1";
+            case 2:
+                return "::ffff:" + ipv4(random);
+            case 3:
+                return "::" + ipv4(random);
+            case 4:
+                return "64:ff9b::" + ipv4(random);
+            default:
+                break;
+        }
+        int[] groups = new int[8];
+        for (int i = 0; i < 8; i++) {
+            int kind = random.nextInt(10);
+            groups[i] = kind < 4 ? 0 : kind == 4 ? 0xFFFF : random.nextInt(1 << (4 * (1 + random.nextInt(4))));
+        }
+        boolean embedded = random.nextInt(8) == 0;
+        int count = embedded ? 6 : 8;
+        int compressFrom = -1; // Replace one run of zero groups with "::", not always the longest
+        int compressTo = -1;
+        if (random.nextInt(4) != 0) {
+            for (int i = 0; i < count; i++) {
+                if (groups[i] == 0 && (compressFrom < 0 || random.nextInt(3) == 0)) {
+                    int end = i;
+                    while (end < count && groups[end] == 0) {
+                        end++;
+                    }
+                    compressFrom = i;
+                    compressTo = end;
+                    i = end;
+                }
+            }
+        }
+        StringBuilder sb = new StringBuilder(48);
+        for (int i = 0; i < count; i++) {
+            if (i == compressFrom) {
+                sb.append("::");
+                i = compressTo - 1;
+                continue;
+            }
+            if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ':') {
+                sb.append(':');
+            }
+            String hex = Integer.toHexString(groups[i]);
+            if (random.nextInt(8) == 0) {
+                hex = "0000".substring(hex.length()) + hex; // Leading zeros up to four digits
+            }
+            sb.append(random.nextInt(6) == 0 ? hex.toUpperCase() : hex);
+        }
+        if (embedded) {
+            if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ':') {
+                sb.append(':');
+            }
+            sb.append(ipv4(random));
+        }
+        if (random.nextInt(30) == 0) {
+            sb.append(random.nextBoolean() ? "%eth0" : "%" + random.nextInt(16));
+        }
+        return sb.toString();
+    }
+
+    static String mutate(String text, SplittableRandom random) {
+        StringBuilder sb = new StringBuilder(text);
+        for (int edits = 1 + random.nextInt(3); edits > 0; edits--) {
+            int at = sb.length() == 0 ? 0 : random.nextInt(sb.length());
+            char ch = MUTATIONS.charAt(random.nextInt(MUTATIONS.length()));
+            switch (random.nextInt(5)) {
+                case 0:
+                    sb.insert(at, ch);
+                    break;
+                case 1:
+                    if (sb.length() > 0) {
+                        sb.deleteCharAt(at);
+                    }
+                    break;
+                case 2:
+                    if (sb.length() > 0) {
+                        sb.setCharAt(at, ch);
+                    }
+                    break;
+                case 3:
+                    sb.insert(at, sb.substring(at, Math.min(sb.length(), at + 1 + random.nextInt(4)))); // Repeat a piece
+                    break;
+                default:
+                    sb.setLength(at); // Truncate
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int prefix(SplittableRandom random, int[] edges, int max) {
+        return random.nextBoolean() ? edges[random.nextInt(edges.length)] : random.nextInt(max + 1);
+    }
+
+    // One generated case, returns null or a description of the mismatch
+    static String runCase(SplittableRandom random) {
+        int kind = random.nextInt(20);
+        boolean malformed = random.nextInt(3) == 0;
+        if (kind < 8) {
+            String text = ipv4(random);
+            return describe("IPv4", malformed ? mutate(text, random) : text, prefix(random, IPV4_EDGE_PREFIXES, 32));
+        } else if (kind < 16) {
+            String text = ipv6(random);
+            return describe("IPv6", malformed ? mutate(text, random) : text, prefix(random, IPV6_EDGE_PREFIXES, 128));
+        } else if (kind < 18) {
+            String mask = random.nextBoolean() ? ReferenceCalculator.dottedQuad(ReferenceCalculator.mask(random.nextInt(33))) : ipv4(random);
+            return describe("mask", malformed ? mutate(mask, random) : mask, -1);
+        }
+        String text = Integer.toString(random.nextInt(140));
+        return describe("prefix length", malformed ? mutate(text, random) : text, -1);
+    }
+
+    private static String describe(String kind, String text, int prefix) {
+        String result;
+        try {
+            switch (kind) {
+                case "IPv4":
+                    result = checkIPv4(text, prefix);
+                    break;
+                case "IPv6":
+                    result = checkIPv6(text, prefix);
+                    break;
+                case "mask":
+                    result = checkSubnetMask(text);
+                    break;
+                default:
+                    result = checkPrefixLength(text, 128);
+                    break;
+            }
+        } catch (RuntimeException ex) {
+            result = "threw " + ex;
+        }
+        return result == null ? null : kind + " \"" + text + "\"" + (prefix >= 0 ? " /" + prefix : "") + ": " + result;
+    }
+
+    // Runs the cases in seeded blocks on a parallel stream and returns the number of mismatches, the first
+    // MAX_REPORTED of them are added to reported. The same seed and count always generate the same cases.
+    static long run(long cases, long seed, List<String> reported) {
+        int blocks = (int) ((cases + BLOCK - 1) / BLOCK);
+        AtomicLong failures = new AtomicLong();
+        List<String> found = new CopyOnWriteArrayList<>();
+        IntStream.range(0, blocks).parallel().forEach(block -> {
+            SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + block);
+            for (int i = 0; i < BLOCK; i++) {
+                String mismatch = runCase(random);
+                if (mismatch != null && failures.incrementAndGet() <= MAX_REPORTED) {
+                    found.add(mismatch);
+                }
+            }
+        });
+        reported.addAll(found);
+        return failures.get();
+    }
+}
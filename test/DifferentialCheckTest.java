@@ -0,0 +1,64 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * DifferentialCheckTest.java - This class runs the differential checks and the fuzz target under "mvn test".
+ * The default case count keeps the suite to a few seconds. A long run is opt-in: "mvn test -Plong-checks" runs two
+ * million cases with a new seed each run, or set -Dnetip.cases=N directly. The quick run always uses the same seed so a
+ * failure in it reproduces. A failure prints its seed, -Dnetip.seed=S repeats the same cases.
+ * The report checks at the top are written out by hand, so they hold even where the reference and the calculator could agree on a mistake.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class DifferentialCheckTest {
+    private static final long CASES = Long.getLong("netip.cases", 20_000);
+    private static final long SEED = Long.getLong("netip.seed", 0x5EEDL);
+
+    // Hand-written reports ----------------------------------------------------------------------
+    private static void assertRange(String address, int prefix, String range, long total, long usable) {
+        String report = OutputFormatter.formatIPv4Output(new IPv4Info(address, prefix));
+        assertTrue(report.contains("\nUsable Host IP Range: " + range + "\n"), report);
+        assertTrue(report.contains("\nTotal Number of Hosts: " + total + "\n"), report);
+        assertTrue(report.contains("\nNumber of Usable Hosts: " + usable + "\n"), report);
+        assertEquals(report, ReferenceCalculator.ipv4Report(address, prefix));
+    }
+
+    @Test
+    void hostCountsMatchTheUsableRange() {
+        assertRange("0.0.0.0", 0, "0.0.0.1 - 255.255.255.254", 4294967296L, 4294967294L);
+        assertRange("192.168.10.77", 24, "192.168.10.1 - 192.168.10.254", 256, 254);
+        assertRange("192.168.10.77", 30, "192.168.10.77 - 192.168.10.78", 4, 2);
+        assertRange("10.0.0.1", 31, "10.0.0.0 - 10.0.0.1", 2, 2); // RFC 3021 point-to-point link
+        assertRange("10.0.0.1", 32, "10.0.0.1 - 10.0.0.1", 1, 1);
+        assertRange("255.255.255.255", 32, "255.255.255.255 - 255.255.255.255", 1, 1);
+    }
+
+    // Generated cases -----------------------------------------------------------------------------
+    @Test
+    void generatedCasesMatchTheReference() {
+        List<String> reported = new ArrayList<>();
+        long failures = DifferentialCheck.run(CASES, SEED, reported);
+        assertEquals(0, failures, "seed " + SEED + "\n" + String.join("\n", reported));
+    }
+
+    @Test
+    void fuzzTargetAcceptsRandomInput() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long i = 0; i < CASES; i++) {
+            byte[] data = ParserFuzzer.randomInput(random);
+            try {
+                ParserFuzzer.fuzzerTestOneInput(data);
+            } catch (RuntimeException ex) {
+                throw new AssertionError("seed " + SEED + ", input " + Arrays.toString(data), ex);
+            }
+        }
+    }
+}
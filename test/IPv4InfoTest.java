@@ -0,0 +1,30 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * IPv4InfoTest.java - This class checks the IPv4Info constructors reject what they cannot calculate instead of formatting a wrong report.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class IPv4InfoTest {
+    @Test
+    void prefixLengthOutOfRangeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new IPv4Info("10.0.0.1", 40));
+        assertThrows(IllegalArgumentException.class, () -> new IPv4Info("10.0.0.1", 33));
+        assertThrows(IllegalArgumentException.class, () -> new IPv4Info("10.0.0.1", -3));
+        assertThrows(IllegalArgumentException.class, () -> new IPv4Info("10.0.0.1", "255.0.255.0"));
+        assertEquals("0.0.0.0", new IPv4Info("10.0.0.1", 0).getSubnetMask());
+        assertEquals("255.255.255.255", new IPv4Info("10.0.0.1", 32).getSubnetMask());
+    }
+
+    @Test
+    void ipClassComesFromTheParsedAddress() {
+        assertEquals("A", new IPv4Info("10.0.0.1", 8).calculateIPClass());
+        assertEquals("C", new IPv4Info("192.168.1.1", "255.255.255.0").calculateIPClass());
+        assertEquals("E", new IPv4Info("250.0.0.1", 32).calculateIPClass());
+        assertEquals("Unknown", new IPv4Info("10.0.0.256", 24).calculateIPClass());
+    }
+}
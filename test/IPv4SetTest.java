@@ -0,0 +1,93 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * IPv4SetTest.java - This class checks IPv4Set against a BitSet over a window of 4096 addresses around 128.0.0.0, where the signed
+ * order of packed addresses breaks. Sets are built from a few hundred random ranges, enough to make the builder compact several times.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class IPv4SetTest {
+    private static final int WINDOW = 4096;
+    private static final int BASE = 0x7FFFF800; // 127.255.248.0, the window ends at 128.0.7.255
+
+    private static IPv4Set randomSet(SplittableRandom random, BitSet marked) {
+        IPv4Set.Builder builder = IPv4Set.builder();
+        for (int i = random.nextInt(300); i > 0; i--) {
+            int first = random.nextInt(WINDOW);
+            int last = Math.min(WINDOW - 1, first + random.nextInt(random.nextBoolean() ? 4 : 64));
+            builder.add(BASE + first, BASE + last);
+            marked.set(first, last + 1);
+        }
+        return builder.build();
+    }
+
+    private static BitSet bits(IPv4Set set) { // The set inside the window
+        BitSet bits = new BitSet();
+        for (int i = 0; i < set.rangeCount(); i++) {
+            long first = Math.max(0L, (set.rangeStart(i) & 0xFFFFFFFFL) - BASE);
+            long last = Math.min(WINDOW - 1L, (set.rangeEnd(i) & 0xFFFFFFFFL) - BASE);
+            if (first <= last) {
+                bits.set((int) first, (int) last + 1);
+            }
+        }
+        return bits;
+    }
+
+    @Test
+    void setOperationsMatchBitSets() {
+        SplittableRandom random = new SplittableRandom(11);
+        IPv4Set window = IPv4Set.builder().add(BASE, BASE + WINDOW - 1).build();
+        for (int round = 0; round < 100; round++) {
+            BitSet a = new BitSet();
+            BitSet b = new BitSet();
+            IPv4Set setA = randomSet(random, a);
+            IPv4Set setB = randomSet(random, b);
+            assertEquals(a, bits(setA));
+            assertEquals(a.cardinality(), setA.addressCount());
+            for (int i = 0; i < WINDOW; i += 7) {
+                assertEquals(a.get(i), setA.contains(BASE + i));
+            }
+            int first = random.nextInt(WINDOW);
+            int last = first + random.nextInt(Math.min(64, WINDOW - first));
+            assertEquals(a.nextClearBit(first) > last, setA.contains(BASE + first, BASE + last));
+
+            BitSet expected = (BitSet) a.clone();
+            expected.or(b);
+            assertEquals(expected, bits(setA.union(setB)));
+            expected = (BitSet) a.clone();
+            expected.and(b);
+            assertEquals(expected, bits(setA.intersection(setB)));
+            assertEquals(!expected.isEmpty(), setA.overlaps(setB));
+            expected = (BitSet) a.clone();
+            expected.andNot(b);
+            assertEquals(expected, bits(setA.difference(setB)));
+            expected = new BitSet();
+            expected.set(0, WINDOW);
+            expected.andNot(a);
+            assertEquals(expected, bits(setA.complement()));
+            assertEquals(WINDOW - a.cardinality(), window.difference(setA).addressCount());
+
+            IPv4Set.Builder rebuilt = IPv4Set.builder();
+            setA.cidrs().forEach(rebuilt::add);
+            assertEquals(setA, rebuilt.build());
+            assertEquals(setA.hashCode(), rebuilt.build().hashCode());
+            assertTrue(setA.cidrs().count() >= setA.rangeCount()); // Every range takes at least one block
+        }
+    }
+
+    @Test
+    void wholeAddressSpace() {
+        assertEquals(1L << 32, IPv4Set.ALL.addressCount());
+        assertEquals(IPv4Set.EMPTY, IPv4Set.ALL.complement());
+        assertEquals(IPv4Set.ALL, IPv4Set.EMPTY.complement());
+        assertEquals(IPv4Set.ALL, IPv4Set.builder().add(0, 0x7FFFFFFF).add(0x80000000, 0xFFFFFFFF).build());
+        assertEquals(1L, IPv4Set.ALL.cidrs().count());
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * IPv6SetTest.java - This class checks IPv6Set against a BitSet over the window of CidrAggregatorTest, 4096 addresses centred on
+ * the boundary between the two longs. Sets are built from a few hundred random ranges, enough to make the builder compact several times.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class IPv6SetTest {
+    private static final int WINDOW = CidrAggregatorTest.WINDOW;
+
+    private static long high(int offset) {
+        return CidrAggregatorTest.high(true, offset);
+    }
+
+    private static long low(int offset) {
+        return CidrAggregatorTest.low(true, offset);
+    }
+
+    private static IPv6Set randomSet(SplittableRandom random, BitSet marked) {
+        IPv6Set.Builder builder = IPv6Set.builder();
+        for (int i = random.nextInt(300); i > 0; i--) {
+            int first = random.nextInt(WINDOW);
+            int last = Math.min(WINDOW - 1, first + random.nextInt(random.nextBoolean() ? 4 : 64));
+            builder.add(high(first), low(first), high(last), low(last));
+            marked.set(first, last + 1);
+        }
+        return builder.build();
+    }
+
+    private static BitSet bits(IPv6Set set) { // The set inside the window
+        BitSet bits = new BitSet();
+        for (int i = 0; i < set.rangeCount(); i++) {
+            int first = IPv6Network.compare(set.rangeStartHigh(i), set.rangeStartLow(i), high(0), low(0)) < 0 ? 0
+                    : IPv6Network.compare(set.rangeStartHigh(i), set.rangeStartLow(i), high(WINDOW - 1), low(WINDOW - 1)) > 0 ? WINDOW
+                    : CidrAggregatorTest.offset(true, set.rangeStartLow(i));
+            int last = IPv6Network.compare(set.rangeEndHigh(i), set.rangeEndLow(i), high(WINDOW - 1), low(WINDOW - 1)) > 0 ? WINDOW - 1
+                    : IPv6Network.compare(set.rangeEndHigh(i), set.rangeEndLow(i), high(0), low(0)) < 0 ? -1
+                    : CidrAggregatorTest.offset(true, set.rangeEndLow(i));
+            if (first <= last) {
+                bits.set(first, last + 1);
+            }
+        }
+        return bits;
+    }
+
+    @Test
+    void setOperationsMatchBitSets() {
+        SplittableRandom random = new SplittableRandom(11);
+        IPv6Set window = IPv6Set.builder().add(high(0), low(0), high(WINDOW - 1), low(WINDOW - 1)).build();
+        for (int round = 0; round < 100; round++) {
+            BitSet a = new BitSet();
+            BitSet b = new BitSet();
+            IPv6Set setA = randomSet(random, a);
+            IPv6Set setB = randomSet(random, b);
+            assertEquals(a, bits(setA));
+            assertEquals(BigInteger.valueOf(a.cardinality()), setA.addressCount());
+            for (int i = 0; i < WINDOW; i += 7) {
+                assertEquals(a.get(i), setA.contains(high(i), low(i)));
+            }
+            int first = random.nextInt(WINDOW);
+            int last = first + random.nextInt(Math.min(64, WINDOW - first));
+            assertEquals(a.nextClearBit(first) > last, setA.contains(high(first), low(first), high(last), low(last)));
+
+            BitSet expected = (BitSet) a.clone();
+            expected.or(b);
+            assertEquals(expected, bits(setA.union(setB)));
+            expected = (BitSet) a.clone();
+            expected.and(b);
+            assertEquals(expected, bits(setA.intersection(setB)));
+            assertEquals(!expected.isEmpty(), setA.overlaps(setB));
+            expected = (BitSet) a.clone();
+            expected.andNot(b);
+            assertEquals(expected, bits(setA.difference(setB)));
+            expected = new BitSet();
+            expected.set(0, WINDOW);
+            expected.andNot(a);
+            assertEquals(expected, bits(setA.complement()));
+            assertEquals(BigInteger.valueOf(WINDOW - a.cardinality()), window.difference(setA).addressCount());
+
+            IPv6Set.Builder rebuilt = IPv6Set.builder();
+            setA.cidrs().forEach(rebuilt::add);
+            assertEquals(setA, rebuilt.build());
+            assertEquals(setA.hashCode(), rebuilt.build().hashCode());
+        }
+    }
+
+    @Test
+    void duplicatesMergeIntoOneRange() {
+        IPv6Set.Builder builder = IPv6Set.builder();
+        for (int i = 0; i < 100_000; i++) {
+            builder.add(high(i % WINDOW), low(i % WINDOW));
+        }
+        IPv6Set set = builder.build();
+        assertEquals(1, set.rangeCount());
+        assertEquals(BigInteger.valueOf(WINDOW), set.addressCount());
+    }
+
+    @Test
+    void wholeAddressSpace() {
+        assertEquals(BigInteger.ONE.shiftLeft(128), IPv6Set.ALL.addressCount());
+        assertEquals(IPv6Set.EMPTY, IPv6Set.ALL.complement());
+        assertEquals(IPv6Set.ALL, IPv6Set.EMPTY.complement());
+        assertEquals(IPv6Set.ALL, IPv6Set.builder().add(0L, 0L, Long.MAX_VALUE, -1L).add(Long.MIN_VALUE, 0L, -1L, -1L).build());
+        assertEquals(1L, IPv6Set.ALL.cidrs().count());
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * NetIPBatchTest.java - This class checks the host count columns of the batch output. Consumers load these files as data,
+ * so the counts have to agree with the first_host and last_host columns for every prefix length, /31 and /32 included.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class NetIPBatchTest {
+    private static String run(NetIPBatch.Format format, String input) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new NetIPBatch(format).run(Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII))),
+                Channels.newChannel(out));
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void ipv4CountsMatchTheHostRange() throws IOException {
+        String[] rows = run(NetIPBatch.Format.CSV, "0.0.0.0/0\n192.168.10.77/24\n10.0.0.1/31\n10.0.0.1\n").split("\n");
+        assertEquals("0.0.0.0/0,4,0.0.0.0,0,0.0.0.0,255.255.255.255,0.0.0.1,255.255.255.254,4294967296,4294967294", leadingColumns(rows[1]));
+        assertEquals("192.168.10.77/24,4,192.168.10.77,24,192.168.10.0,192.168.10.255,192.168.10.1,192.168.10.254,256,254", leadingColumns(rows[2]));
+        assertEquals("10.0.0.1/31,4,10.0.0.1,31,10.0.0.0,10.0.0.1,10.0.0.0,10.0.0.1,2,2", leadingColumns(rows[3]));
+        assertEquals("10.0.0.1,4,10.0.0.1,32,10.0.0.1,10.0.0.1,10.0.0.1,10.0.0.1,1,1", leadingColumns(rows[4]));
+    }
+
+    @Test
+    void jsonCountsAreNumbersForIPv4AndStringsForIPv6() throws IOException {
+        String[] rows = run(NetIPBatch.Format.JSONL, "10.0.0.1/31\n2001:db8::/64\n::/0\n").split("\n");
+        assertTrue(rows[0].contains("\"total_hosts\":2,\"usable_hosts\":2,"), rows[0]);
+        assertTrue(rows[1].contains("\"total_hosts\":\"18446744073709551616\""), rows[1]);
+        assertTrue(rows[2].contains("\"total_hosts\":\"340282366920938463463374607431768211456\""), rows[2]);
+    }
+
+    private static String leadingColumns(String row) { // The columns up to usable_hosts
+        String[] fields = row.split(",", -1);
+        return String.join(",", Arrays.copyOf(fields, 10));
+    }
+}
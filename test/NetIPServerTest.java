@@ -0,0 +1,98 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * NetIPServerTest.java - This class runs the HTTP service on a loopback port and checks the endpoints, their error statuses
+ * and the success and error counts the request metrics record for them.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NetIPServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private NetIPServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new NetIPServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.route("/fail", "GET", exchange -> {
+            throw new IllegalStateException("handler failure");
+        });
+        server.start();
+        NetIPMetrics.reset();
+    }
+
+    @AfterEach
+    void stop() {
+        server.stop(0);
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path))
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void calculate() throws IOException, InterruptedException {
+        HttpResponse<String> response = send("GET", "/calculate?input=10.0.0.1/31", null);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("{\"input\":\"10.0.0.1/31\",\"version\":4,"), response.body());
+        assertTrue(response.body().contains("\"first_host\":\"10.0.0.0\",\"last_host\":\"10.0.0.1\",\"total_hosts\":2,\"usable_hosts\":2"), response.body());
+        assertEquals(400, send("GET", "/calculate?input=10.0.0.256/24", null).statusCode());
+        assertEquals(400, send("GET", "/calculate", null).statusCode());
+        assertEquals(405, send("POST", "/calculate?input=10.0.0.1/24", "").statusCode());
+    }
+
+    @Test
+    void contains() throws IOException, InterruptedException {
+        assertEquals("{\"network\":\"10.0.0.0/8\",\"address\":\"10.1.2.3\",\"contains\":true}",
+                send("GET", "/contains?network=10.0.0.0/8&address=10.1.2.3", null).body());
+        assertTrue(send("GET", "/contains?network=10.0.0.0/16&address=10.0.0.0/8", null).body().endsWith("\"contains\":false}"));
+        assertTrue(send("GET", "/contains?network=2001:db8::/32&address=2001:db8:1::/48", null).body().endsWith("\"contains\":true}"));
+        assertEquals(400, send("GET", "/contains?network=10.0.0.0&address=10.1.2.3", null).statusCode());
+    }
+
+    @Test
+    void batch() throws IOException, InterruptedException {
+        HttpResponse<String> response = send("POST", "/batch?format=csv", "10.0.0.1/24\n# comment\nnot-an-address\n");
+        assertEquals(200, response.statusCode());
+        String[] rows = response.body().split("\n");
+        assertEquals(3, rows.length);
+        assertTrue(rows[0].startsWith("input,version,"), rows[0]);
+        assertTrue(rows[1].startsWith("10.0.0.1/24,4,10.0.0.1,24,10.0.0.0,"), rows[1]);
+        assertTrue(rows[2].startsWith("not-an-address,"), rows[2]);
+        assertEquals(400, send("POST", "/batch?format=xml", "10.0.0.1/24\n").statusCode());
+        assertEquals(405, send("GET", "/batch", null).statusCode());
+    }
+
+    @Test
+    void metricsCountErrorsAndHandlerFailures() throws IOException, InterruptedException {
+        assertEquals(200, send("GET", "/health", null).statusCode());
+        assertEquals(400, send("GET", "/calculate?input=x", null).statusCode());
+        assertEquals(405, send("DELETE", "/health", null).statusCode());
+        HttpResponse<String> failure = send("GET", "/fail", null);
+        assertEquals(500, failure.statusCode());
+        assertEquals("{\"error\":\"Internal error\"}", failure.body());
+        long deadline = System.nanoTime() + 5_000_000_000L; // Recorded after the response is sent, so it can trail the client
+        while (NetIPMetrics.count(NetIPMetrics.Stage.REQUEST) < 4 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(4, NetIPMetrics.count(NetIPMetrics.Stage.REQUEST));
+        assertEquals(3, NetIPMetrics.errorCount(NetIPMetrics.Stage.REQUEST));
+        assertTrue(send("GET", "/metrics", null).body().contains("request"));
+    }
+}
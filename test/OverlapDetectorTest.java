@@ -0,0 +1,115 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * OverlapDetectorTest.java - This class compares the pairs found by the sweep, sequential and parallel, with every pair of
+ * entries classified one by one. The IPv6 entries sit across the boundary between the two longs and are mixed with IPv4
+ * entries, which must never be paired with them.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class OverlapDetectorTest {
+    // Pairs written as "kind first second", with the entry that starts first (or the lower id for duplicates) in front
+    private static String pair(OverlapDetector.Kind kind, int first, int second) {
+        if (kind == OverlapDetector.Kind.DUPLICATE && first > second) {
+            return kind + " " + second + " " + first;
+        }
+        return kind + " " + first + " " + second;
+    }
+
+    private static List<String> expectedPairs(List<int[]> entries) { // {family, first offset, last offset}
+        List<String> pairs = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                int[] a = entries.get(i);
+                int[] b = entries.get(j);
+                if (a[0] != b[0] || a[2] < b[1] || b[2] < a[1]) {
+                    continue;
+                }
+                if (a[1] == b[1] && a[2] == b[2]) {
+                    pairs.add(pair(OverlapDetector.Kind.DUPLICATE, i, j));
+                } else if (a[1] <= b[1] && b[2] <= a[2]) {
+                    pairs.add(pair(OverlapDetector.Kind.CONTAINS, i, j));
+                } else if (b[1] <= a[1] && a[2] <= b[2]) {
+                    pairs.add(pair(OverlapDetector.Kind.CONTAINS, j, i));
+                } else {
+                    pairs.add(a[1] < b[1] ? pair(OverlapDetector.Kind.OVERLAPS, i, j) : pair(OverlapDetector.Kind.OVERLAPS, j, i));
+                }
+            }
+        }
+        Collections.sort(pairs);
+        return pairs;
+    }
+
+    private static void check(long seed, int count) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(seed);
+        OverlapDetector detector = new OverlapDetector();
+        List<int[]> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            boolean ipv6 = random.nextBoolean();
+            int first;
+            int last;
+            if (i > 0 && random.nextInt(10) == 0) { // Repeat an earlier entry
+                int[] earlier = entries.get(random.nextInt(entries.size()));
+                ipv6 = earlier[0] == 1;
+                first = earlier[1];
+                last = earlier[2];
+            } else if (random.nextBoolean()) {
+                int prefix = CidrAggregatorTest.randomPrefix(ipv6, random);
+                int size = 1 << ((ipv6 ? 128 : 32) - prefix);
+                first = random.nextInt(CidrAggregatorTest.WINDOW / size) * size;
+                last = first + size - 1;
+            } else {
+                first = random.nextInt(CidrAggregatorTest.WINDOW);
+                last = first + random.nextInt(Math.min(CidrAggregatorTest.WINDOW - first, 300));
+            }
+            int id = ipv6
+                    ? detector.addIPv6(CidrAggregatorTest.high(true, first), CidrAggregatorTest.low(true, first),
+                            CidrAggregatorTest.high(true, last), CidrAggregatorTest.low(true, last))
+                    : detector.addIPv4((int) CidrAggregatorTest.low(false, first), (int) CidrAggregatorTest.low(false, last));
+            assertEquals(i, id);
+            entries.add(new int[] {ipv6 ? 1 : 0, first, last});
+        }
+        List<String> expected = expectedPairs(entries);
+
+        List<String> sequential = new ArrayList<>();
+        detector.detect((kind, first, second) -> sequential.add(pair(kind, first, second)));
+        Collections.sort(sequential);
+        assertEquals(expected, sequential, "seed " + seed);
+
+        List<String> parallel = Collections.synchronizedList(new ArrayList<>());
+        detector.detect((kind, first, second) -> parallel.add(pair(kind, first, second)), 3);
+        Collections.sort(parallel);
+        assertEquals(expected, parallel, "seed " + seed + ", parallel");
+    }
+
+    @Test
+    void matchesEveryPairClassified() throws InterruptedException {
+        for (int seed = 0; seed < 40; seed++) {
+            check(seed, 1 + seed * 10);
+        }
+    }
+
+    @Test
+    void parsesEachForm() {
+        OverlapDetector detector = new OverlapDetector();
+        String[] valid = {"10.0.0.0/8", "10.1.2.3", "10.0.0.5-10.0.0.9", "2001:db8::/32", "2001:db8::1-2001:db8::ff"};
+        for (int i = 0; i < valid.length; i++) {
+            assertEquals(i, detector.add(valid[i], 0, valid[i].length()), valid[i]);
+        }
+        for (String text : new String[] {"10.0.0.9-10.0.0.5", "10.0.0.0/33", "10.0.0.0/8-10.0.0.1", "2001:db8::/129", "x"}) {
+            assertEquals(-1, detector.add(text, 0, text.length()), text);
+        }
+        List<String> pairs = new ArrayList<>();
+        detector.detect((kind, first, second) -> pairs.add(pair(kind, first, second)));
+        Collections.sort(pairs);
+        assertEquals(List.of("CONTAINS 0 1", "CONTAINS 0 2", "CONTAINS 3 4"), pairs);
+    }
+}
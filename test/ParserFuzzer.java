@@ -0,0 +1,79 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * ParserFuzzer.java - This class is a coverage-guided fuzz target for the parser, in the form Jazzer expects (fuzzerTestOneInput(byte[])).
+ * The first byte picks the check (IPv4 address, IPv6 address, subnet mask or prefix length) and the second one the prefix length; the
+ * rest is the text, read as ISO-8859-1 so every byte is one character. Each input goes through the same differential checks as
+ * DifferentialCheck, and a disagreement with ReferenceCalculator or an unexpected exception is thrown as a finding.
+ * Run it with Jazzer after "mvn test-compile": jazzer --cp=target/classes:target/test-classes --target_class=ParserFuzzer
+ * Without Jazzer, main replays saved inputs (a corpus or a crash file) and DifferentialCheckTest feeds it random byte strings.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+public final class ParserFuzzer {
+    private static final byte[] ALPHABET = "0123456789abcdefABCDEF.:%/ x\u00e9".getBytes(StandardCharsets.ISO_8859_1);
+
+    private ParserFuzzer() {
+    }
+
+    public static void fuzzerTestOneInput(byte[] data) {
+        if (data.length < 2) {
+            return;
+        }
+        String text = new String(data, 2, data.length - 2, StandardCharsets.ISO_8859_1);
+        int prefix = data[1] & 0xFF;
+        String mismatch;
+        switch (data[0] & 3) {
+            case 0:
+                mismatch = DifferentialCheck.checkIPv4(text, prefix % 33);
+                break;
+            case 1:
+                mismatch = DifferentialCheck.checkIPv6(text, prefix % 129);
+                break;
+            case 2:
+                mismatch = DifferentialCheck.checkSubnetMask(text);
+                break;
+            default:
+                mismatch = DifferentialCheck.checkPrefixLength(text, prefix % 129);
+                break;
+        }
+        if (mismatch != null) {
+            throw new IllegalStateException("\"" + text + "\": " + mismatch);
+        }
+    }
+
+    // Blind random input, mostly short strings over the address alphabet
+    static byte[] randomInput(SplittableRandom random) {
+        byte[] data = new byte[2 + random.nextInt(48)];
+        data[0] = (byte) random.nextInt(4);
+        data[1] = (byte) random.nextInt(256);
+        for (int j = 2; j < data.length; j++) {
+            data[j] = random.nextInt(16) == 0 ? (byte) random.nextInt(256) : ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+        return data;
+    }
+
+    // Replays saved inputs, a corpus directory or a crash file
+    public static void main(String[] args) throws IOException {
+        for (String arg : args) {
+            Path path = Paths.get(arg);
+            try (Stream<Path> files = Files.isDirectory(path) ? Files.list(path) : Stream.of(path)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    fuzzerTestOneInput(Files.readAllBytes(file));
+                }
+            }
+        }
+        System.out.println("All inputs passed");
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * PrefixDatabaseTest.java - This class writes random prefixes to a database file, maps it back and checks every lookup
+ * against the linear scan in PrefixTableTest, for IPv4 and for IPv6 prefixes on both sides of the 64-bit boundary.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PrefixDatabaseTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void ipv4LookupMatchesLinearScan() throws IOException {
+        SplittableRandom random = new SplittableRandom(12);
+        List<long[]> prefixes = new ArrayList<>();
+        PrefixDatabase.Writer writer = PrefixDatabase.ipv4Writer();
+        for (int i = 0; i < 400; i++) {
+            long address = PrefixTableTest.ipv4Address(random);
+            int prefix = PrefixTableTest.ipv4Prefix(random);
+            int value = random.nextInt(50);
+            writer.add((int) (address >>> 32), prefix, value);
+            prefixes.add(new long[] {address & PrefixTableTest.maskHigh(prefix), 0L, prefix, value});
+        }
+        Path file = directory.resolve("ipv4.db");
+        writer.write(file);
+        PrefixDatabase database = PrefixDatabase.open(file);
+        int[] addresses = new int[20_000];
+        int[] values = new int[addresses.length];
+        for (int i = 0; i < addresses.length; i++) {
+            addresses[i] = (int) (PrefixTableTest.ipv4Address(random) >>> 32);
+        }
+        database.lookupAll(addresses, values, addresses.length);
+        for (int i = 0; i < addresses.length; i++) {
+            int expected = PrefixTableTest.longestMatch(prefixes, (long) addresses[i] << 32, 0L);
+            assertEquals(expected, database.lookup(addresses[i]), Integer.toHexString(addresses[i]));
+            assertEquals(expected, values[i]);
+        }
+    }
+
+    @Test
+    void ipv6LookupMatchesLinearScan() throws IOException {
+        SplittableRandom random = new SplittableRandom(13);
+        List<long[]> prefixes = new ArrayList<>();
+        PrefixDatabase.Writer writer = PrefixDatabase.ipv6Writer();
+        for (int i = 0; i < 400; i++) {
+            long[] address = PrefixTableTest.ipv6Address(random);
+            int prefix = PrefixTableTest.ipv6Prefix(random);
+            int value = random.nextInt(50);
+            writer.add(address[0], address[1], prefix, value);
+            prefixes.add(new long[] {address[0] & PrefixTableTest.maskHigh(prefix), address[1] & PrefixTableTest.maskLow(prefix), prefix, value});
+        }
+        Path file = directory.resolve("ipv6.db");
+        writer.write(file);
+        PrefixDatabase database = PrefixDatabase.open(file);
+        for (int i = 0; i < 20_000; i++) {
+            long[] address = PrefixTableTest.ipv6Address(random);
+            assertEquals(PrefixTableTest.longestMatch(prefixes, address[0], address[1]), database.lookup(address[0], address[1]),
+                    Long.toHexString(address[0]) + ":" + Long.toHexString(address[1]));
+        }
+    }
+
+    @Test
+    void noMatchIsNotAValue() {
+        PrefixDatabase.Writer writer = PrefixDatabase.ipv4Writer();
+        assertThrows(IllegalArgumentException.class, () -> writer.add(0x0A000000, 8, PrefixDatabase.NO_MATCH));
+        assertThrows(IllegalArgumentException.class, () -> writer.add("10.0.0.0/8", PrefixDatabase.NO_MATCH));
+        PrefixDatabase.Writer ipv6 = PrefixDatabase.ipv6Writer();
+        assertThrows(IllegalArgumentException.class, () -> ipv6.add(0x20010DB8L << 32, 0L, 32, PrefixDatabase.NO_MATCH));
+    }
+}
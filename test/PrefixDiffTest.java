@@ -0,0 +1,108 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * PrefixDiffTest.java - This class compares the deltas of random snapshots with the changed runs of two BitSets. Small chunk
+ * sizes force the inputs through spilled run files and through the merge that kicks in when there are too many runs.
+ * The IPv6 prefixes sit across the boundary between the two longs.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PrefixDiffTest {
+    @TempDir
+    Path tmp;
+
+    // Writes random prefixes of both families, one per line, and marks them in the BitSets
+    private static String snapshot(SplittableRandom random, int lines, BitSet ipv4, BitSet ipv6) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            boolean v6 = random.nextBoolean();
+            int prefix = CidrAggregatorTest.randomPrefix(v6, random);
+            int size = 1 << ((v6 ? 128 : 32) - prefix);
+            int offset = random.nextInt(CidrAggregatorTest.WINDOW / size) * size;
+            offset += random.nextInt(size); // Host bits are masked by the reader
+            if (v6) {
+                AddressFormat.appendIPv6(sb, CidrAggregatorTest.high(true, offset), CidrAggregatorTest.low(true, offset));
+            } else {
+                AddressFormat.appendDottedQuad(sb, (int) CidrAggregatorTest.low(false, offset));
+            }
+            sb.append('/').append(prefix).append('\n');
+            offset -= offset % size;
+            (v6 ? ipv6 : ipv4).set(offset, offset + size);
+        }
+        return sb.append("# comment\n\nnot-an-address\n").toString();
+    }
+
+    private static void expectedRuns(boolean ipv6, BitSet before, BitSet after, List<String> deltas) {
+        for (int offset = 0; offset < CidrAggregatorTest.WINDOW; ) {
+            boolean was = before.get(offset);
+            if (was == after.get(offset)) {
+                offset++;
+                continue;
+            }
+            int end = offset + 1;
+            while (end < CidrAggregatorTest.WINDOW && before.get(end) == was && after.get(end) != was) {
+                end++;
+            }
+            deltas.add(delta(!was, ipv6 ? 128 : 32, offset, end - 1));
+            offset = end;
+        }
+    }
+
+    private static String delta(boolean added, int width, int first, int last) {
+        return (added ? '+' : '-') + " /" + width + " " + first + "-" + last;
+    }
+
+    private void check(long seed, int chunk) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        BitSet beforeIPv4 = new BitSet();
+        BitSet beforeIPv6 = new BitSet();
+        BitSet afterIPv4 = new BitSet();
+        BitSet afterIPv6 = new BitSet();
+        String before = snapshot(random, random.nextInt(400), beforeIPv4, beforeIPv6);
+        String after = snapshot(random, random.nextInt(400), afterIPv4, afterIPv6);
+        List<String> expected = new ArrayList<>();
+        expectedRuns(false, beforeIPv4, afterIPv4, expected);
+        expectedRuns(true, beforeIPv6, afterIPv6, expected);
+
+        List<String> actual = new ArrayList<>();
+        PrefixDiff diff = new PrefixDiff(chunk, tmp);
+        diff.diff(new BufferedReader(new StringReader(before)), new BufferedReader(new StringReader(after)),
+                (added, width, firstHigh, firstLow, lastHigh, lastLow) -> actual.add(delta(added, width,
+                        CidrAggregatorTest.offset(width == 128, firstLow), CidrAggregatorTest.offset(width == 128, lastLow))));
+        assertEquals(expected, actual, "seed " + seed + ", chunk " + chunk);
+        assertEquals(2, diff.getInvalidLines());
+        try (Stream<Path> left = Files.list(tmp)) {
+            assertEquals(0, left.count(), "run files left behind");
+        }
+    }
+
+    @Test
+    void matchesBitSetsInMemory() throws IOException {
+        for (int seed = 0; seed < 30; seed++) {
+            check(seed, PrefixDiff.DEFAULT_CHUNK);
+        }
+    }
+
+    @Test
+    void matchesBitSetsWithSpills() throws IOException {
+        for (int seed = 0; seed < 30; seed++) {
+            check(seed, 2); // About 100 runs per family, past the limit that merges them early
+            check(seed, 7);
+        }
+    }
+}
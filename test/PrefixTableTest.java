@@ -0,0 +1,110 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * PrefixTableTest.java - This class checks PrefixTable lookups against a linear scan over the same prefixes. The prefixes
+ * are drawn from a narrow address range so they nest and overlap, and the IPv6 ones straddle the boundary between the two longs.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class PrefixTableTest {
+    // Brute force ---------------------------------------------------------------------------
+    static long maskHigh(int prefix) {
+        return prefix == 0 ? 0L : prefix >= 64 ? -1L : -1L << (64 - prefix);
+    }
+
+    static long maskLow(int prefix) {
+        return prefix <= 64 ? 0L : prefix == 128 ? -1L : -1L << (128 - prefix);
+    }
+
+    // Prefixes as {high, low, prefix, value}, a later value for the same prefix replaces the earlier one
+    static int longestMatch(List<long[]> prefixes, long high, long low) {
+        int best = -1;
+        long value = PrefixTable.NO_MATCH;
+        for (long[] p : prefixes) {
+            int prefix = (int) p[2];
+            boolean covers = ((high ^ p[0]) & maskHigh(prefix)) == 0 && ((low ^ p[1]) & maskLow(prefix)) == 0;
+            if (covers && prefix >= best) {
+                best = prefix;
+                value = p[3];
+            }
+        }
+        return (int) value;
+    }
+
+    static int ipv4Prefix(SplittableRandom random) {
+        return random.nextInt(4) == 0 ? random.nextInt(33) : 16 + random.nextInt(17);
+    }
+
+    static long ipv4Address(SplittableRandom random) { // Mostly inside 10.0.0.0/16, left-aligned like an IPv6 high half
+        long address = random.nextInt(8) == 0 ? random.nextInt() & 0xFFFFFFFFL : 0x0A000000L | random.nextInt(1 << 16);
+        return address << 32;
+    }
+
+    static long[] ipv6Address(SplittableRandom random) { // Around 2001:db8:0:ff:8000::, so prefixes of /56 to /72 cross the middle
+        return new long[] {0x20010DB8000000F0L | random.nextInt(32), (long) random.nextInt(64) << 58 | random.nextInt(4)};
+    }
+
+    static int ipv6Prefix(SplittableRandom random) {
+        return random.nextInt(4) == 0 ? random.nextInt(129) : 56 + random.nextInt(17);
+    }
+
+    // Tests -------------------------------------------------------------------------------
+    @Test
+    void ipv4LookupMatchesLinearScan() {
+        SplittableRandom random = new SplittableRandom(5);
+        List<long[]> prefixes = new ArrayList<>();
+        PrefixTable.Builder builder = PrefixTable.ipv4Builder();
+        for (int i = 0; i < 400; i++) {
+            long address = ipv4Address(random);
+            int prefix = ipv4Prefix(random);
+            int value = random.nextInt(50); // Few values, so replaced and repeated values occur
+            builder.add((int) (address >>> 32), prefix, value);
+            prefixes.add(new long[] {address & maskHigh(prefix), 0L, prefix, value});
+        }
+        PrefixTable table = builder.build();
+        for (int i = 0; i < 20_000; i++) {
+            long address = ipv4Address(random);
+            assertEquals(longestMatch(prefixes, address, 0L), table.lookup((int) (address >>> 32)), Long.toHexString(address));
+        }
+    }
+
+    @Test
+    void ipv6LookupMatchesLinearScan() {
+        SplittableRandom random = new SplittableRandom(6);
+        List<long[]> prefixes = new ArrayList<>();
+        PrefixTable.Builder builder = PrefixTable.ipv6Builder();
+        for (int i = 0; i < 400; i++) {
+            long[] address = ipv6Address(random);
+            int prefix = ipv6Prefix(random);
+            int value = random.nextInt(50);
+            builder.add(address[0], address[1], prefix, value);
+            prefixes.add(new long[] {address[0] & maskHigh(prefix), address[1] & maskLow(prefix), prefix, value});
+        }
+        PrefixTable table = builder.build();
+        for (int i = 0; i < 20_000; i++) {
+            long[] address = ipv6Address(random);
+            assertEquals(longestMatch(prefixes, address[0], address[1]), table.lookup(address[0], address[1]),
+                    Long.toHexString(address[0]) + ":" + Long.toHexString(address[1]));
+        }
+    }
+
+    @Test
+    void noMatchIsNotAValue() {
+        PrefixTable.Builder builder = PrefixTable.ipv4Builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.add(0x0A000000, 8, PrefixTable.NO_MATCH));
+        assertThrows(IllegalArgumentException.class, () -> builder.add("10.0.0.0/8", PrefixTable.NO_MATCH));
+        builder.add(0x0A000000, 8, 5).add(0x0A000000, 8, 6);
+        PrefixTable table = builder.build();
+        assertEquals(1, table.size());
+        assertEquals(6, table.lookup("10.1.2.3"));
+        assertEquals(PrefixTable.NO_MATCH, table.lookup("11.0.0.0"));
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * ReferenceCalculator.java - This class is the slow reference the differential checks compare the calculator against.
+ * Addresses go through java.net.InetAddress and every calculation is done with BigInteger or plain long arithmetic and
+ * String.format, the way the calculator worked before it had its own parser and formatter. InetAddress is more lenient
+ * than the calculator in a few documented places (short IPv4 forms like 127.1, leading zeros, non-ASCII digits), so the
+ * stricter rules are checked here first. Only strings that are certainly literals reach InetAddress, so there is never a DNS lookup.
+ * -
+ * Additional Sources that were used to assist in the development of this code:
+ * Schildt, H., & Coward, D. (2024). Java: The complete reference, thirteenth edition (complete reference series) (13th ed.). McGraw Hill.
+ * Ullenboom, C. (2022). Java: The comprehensive guide to java programming for professionals (First ed.). Rheinwerk Computing.
+ */
+
+import java.math.BigInteger;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+final class ReferenceCalculator {
+    private static final BigInteger IPV6_ALL = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
+    private ReferenceCalculator() {
+    }
+
+    // Parsing -------------------------------------------------------------------------------
+    // The packed address, or -1 if the text is not a strict dotted quad: four octets of one to three ASCII digits,
+    // no leading zeros, each at most 255. Anything InetAddress cannot read as a literal would become a DNS lookup.
+    static long parseIPv4(String text) {
+        String[] octets = text.split("\\.", -1);
+        if (octets.length != 4) {
+            return -1;
+        }
+        for (String octet : octets) {
+            if (octet.isEmpty() || octet.length() > 3 || (octet.length() > 1 && octet.charAt(0) == '0')) {
+                return -1;
+            }
+            for (int i = 0; i < octet.length(); i++) {
+                if (octet.charAt(i) < '0' || octet.charAt(i) > '9') {
+                    return -1;
+                }
+            }
+            if (Integer.parseInt(octet) > 255) {
+                return -1;
+            }
+        }
+        byte[] bytes = resolve(text);
+        if (bytes == null || bytes.length != 4) {
+            return -1;
+        }
+        return new BigInteger(1, bytes).longValue();
+    }
+
+    // The 16 address bytes, or null if the text is not a valid IPv6 literal. A zone ID after '%' has to be
+    // non-empty and is otherwise ignored, InetAddress would try to look an interface name up.
+    static byte[] parseIPv6(String text) {
+        int percent = text.indexOf('%');
+        if (percent >= 0) {
+            if (percent == text.length() - 1) {
+                return null;
+            }
+            text = text.substring(0, percent);
+        }
+        if (text.indexOf(':') < 0) {
+            return null; // Without a colon InetAddress would treat it as an IPv4 literal or a host name
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            boolean hex = (ch >= '0' && ch <= '9') || (ch >= 'a' && ch <= 'f') || (ch >= 'A' && ch <= 'F');
+            if (!hex && ch != ':' && ch != '.') {
+                return null; // Rules out brackets and non-ASCII digits, which InetAddress accepts
+            }
+        }
+        for (String group : text.split(":", -1)) {
+            if (group.length() > 4 && group.indexOf('.') < 0) {
+                return null; // RFC 4291 allows one to four digits, InetAddress only checks the value
+            }
+        }
+        int dot = text.indexOf('.');
+        if (dot >= 0 && parseIPv4(text.substring(text.lastIndexOf(':') + 1)) < 0) {
+            return null; // The embedded IPv4 address has to be a strict dotted quad as well
+        }
+        byte[] bytes = resolve(text);
+        if (bytes != null && bytes.length == 4) { // ::ffff:a.b.c.d comes back as an Inet4Address
+            byte[] mapped = new byte[16];
+            mapped[10] = (byte) 0xFF;
+            mapped[11] = (byte) 0xFF;
+            System.arraycopy(bytes, 0, mapped, 12, 4);
+            return mapped;
+        }
+        return bytes;
+    }
+
+    private static byte[] resolve(String literal) {
+        try {
+            return InetAddress.getByName(literal).getAddress();
+        } catch (UnknownHostException ex) {
+            return null;
+        }
+    }
+
+    // Prefix length of a dotted-quad subnet mask, -1 if it is not an address or its one bits are not contiguous
+    static int prefixLength(String mask) {
+        long bits = parseIPv4(mask);
+        if (bits < 0) {
+            return -1;
+        }
+        String binary = String.format("%32s", Long.toBinaryString(bits)).replace(' ', '0');
+        int ones = binary.indexOf('0') < 0 ? 32 : binary.indexOf('0');
+        return binary.substring(ones).indexOf('1') < 0 ? ones : -1;
+    }
+
+    // IPv4 ----------------------------------------------------------------------------------
+    static String dottedQuad(long address) {
+        try {
+            byte[] bytes = BigInteger.valueOf(address).add(BigInteger.ONE.shiftLeft(32)).toByteArray(); // Leading 1 byte keeps the length at 5
+            return InetAddress.getByAddress(new byte[] {bytes[1], bytes[2], bytes[3], bytes[4]}).getHostAddress();
+        } catch (UnknownHostException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static long mask(int prefix) {
+        return ((1L << prefix) - 1) << (32 - prefix);
+    }
+
+    // The report OutputFormatter prints for a valid IPv4 address, built field by field from the definitions:
+    // the block runs from the network address to the broadcast address and every address in it counts as a host.
+    // The usable hosts are the block without its network and broadcast addresses (RFC 950), except that a /31
+    // point-to-point link uses both of its addresses (RFC 3021) and a /32 is the one host itself. The usable count
+    // is the size of that range, so the report can never print a range and a count that disagree.
+    static String ipv4Report(String text, int prefix) {
+        long address = parseIPv4(text);
+        long network = address & mask(prefix);
+        long broadcast = network | (~mask(prefix) & 0xFFFFFFFFL);
+        long totalHosts = broadcast - network + 1;
+        boolean pointToPoint = totalHosts <= 2; // Too small to give up two addresses for network and broadcast
+        long firstHost = pointToPoint ? network : network + 1;
+        long lastHost = pointToPoint ? broadcast : broadcast - 1;
+        int firstOctet = (int) (address >> 24);
+        String ipClass = firstOctet < 128 ? "A" : firstOctet < 192 ? "B" : firstOctet < 224 ? "C" : firstOctet < 240 ? "D" : "E";
+        boolean isPrivate = firstOctet == 10 || (firstOctet == 172 && ((address >> 16) & 0xFF) >= 16 && ((address >> 16) & 0xFF) <= 31)
+                || (firstOctet == 192 && ((address >> 16) & 0xFF) == 168);
+        StringBuilder binary = new StringBuilder();
+        String bits = String.format("%32s", Long.toBinaryString(mask(prefix))).replace(' ', '0');
+        for (int i = 0; i < 32; i += 8) {
+            binary.append(i > 0 ? "." : "").append(bits, i, i + 8);
+        }
+        return String.join("\n",
+                "IP Address: " + text,
+                "Network Address: " + dottedQuad(network),
+                "Usable Host IP Range: " + dottedQuad(firstHost) + " - " + dottedQuad(lastHost),
+                "Total Number of Hosts: " + totalHosts,
+                "Number of Usable Hosts: " + (lastHost - firstHost + 1),
+                "Subnet Mask: " + dottedQuad(mask(prefix)),
+                "Wildcard Mask: " + dottedQuad(~mask(prefix) & 0xFFFFFFFFL),
+                "Binary Subnet Mask: " + binary,
+                "IP Class: " + ipClass,
+                "CIDR Notation: /" + prefix,
+                "IP Type: " + (isPrivate ? "Private" : "Public"),
+                "Broadcast Address: " + dottedQuad(broadcast));
+    }
+
+    // IPv6 ----------------------------------------------------------------------------------
+    static String fullIPv6(BigInteger address) { // All eight groups without leading zeros, as Inet6Address prints them
+        byte[] bytes = address.or(BigInteger.ONE.shiftLeft(128)).toByteArray();
+        byte[] sixteen = new byte[16];
+        System.arraycopy(bytes, 1, sixteen, 0, 16);
+        try {
+            return Inet6Address.getByAddress(null, sixteen, -1).getHostAddress();
+        } catch (UnknownHostException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // The report OutputFormatter prints for a valid IPv6 address
+    static String ipv6Report(String text, int prefix) {
+        BigInteger address = new BigInteger(1, parseIPv6(text));
+        BigInteger hostBits = BigInteger.ONE.shiftLeft(128 - prefix).subtract(BigInteger.ONE);
+        BigInteger network = address.and(IPV6_ALL.xor(hostBits));
+        return String.join("\n",
+                "IP Address: " + text,
+                "Full IP Address: " + fullIPv6(address),
+                "Total IP Addresses: " + BigInteger.ONE.shiftLeft(128 - prefix),
+                "Network: " + fullIPv6(network),
+                "IP Range: " + fullIPv6(network) + " - " + fullIPv6(network.or(hostBits)));
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * NetIP contributors,
+ * October 18, 2026,
+ * SubnetAllocatorTest.java - This class runs random allocate, reserve and free calls against a BitSet of used addresses. After every
+ * call the free blocks have to be exactly the largest aligned blocks of the unused addresses, so buddies are always merged.
+ * The IPv4 pool is a /20, the IPv6 pools are /117s on either side of the boundary between the two longs.
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class SubnetAllocatorTest {
+    // A subnet as {window offset, prefix}
+    private static boolean isFree(BitSet used, int offset, int size) {
+        int next = used.nextSetBit(offset);
+        return next < 0 || next >= offset + size;
+    }
+
+    private static boolean anyFreeBlock(BitSet used, int start, int end, int size) {
+        for (int offset = start; offset < end; offset += size) {
+            if (isFree(used, offset, size)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void run(boolean ipv6, int start, int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int width = ipv6 ? 128 : 32;
+        int poolPrefix = width - Integer.numberOfTrailingZeros(size);
+        SubnetAllocator allocator = ipv6
+                ? SubnetAllocator.ipv6(new IPv6Network(CidrAggregatorTest.high(true, start), CidrAggregatorTest.low(true, start), poolPrefix))
+                : SubnetAllocator.ipv4(new IPv4Network((int) CidrAggregatorTest.low(false, start), poolPrefix));
+        BitSet used = new BitSet();
+        List<int[]> handedOut = new ArrayList<>();
+        for (int step = 0; step < 3000; step++) {
+            int action = random.nextInt(10);
+            int prefix = width - random.nextInt(Integer.numberOfTrailingZeros(size) + 1);
+            int blockSize = 1 << (width - prefix);
+            if (action < 5) {
+                int[] subnet = ipv6 ? offsetOf(allocator.allocateIPv6(prefix)) : offsetOf(allocator.allocateIPv4(prefix));
+                assertEquals(anyFreeBlock(used, start, start + size, blockSize), subnet != null, "allocate /" + prefix);
+                if (subnet != null) {
+                    assertEquals(0, (subnet[0] - start) % blockSize);
+                    assertTrue(subnet[0] >= start && subnet[0] + blockSize <= start + size);
+                    assertTrue(isFree(used, subnet[0], blockSize));
+                    used.set(subnet[0], subnet[0] + blockSize);
+                    handedOut.add(subnet);
+                }
+            } else if (action < 7) {
+                int offset = start + random.nextInt(size / blockSize) * blockSize;
+                boolean expected = isFree(used, offset, blockSize);
+                boolean reserved = ipv6
+                        ? allocator.reserve(new IPv6Network(CidrAggregatorTest.high(true, offset), CidrAggregatorTest.low(true, offset), prefix))
+                        : allocator.reserve(new IPv4Network((int) CidrAggregatorTest.low(false, offset), prefix));
+                assertEquals(expected, reserved, "reserve " + offset + "/" + prefix);
+                if (reserved) {
+                    used.set(offset, offset + blockSize);
+                    handedOut.add(new int[] {offset, prefix});
+                }
+            } else if (!handedOut.isEmpty()) {
+                int[] subnet = handedOut.remove(random.nextInt(handedOut.size()));
+                if (ipv6) {
+                    allocator.free(new IPv6Network(CidrAggregatorTest.high(true, subnet[0]), CidrAggregatorTest.low(true, subnet[0]), subnet[1]));
+                } else {
+                    allocator.free(new IPv4Network((int) CidrAggregatorTest.low(false, subnet[0]), subnet[1]));
+                }
+                used.clear(subnet[0], subnet[0] + (1 << (width - subnet[1])));
+            }
+            BitSet unused = new BitSet();
+            unused.set(start, start + size);
+            unused.andNot(used);
+            List<int[]> blocks = new ArrayList<>();
+            if (ipv6) {
+                allocator.forEachFree((high, low, p) -> blocks.add(new int[] {CidrAggregatorTest.offset(true, low), p}));
+            } else {
+                allocator.forEachFree((address, p) -> blocks.add(new int[] {CidrAggregatorTest.offset(false, address & 0xFFFFFFFFL), p}));
+            }
+            assertEquals(describe(CidrAggregatorTest.expectedBlocks(ipv6, unused)), describe(blocks), "step " + step);
+            assertEquals(BigInteger.valueOf(unused.cardinality()), allocator.freeAddressCount());
+        }
+    }
+
+    private static int[] offsetOf(IPv4Network network) {
+        return network == null ? null : new int[] {CidrAggregatorTest.offset(false, network.getNetworkAddress() & 0xFFFFFFFFL), network.getPrefix()};
+    }
+
+    private static int[] offsetOf(IPv6Network network) {
+        return network == null ? null : new int[] {CidrAggregatorTest.offset(true, network.getNetworkLow()), network.getPrefix()};
+    }
+
+    private static String describe(List<int[]> blocks) {
+        StringBuilder sb = new StringBuilder();
+        for (int[] block : blocks) {
+            sb.append(block[0]).append('/').append(block[1]).append(' ');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void ipv4MatchesBitSet() {
+        run(false, 0, CidrAggregatorTest.WINDOW, 19);
+    }
+
+    @Test
+    void ipv6MatchesBitSetOnBothSidesOfTheBoundary() {
+        run(true, 0, CidrAggregatorTest.WINDOW / 2, 20);
+        run(true, CidrAggregatorTest.WINDOW / 2, CidrAggregatorTest.WINDOW / 2, 21);
+    }
+
+    @Test
+    void planPlacesEveryRequestThatFits() {
+        SplittableRandom random = new SplittableRandom(22);
+        IPv4Network pool = new IPv4Network(0x0A000000, 20);
+        for (int round = 0; round < 200; round++) {
+            long[] hosts = new long[1 + random.nextInt(20)];
+            long needed = 0;
+            for (int i = 0; i < hosts.length; i++) {
+                hosts[i] = 1 + random.nextInt(random.nextBoolean() ? 8 : 600);
+                needed += 1L << (32 - SubnetAllocator.ipv4PrefixFor(hosts[i]));
+            }
+            IPv4Network[] plan = SubnetAllocator.planIPv4(pool, hosts);
+            BitSet used = new BitSet();
+            for (int i = 0; i < hosts.length; i++) {
+                if (needed <= CidrAggregatorTest.WINDOW) {
+                    assertNotNull(plan[i], "request " + i);
+                }
+                if (plan[i] != null) {
+                    assertTrue(plan[i].getUsableHosts() >= hosts[i]);
+                    int offset = offsetOf(plan[i])[0];
+                    int blockSize = (int) plan[i].getTotalAddresses();
+                    assertTrue(offset >= 0 && offset + blockSize <= CidrAggregatorTest.WINDOW);
+                    assertTrue(isFree(used, offset, blockSize), "overlapping subnets");
+                    used.set(offset, offset + blockSize);
+                }
+            }
+        }
+    }
+}